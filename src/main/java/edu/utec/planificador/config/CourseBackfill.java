@@ -0,0 +1,58 @@
+package edu.utec.planificador.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Completa las columnas desnormalizadas de {@code course} para los cursos creados antes de que existieran:
+ * <ul>
+ *   <li>{@code last_modified_at}, a partir de la última fila de {@code modification}</li>
+ *   <li>{@code academic_period}, a partir de {@code start_date} (misma regla que {@code Course.getPeriod()})</li>
+ * </ul>
+ * Las columnas las agrega {@link SchemaMigration} antes de que arranque JPA. Solo toca filas con la columna
+ * vacía, así que después de la primera ejecución no modifica nada.
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class CourseBackfill implements CommandLineRunner {
+
+    private static final String BACKFILL_LAST_MODIFIED = """
+        UPDATE course SET last_modified_at = (
+            SELECT MAX(m.modification_date) FROM modification m WHERE m.course_id = course.id
+        )
+        WHERE last_modified_at IS NULL
+        AND EXISTS (SELECT 1 FROM modification m WHERE m.course_id = course.id)
+        """;
+
+    private static final String BACKFILL_ACADEMIC_PERIOD = """
+        UPDATE course SET academic_period = EXTRACT(YEAR FROM start_date) * 10
+            + CASE WHEN EXTRACT(MONTH FROM start_date) <= 7 THEN 1 ELSE 2 END
+        WHERE academic_period IS NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        backfill(BACKFILL_LAST_MODIFIED, "last modification date");
+        backfill(BACKFILL_ACADEMIC_PERIOD, "academic period");
+    }
+
+    private void backfill(String statement, String column) {
+        try {
+            int updated = jdbcTemplate.update(statement);
+
+            if (updated > 0) {
+                log.info("Backfilled {} for {} courses", column, updated);
+            }
+        } catch (Exception e) {
+            log.error("Error backfilling course {}: {}", column, e.getMessage(), e);
+        }
+    }
+}
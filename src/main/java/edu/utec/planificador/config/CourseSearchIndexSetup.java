@@ -0,0 +1,64 @@
+package edu.utec.planificador.config;
+
+import edu.utec.planificador.service.impl.PostgresCurricularUnitSearch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Crea en PostgreSQL lo que necesita la búsqueda de cursos y que {@code ddl-auto} no genera:
+ * las extensiones pg_trgm y unaccent, la función inmutable {@code search_normalize} (minúsculas y
+ * sin tildes, equivalente a {@code SearchTextUtils.normalize}) y los índices GIN de trigramas sobre
+ * los nombres de unidades curriculares y programas. Todas las sentencias son idempotentes.
+ * <p>
+ * Solo con {@code course.search.engine=postgres}. Crear las extensiones requiere que el rol de la base
+ * pueda hacerlo (dueño de la base con PostgreSQL 13+, o superusuario); si no se pueden crear se registra
+ * un warning y la búsqueda sigue en memoria.
+ */
+@Slf4j
+@Component
+@Order(4)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "course.search.engine", havingValue = "postgres")
+public class CourseSearchIndexSetup implements CommandLineRunner {
+
+    private static final List<String> STATEMENTS = List.of(
+        "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+        "CREATE EXTENSION IF NOT EXISTS unaccent",
+        // unaccent() no es IMMUTABLE; con el diccionario explícito se puede envolver para indexarla
+        """
+        CREATE OR REPLACE FUNCTION search_normalize(text) RETURNS text
+        LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+        AS $$ SELECT lower(public.unaccent('public.unaccent'::regdictionary, $1)) $$
+        """,
+        """
+        CREATE INDEX IF NOT EXISTS idx_curricular_unit_name_trgm
+        ON curricular_unit USING gin (search_normalize(name) gin_trgm_ops)
+        """,
+        """
+        CREATE INDEX IF NOT EXISTS idx_program_name_trgm
+        ON program USING gin (search_normalize(name) gin_trgm_ops)
+        """
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostgresCurricularUnitSearch curricularUnitSearch;
+
+    @Override
+    public void run(String... args) {
+        try {
+            STATEMENTS.forEach(jdbcTemplate::execute);
+            curricularUnitSearch.markIndexesReady();
+            log.info("Course search indexes ready");
+        } catch (Exception e) {
+            log.warn("Could not create the course search indexes (pg_trgm and unaccent are required), "
+                + "falling back to the in-memory search: {}", e.getMessage());
+        }
+    }
+}
@@ -481,6 +481,7 @@ public class DataSeeder implements CommandLineRunner {
         modification6.setModificationDate(LocalDateTime.of(2024, 3, 22, 15, 20));
         coursePrincipiosProg.getModifications().add(modification6);
         log.info("✓ Created Modification: {} - {}", modification6.getType().getDisplayValue(), modification6.getDescription());
+        coursePrincipiosProg.setLastModifiedAt(modification6.getModificationDate());
 
         coursePrincipiosProg = courseRepository.save(coursePrincipiosProg);
         log.info("✓ Saved {} Office Hours and {} Modifications for course {}", 
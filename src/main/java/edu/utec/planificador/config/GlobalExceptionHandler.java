@@ -10,6 +10,7 @@ import edu.utec.planificador.exception.ForbiddenException;
 import edu.utec.planificador.exception.InvalidCredentialsException;
 import edu.utec.planificador.exception.InvalidTokenException;
 import edu.utec.planificador.exception.ResourceNotFoundException;
+import edu.utec.planificador.exception.ServiceUnavailableException;
 import edu.utec.planificador.exception.UnauthorizedException;
 import edu.utec.planificador.exception.ValidationException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +18,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -267,6 +269,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+        ServiceUnavailableException ex,
+        HttpServletRequest request
+    ) {
+        
+        log.warn("Service unavailable: {} (retry after {} s)", ex.getMessage(), ex.getRetryAfterSeconds());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            ex.getErrorCode(),
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUsernameNotFoundException(
         UsernameNotFoundException ex,
@@ -0,0 +1,118 @@
+package edu.utec.planificador.config;
+
+import edu.utec.planificador.util.Constants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Migra en PostgreSQL las tablas creadas con IDs {@code IDENTITY} a las secuencias {@code <tabla>_seq}
+ * con {@code INCREMENT BY} {@link Constants#ID_ALLOCATION_SIZE} que usan las entidades (optimizador
+ * pooled, que permite agrupar los INSERT en batches JDBC). Por cada tabla existente:
+ * <ul>
+ *   <li>crea la secuencia si no existe</li>
+ *   <li>quita el {@code IDENTITY} de la columna {@code id}, para que ningún INSERT tome IDs por fuera de la secuencia</li>
+ *   <li>si la secuencia está por debajo del ID máximo, la lleva a ese valor (el próximo bloque empieza en MAX(id) + 1)</li>
+ * </ul>
+ * Se ejecuta antes de crear el EntityManagerFactory, así {@code ddl-auto: validate} encuentra las secuencias
+ * y {@code ddl-auto: update} no las crea empezando en 1. Todas las sentencias son idempotentes; en otras
+ * bases (H2 en los tests) no hace nada y las secuencias las genera Hibernate.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceMigration implements InitializingBean {
+
+    static final List<String> TABLES = List.of(
+        "regional_technological_institute",
+        "campus",
+        "program",
+        "term",
+        "curricular_unit",
+        "users",
+        "position",
+        "course",
+        "weekly_planning",
+        "programmatic_content",
+        "activity",
+        "modification",
+        "office_hours"
+    );
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isPostgreSql()) {
+            log.debug("ID sequence migration skipped: not a PostgreSQL database");
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        for (String table : TABLES) {
+            try {
+                migrate(jdbcTemplate, table);
+            } catch (Exception e) {
+                log.error("Error migrating IDs of table {} to sequence {}_seq: {}", table, table, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void migrate(JdbcTemplate jdbcTemplate, String table) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+
+        if (!Boolean.TRUE.equals(exists)) {
+            // Base nueva: la tabla y su secuencia las crea Hibernate
+            return;
+        }
+
+        String sequence = table + "_seq";
+
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence
+            + " START WITH 1 INCREMENT BY " + Constants.ID_ALLOCATION_SIZE);
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+
+        // Con pooled, el valor v de la secuencia reserva los IDs (v - incremento, v].
+        // Una secuencia sin usar (is_called = false) todavía no entregó last_value, así que cuenta como 0
+        List<Long> adjustedTo = jdbcTemplate.queryForList("""
+            SELECT setval('%1$s', m.max_id, true)
+            FROM (SELECT MAX(id) AS max_id FROM %2$s) m, %1$s s
+            WHERE m.max_id > CASE WHEN s.is_called THEN s.last_value ELSE 0 END
+            """.formatted(sequence, table), Long.class);
+
+        if (!adjustedTo.isEmpty()) {
+            log.info("Sequence {} moved to {} (max id of {})", sequence, adjustedTo.get(0), table);
+        }
+    }
+
+    private boolean isPostgreSql() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect the database for the ID sequence migration: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Hace que el EntityManagerFactory dependa de la migración.
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnIdSequenceMigration extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnIdSequenceMigration() {
+            super(IdSequenceMigration.class);
+        }
+    }
+}
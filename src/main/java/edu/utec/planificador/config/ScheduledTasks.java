@@ -1,5 +1,6 @@
 package edu.utec.planificador.config;
 
+import edu.utec.planificador.security.LastLoginTracker;
 import edu.utec.planificador.security.LoginAttemptService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,19 +17,12 @@ import org.springframework.stereotype.Component;
 public class ScheduledTasks {
 
     private final LoginAttemptService loginAttemptService;
+    private final LastLoginTracker lastLoginTracker;
 
     /**
-     * Cleans up expired login attempt entries from memory cache.
-     * Runs every hour to prevent memory leaks and maintain optimal performance.
-     * 
-     * This task removes entries where:
-     * - The lockout period (15 minutes) has expired
-     * - No subsequent login attempts have been made
-     * 
-     * Without this cleanup, entries would accumulate indefinitely, causing:
-     * - Gradual memory growth
-     * - Slower lookup performance
-     * - Potential OutOfMemoryError in high-traffic scenarios
+     * Reclaims expired login attempt entries.
+     * Entries are already reclaimed incrementally on every login check; this task only
+     * covers the idle periods in which there are no login attempts at all.
      */
     @Scheduled(fixedRate = 3600000) // Every 1 hour (3,600,000 milliseconds)
     public void cleanupExpiredLoginAttempts() {
@@ -41,4 +35,17 @@ public class ScheduledTasks {
             log.error("Error during login attempts cleanup", e);
         }
     }
+
+    /**
+     * Writes the buffered last login timestamps in a single batch.
+     * Pending timestamps are kept and retried on the next run if the batch fails.
+     */
+    @Scheduled(fixedDelayString = "${security.last-login.flush-interval-ms:5000}")
+    public void flushLastLoginTimestamps() {
+        try {
+            lastLoginTracker.flush();
+        } catch (Exception e) {
+            log.error("Error flushing last login timestamps ({} pending)", lastLoginTracker.pendingCount(), e);
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package edu.utec.planificador.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Aplica en PostgreSQL los cambios de esquema que {@code ddl-auto: validate} (perfil prod) exige pero no
+ * crea, para que una base existente arranque sin pasos manuales. Se ejecuta antes de crear el
+ * EntityManagerFactory; todas las sentencias son idempotentes y las que alteran tablas o les agregan
+ * índices no hacen nada si la tabla todavía no existe (base nueva: la crea Hibernate). En otras bases
+ * (H2 en los tests) no hace nada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigration implements InitializingBean {
+
+    static final List<String> STATEMENTS = List.of(
+        // Versión de seguridad del usuario, comparada con la del JWT en modo stateless
+        "ALTER TABLE IF EXISTS users ADD COLUMN IF NOT EXISTS security_version BIGINT NOT NULL DEFAULT 0",
+        // Fecha de la última modificación del curso (la completa CourseBackfill) y orden keyset de los listados
+        "ALTER TABLE IF EXISTS course ADD COLUMN IF NOT EXISTS last_modified_at TIMESTAMP(6)",
+        createIndexIfTableExists("course", "idx_course_last_modified_at", "last_modified_at"),
+        createIndexIfTableExists("course", "idx_course_start_date_id", "start_date, id"),
+        // Clave del período académico del curso (la completa CourseBackfill), usada por los filtros por período
+        "ALTER TABLE IF EXISTS course ADD COLUMN IF NOT EXISTS academic_period INTEGER",
+        createIndexIfTableExists("course", "idx_course_academic_period", "academic_period"),
+        // Intentos de login fallidos compartidos (security.login-throttle.store=jdbc); mapeada por LoginThrottleEntry
+        """
+        CREATE TABLE IF NOT EXISTS login_throttle (
+            throttle_key VARCHAR(400) NOT NULL PRIMARY KEY,
+            attempts INTEGER NOT NULL,
+            last_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+            expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+        )""",
+        "CREATE INDEX IF NOT EXISTS idx_login_throttle_expires_at ON login_throttle (expires_at)"
+    );
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isPostgreSql()) {
+            log.debug("Schema migration skipped: not a PostgreSQL database");
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (Exception e) {
+                log.error("Error applying schema migration [{}]: {}", statement, e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean isPostgreSql() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect the database for the schema migration: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * {@code CREATE INDEX} no admite {@code IF EXISTS} para la tabla: en una base nueva el índice lo crea Hibernate.
+     */
+    private static String createIndexIfTableExists(String table, String index, String columns) {
+        return """
+            DO $$ BEGIN
+                IF to_regclass('%1$s') IS NOT NULL THEN
+                    CREATE INDEX IF NOT EXISTS %2$s ON %1$s (%3$s);
+                END IF;
+            END $$""".formatted(table, index, columns);
+    }
+
+    /**
+     * Hace que el EntityManagerFactory dependa de la migración.
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnSchemaMigration extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnSchemaMigration() {
+            super(SchemaMigration.class);
+        }
+    }
+}
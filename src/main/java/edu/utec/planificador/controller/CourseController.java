@@ -1,14 +1,20 @@
 package edu.utec.planificador.controller;
 
 import edu.utec.planificador.dto.aiagent.AIReportRequest.CourseStatisticsDto;
+import edu.utec.planificador.dto.request.CourseBulkRequest;
 import edu.utec.planificador.dto.request.CourseRequest;
 import edu.utec.planificador.dto.response.CourseBasicResponse;
 import edu.utec.planificador.dto.response.CourseBriefResponse;
+import edu.utec.planificador.dto.response.CourseBulkResponse;
 import edu.utec.planificador.dto.response.CoursePdfDataResponse;
 import edu.utec.planificador.dto.response.CourseResponse;
+import edu.utec.planificador.dto.response.CursorPageResponse;
 import edu.utec.planificador.dto.response.PeriodResponse;
+import edu.utec.planificador.enumeration.CourseExportFormat;
+import edu.utec.planificador.enumeration.CourseSortField;
 import edu.utec.planificador.enumeration.SustainableDevelopmentGoal;
 import edu.utec.planificador.enumeration.UniversalDesignLearningPrinciple;
+import edu.utec.planificador.service.CourseExportService;
 import edu.utec.planificador.service.CourseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,14 +25,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -38,8 +49,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -48,7 +66,13 @@ import java.util.List;
 @Tag(name = "Courses", description = "Endpoints for course management")
 public class CourseController {
 
+    private static final String EXPORT_TIMEOUT_INTERCEPTOR = CourseController.class.getName() + ".exportTimeout";
+
     private final CourseService courseService;
+    private final CourseExportService courseExportService;
+
+    @Value("${course.export.timeout-seconds:600}")
+    private long exportTimeoutSeconds;
 
     @PostMapping
     @PreAuthorize("hasAuthority('COURSE_WRITE')")
@@ -84,6 +108,38 @@ public class CourseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('COURSE_WRITE')")
+    @Operation(
+        summary = "Create courses in bulk",
+        description = "Creates many courses (e.g. a semester rollout) in one request. All courses are validated before " +
+                      "inserting; the report has the result of each course in request order. With atomic=true no " +
+                      "course is created unless all of them are valid; otherwise valid courses are created in chunks " +
+                      "of course.bulk.chunk-size, one transaction per chunk"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Bulk creation processed, see the result of each course",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CourseBulkResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty course list or more courses than course.bulk.max-items",
+            content = @Content
+        )
+    })
+    public ResponseEntity<CourseBulkResponse> createCourses(@Valid @RequestBody CourseBulkRequest request) {
+        log.info("POST /courses/bulk - Creating {} courses (atomic: {})", request.getCourses().size(), request.getAtomic());
+
+        CourseBulkResponse response = courseService.createCourses(request);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(
         summary = "Get courses with optional filters and pagination",
@@ -91,7 +147,9 @@ public class CourseController {
                       "If no filters are specified, returns all courses. " +
                       "Period format: 'YYYY-1S' or 'YYYY-2S' (e.g., '2024-1S' for first semester of 2024). " +
                       "This endpoint is publicly accessible - no authentication required. " +
-                      "Results are sorted by startDate in descending order (most recent first)."
+                      "Results are sorted by startDate in descending order (most recent first), or by last modification " +
+                      "(recently edited first, never-modified courses last) with sortBy=LAST_MODIFIED_AT. " +
+                      "With searchText, courses are ordered by search relevance first and then by that sort."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -115,17 +173,23 @@ public class CourseController {
         @RequestParam(required = false) Long campusId,
         @Parameter(description = "Period to filter courses (format: YYYY-1S or YYYY-2S)", example = "2024-1S")
         @RequestParam(required = false) String period,
-        @Parameter(description = "Text to search in curricular unit name or program name", example = "Programación")
+        @Parameter(description = "Text to search in curricular unit name or program name (accent and case insensitive, tolerates typos)", example = "Programación")
         @RequestParam(required = false) String searchText,
         @Parameter(description = "Page number (0-indexed)", example = "0")
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "Page size (number of items per page)", example = "10")
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Sort order: START_DATE (default) or LAST_MODIFIED_AT", example = "START_DATE")
+        @RequestParam(defaultValue = "START_DATE") CourseSortField sortBy
     ) {
-        log.info("GET /courses - userId: {}, campusId: {}, period: {}, searchText: {}, page: {}, size: {}", 
-                 userId, campusId, period, searchText, page, size);
-        
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startDate"));
+        log.info("GET /courses - userId: {}, campusId: {}, period: {}, searchText: {}, page: {}, size: {}, sortBy: {}", 
+                 userId, campusId, period, searchText, page, size, sortBy);
+        
+        Sort sort = switch (sortBy) {
+            case START_DATE -> Sort.by(Sort.Direction.DESC, "startDate");
+            case LAST_MODIFIED_AT -> Sort.by(Sort.Order.desc("lastModifiedAt").nullsLast(), Sort.Order.desc("startDate"));
+        };
+        Pageable pageable = PageRequest.of(page, size, sort);
         Page<CourseBasicResponse> response = courseService.getCourses(userId, campusId, period, searchText, pageable);
         
         log.info("Returning {} courses (page {} of {}, total: {})", 
@@ -138,6 +202,121 @@ public class CourseController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(
+        summary = "Get courses with optional filters and cursor pagination",
+        description = "Same filters and sort as GET /courses, using keyset (cursor) pagination instead of page numbers. " +
+                      "Omit the cursor for the first page and pass the returned nextCursor to get the following one. " +
+                      "Courses with the same sort key are ordered by ID (most recent first). " +
+                      "The total is only computed when includeCount=true. " +
+                      "This endpoint is publicly accessible - no authentication required."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Courses retrieved successfully with the cursor of the next page",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CursorPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content
+        )
+    })
+    public ResponseEntity<CursorPageResponse<CourseBasicResponse>> scrollCourses(
+        @Parameter(description = "User ID to filter courses by teacher", example = "1")
+        @RequestParam(required = false) Long userId,
+        @Parameter(description = "Campus ID to filter courses", example = "1")
+        @RequestParam(required = false) Long campusId,
+        @Parameter(description = "Period to filter courses (format: YYYY-1S or YYYY-2S)", example = "2024-1S")
+        @RequestParam(required = false) String period,
+        @Parameter(description = "Text to search in curricular unit name or program name (accent and case insensitive, tolerates typos)", example = "Programación")
+        @RequestParam(required = false) String searchText,
+        @Parameter(description = "Cursor returned by the previous page (omit for the first page)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (number of items per page)", example = "10")
+        @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Sort order: START_DATE (default) or LAST_MODIFIED_AT", example = "START_DATE")
+        @RequestParam(defaultValue = "START_DATE") CourseSortField sortBy,
+        @Parameter(description = "Whether to compute the total number of courses", example = "false")
+        @RequestParam(defaultValue = "false") boolean includeCount
+    ) {
+        log.info("GET /courses/scroll - userId: {}, campusId: {}, period: {}, searchText: {}, size: {}, sortBy: {}, includeCount: {}",
+                 userId, campusId, period, searchText, size, sortBy, includeCount);
+
+        CursorPageResponse<CourseBasicResponse> response = courseService.getCourses(
+            userId, campusId, period, searchText, sortBy, cursor, size, includeCount
+        );
+
+        log.info("Returning {} courses (hasNext: {})", response.getContent().size(), response.isHasNext());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('COURSE_READ')")
+    @Operation(
+        summary = "Export courses of a campus or RTI",
+        description = "Streams every course of a campus (or of all the campuses of an RTI), optionally filtered by period, " +
+                      "as JSON Lines (one CourseBasicResponse per line) or CSV. Rows are written as they are read, " +
+                      "so the download starts immediately regardless of the number of courses.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Courses streamed",
+            content = {
+                @Content(mediaType = "application/x-ndjson"),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Neither campusId nor rtiId was provided",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied to the campus or RTI",
+            content = @Content
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportCourses(
+        @Parameter(description = "Campus ID whose courses are exported", example = "1")
+        @RequestParam(required = false) Long campusId,
+        @Parameter(description = "RTI ID whose courses are exported (ignored when campusId is given)", example = "1")
+        @RequestParam(required = false) Long rtiId,
+        @Parameter(description = "Period to filter courses (format: YYYY-1S or YYYY-2S)", example = "2024-1S")
+        @RequestParam(required = false) String period,
+        @Parameter(description = "Output format: JSONL (default) or CSV", example = "JSONL")
+        @RequestParam(defaultValue = "JSONL") CourseExportFormat format,
+        HttpServletRequest request
+    ) {
+        log.info("GET /courses/export - campusId: {}, rtiId: {}, period: {}, format: {}", campusId, rtiId, period, format);
+
+        StreamingResponseBody body = courseExportService.exportCourses(campusId, rtiId, period, format);
+
+        // Only the export may stream for minutes, so its timeout is set here instead of for every async request
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                ((AsyncWebRequest) webRequest).setTimeout(TimeUnit.SECONDS.toMillis(exportTimeoutSeconds));
+            }
+        });
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("cursos." + format.getExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+
     @GetMapping("/latest")
     @PreAuthorize("hasAuthority('COURSE_READ')")
     @Operation(
@@ -1,5 +1,6 @@
 package edu.utec.planificador.controller;
 
+import edu.utec.planificador.dto.response.CursorPageResponse;
 import edu.utec.planificador.dto.response.ModificationResponse;
 import edu.utec.planificador.service.ModificationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -63,4 +64,40 @@ public class ModificationController {
 
         return ResponseEntity.ok(modifications);
     }
+
+    @GetMapping("/courses/{courseId}/scroll")
+    @PreAuthorize("hasAuthority('COURSE_READ')")
+    @Operation(
+        summary = "Get modifications by course with cursor pagination",
+        description = "Retrieves the modifications of a course, most recent first, using keyset (cursor) pagination. " +
+                      "Omit the cursor for the first page and pass the returned nextCursor to get the following one. " +
+                      "The total is only computed when includeCount=true."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Modifications retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "403", description = "Access denied to this course"),
+        @ApiResponse(responseCode = "404", description = "Course not found")
+    })
+    public ResponseEntity<CursorPageResponse<ModificationResponse>> scrollModificationsByCourse(
+        @Parameter(description = "Course ID", required = true)
+        @PathVariable Long courseId,
+
+        @Parameter(description = "Cursor returned by the previous page (omit for the first page)")
+        @RequestParam(required = false) String cursor,
+
+        @Parameter(description = "Page size", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+
+        @Parameter(description = "Whether to compute the total number of modifications", example = "false")
+        @RequestParam(defaultValue = "false") boolean includeCount
+    ) {
+        log.info("GET /api/v1/modifications/courses/{}/scroll - size={}, includeCount={}", courseId, size, includeCount);
+
+        return ResponseEntity.ok(modificationService.getModificationsByCourse(courseId, cursor, size, includeCount));
+    }
 }
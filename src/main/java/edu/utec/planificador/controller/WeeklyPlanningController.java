@@ -2,6 +2,7 @@ package edu.utec.planificador.controller;
 
 import edu.utec.planificador.dto.request.BibliographicReferenceRequest;
 import edu.utec.planificador.dto.request.WeeklyPlanningRequest;
+import edu.utec.planificador.dto.response.CoursePlanningTreeResponse;
 import edu.utec.planificador.dto.response.WeeklyPlanningResponse;
 import edu.utec.planificador.service.WeeklyPlanningService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -137,6 +138,43 @@ public class WeeklyPlanningController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/course/{courseId}/tree")
+    @PreAuthorize("hasAuthority('PLANNING_READ')")
+    @Operation(
+        summary = "Get the full planning of a course",
+        description = "Retrieves the whole planning of a course in a single call: weekly plannings with their " +
+                      "bibliographic references, programmatic contents and activities"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Course planning found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CoursePlanningTreeResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied to this course",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Course not found",
+            content = @Content
+        )
+    })
+    public ResponseEntity<CoursePlanningTreeResponse> getPlanningTreeByCourse(
+        @PathVariable Long courseId
+    ) {
+        log.info("GET /weekly-plannings/course/{}/tree - Retrieving full course planning", courseId);
+
+        CoursePlanningTreeResponse response = weeklyPlanningService.getPlanningTreeByCourseId(courseId);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/course/{courseId}/week/{weekNumber}")
     @PreAuthorize("hasAuthority('PLANNING_READ')")
     @Operation(
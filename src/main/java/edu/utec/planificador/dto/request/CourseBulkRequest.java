@@ -0,0 +1,28 @@
+package edu.utec.planificador.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk course creation request")
+public class CourseBulkRequest {
+
+    // Sin @Valid: cada curso se valida por separado y sus errores van al reporte del ítem
+    @Schema(description = "Courses to create", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "{validation.course.bulk.courses.notEmpty}")
+    private List<@NotNull(message = "{validation.course.bulk.courses.item-required}") CourseRequest> courses;
+
+    @Schema(description = "If true, no course is created unless all of them are valid and inserted", example = "false")
+    @Builder.Default
+    private Boolean atomic = false;
+}
@@ -0,0 +1,28 @@
+package edu.utec.planificador.dto.response;
+
+import edu.utec.planificador.enumeration.BulkItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of one course of a bulk creation")
+public class CourseBulkItemResponse {
+
+    @Schema(description = "Position of the course in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Result of the item", example = "CREATED")
+    private BulkItemStatus status;
+
+    @Schema(description = "ID of the created course (only when CREATED)", example = "42")
+    private Long courseId;
+
+    @Schema(description = "Reason why the course was not created", example = "El docente no pertenece a la sede especificada")
+    private String error;
+}
@@ -0,0 +1,29 @@
+package edu.utec.planificador.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Report of a bulk course creation")
+public class CourseBulkResponse {
+
+    @Schema(description = "Number of courses in the request", example = "120")
+    private int requested;
+
+    @Schema(description = "Number of courses created", example = "118")
+    private int created;
+
+    @Schema(description = "Number of courses not created (failed or skipped)", example = "2")
+    private int failed;
+
+    @Schema(description = "Result of each course, in request order")
+    private List<CourseBulkItemResponse> results;
+}
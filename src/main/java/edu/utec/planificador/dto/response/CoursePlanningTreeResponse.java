@@ -0,0 +1,44 @@
+package edu.utec.planificador.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Full planning of a course in one response: weekly plannings with their bibliographic references,
+ * programmatic contents and activities (with their enum sets).
+ */
+@Getter
+@Builder
+public class CoursePlanningTreeResponse {
+    private Long courseId;
+    private String description;
+    private String curricularUnitName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<WeeklyPlanningNode> weeklyPlannings;
+
+    @Getter
+    @Builder
+    public static class WeeklyPlanningNode {
+        private Long id;
+        private Integer weekNumber;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private List<String> bibliographicReferences;
+        private List<ProgrammaticContentNode> programmaticContents;
+    }
+
+    @Getter
+    @Builder
+    public static class ProgrammaticContentNode {
+        private Long id;
+        private String title;
+        private String content;
+        private String color;
+        private Long weeklyPlanningId;
+        private List<ActivityResponse> activities;
+    }
+}
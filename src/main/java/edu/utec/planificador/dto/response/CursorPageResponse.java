@@ -0,0 +1,32 @@
+package edu.utec.planificador.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Page of a cursor (keyset) paginated listing")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Items of the page")
+    private List<T> content;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+
+    @Schema(description = "Whether there are more items after this page", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Cursor to request the next page (null on the last page)", example = "fDIwMjQtMDMtMDF8NDI")
+    private String nextCursor;
+
+    @Schema(description = "Total number of items, only computed when includeCount=true", example = "135")
+    private Long totalElements;
+}
@@ -1,22 +1,26 @@
 package edu.utec.planificador.entity;
 
+import edu.utec.planificador.entity.listener.CoursePeriodChangeListener;
 import edu.utec.planificador.enumeration.DeliveryFormat;
 import edu.utec.planificador.enumeration.PartialGradingSystem;
 import edu.utec.planificador.enumeration.Shift;
 import edu.utec.planificador.enumeration.SustainableDevelopmentGoal;
 import edu.utec.planificador.enumeration.UniversalDesignLearningPrinciple;
+import edu.utec.planificador.util.AcademicPeriodUtils;
 import edu.utec.planificador.util.Constants;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -25,6 +29,9 @@ import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.MapKeyEnumerated;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -34,8 +41,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,11 +57,17 @@ import java.util.Set;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "course")
+@EntityListeners(CoursePeriodChangeListener.class)
+@Table(name = "course", indexes = {
+    @Index(name = "idx_course_last_modified_at", columnList = "last_modified_at"),
+    @Index(name = "idx_course_academic_period", columnList = "academic_period"),
+    @Index(name = "idx_course_start_date_id", columnList = "start_date, id")
+})
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -123,7 +138,8 @@ public class Course {
     @Enumerated(EnumType.STRING)
     private PartialGradingSystem partialGradingSystem;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     @CollectionTable(name = "course_delivery_format_hours", joinColumns = @JoinColumn(name = "course_id"))
     @MapKeyColumn(name = "delivery_format")
     @MapKeyEnumerated(EnumType.STRING)
@@ -140,13 +156,26 @@ public class Course {
     @NotNull
     private Boolean involvesActivitiesWithProductiveSector = false;
 
-    @ElementCollection(targetClass = SustainableDevelopmentGoal.class, fetch = FetchType.EAGER)
+    // Fecha de la última modificación registrada; se mantiene al guardar cada Modification
+    // para que los listados no tengan que consultar la tabla modification
+    @Setter
+    @Column(nullable = true)
+    private LocalDateTime lastModifiedAt;
+
+    // Clave del período académico (año * 10 + semestre), derivada de startDate en cada alta y
+    // actualización; los filtros por período la usan para aprovechar el índice
+    @Column(nullable = true)
+    private Integer academicPeriod;
+
+    @ElementCollection(targetClass = SustainableDevelopmentGoal.class)
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     @CollectionTable(name = "course_sustainable_development_goals", joinColumns = @JoinColumn(name = "course_id"))
     @Column(name = "sustainable_development_goal")
     @Enumerated(EnumType.STRING)
     private Set<SustainableDevelopmentGoal> sustainableDevelopmentGoals = new HashSet<>();
 
-    @ElementCollection(targetClass = UniversalDesignLearningPrinciple.class, fetch = FetchType.EAGER)
+    @ElementCollection(targetClass = UniversalDesignLearningPrinciple.class)
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     @CollectionTable(name = "course_universal_design_learning_principles", joinColumns = @JoinColumn(name = "course_id"))
     @Column(name = "universal_design_learning_principle")
     @Enumerated(EnumType.STRING)
@@ -168,7 +197,8 @@ public class Course {
     @JoinTable(
         name = "course_teacher",
         joinColumns = @JoinColumn(name = "course_id"),
-        inverseJoinColumns = @JoinColumn(name = "teacher_id")
+        inverseJoinColumns = @JoinColumn(name = "teacher_id"),
+        indexes = @Index(name = "idx_course_teacher_course_id", columnList = "course_id")
     )
     private List<Teacher> teachers = new ArrayList<>();
 
@@ -187,6 +217,12 @@ public class Course {
     @OrderBy("date ASC, startTime ASC")
     private List<OfficeHours> officeHours = new ArrayList<>();
 
+    @PrePersist
+    @PreUpdate
+    protected void syncAcademicPeriod() {
+        this.academicPeriod = AcademicPeriodUtils.keyOf(startDate);
+    }
+
     public String getPeriod() {
         if (startDate == null) {
             return null;
@@ -1,5 +1,6 @@
 package edu.utec.planificador.entity;
 
+import edu.utec.planificador.entity.listener.CurricularUnitSearchChangeListener;
 import edu.utec.planificador.enumeration.DomainArea;
 import edu.utec.planificador.enumeration.ProfessionalCompetency;
 import edu.utec.planificador.util.Constants;
@@ -8,6 +9,7 @@ import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -17,6 +19,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -28,6 +31,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -39,11 +43,13 @@ import java.util.Set;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(CurricularUnitSearchChangeListener.class)
 @Table(name = "curricular_unit")
 public class CurricularUnit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "curricular_unit_seq")
+    @SequenceGenerator(name = "curricular_unit_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -65,13 +71,15 @@ public class CurricularUnit {
     @Min(1)
     private Integer credits;
 
-    @ElementCollection(targetClass = DomainArea.class, fetch = FetchType.EAGER)
+    @ElementCollection(targetClass = DomainArea.class)
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     @CollectionTable(name = "curricular_unit_domain_areas", joinColumns = @JoinColumn(name = "curricular_unit_id"))
     @Column(name = "domain_area")
     @Enumerated(EnumType.STRING)
     private Set<DomainArea> domainAreas = new HashSet<>();
 
-    @ElementCollection(targetClass = ProfessionalCompetency.class, fetch = FetchType.EAGER)
+    @ElementCollection(targetClass = ProfessionalCompetency.class)
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     @CollectionTable(name = "curricular_unit_professional_competencies", joinColumns = @JoinColumn(name = "curricular_unit_id"))
     @Column(name = "professional_competency")
     @Enumerated(EnumType.STRING)
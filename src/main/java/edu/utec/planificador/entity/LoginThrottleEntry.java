@@ -0,0 +1,47 @@
+package edu.utec.planificador.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Failed login attempts of an IP or email, shared by every node when
+ * {@code security.login-throttle.store=jdbc}. Rows are written with native upserts
+ * by {@link edu.utec.planificador.security.JdbcLoginThrottleStore}; the entity only defines the schema.
+ * The entity is mapped with either store, so on PostgreSQL the table is created on startup by
+ * {@link edu.utec.planificador.config.SchemaMigration} before {@code ddl-auto: validate} checks it.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "login_throttle", indexes = {
+    @Index(name = "idx_login_throttle_expires_at", columnList = "expires_at")
+})
+public class LoginThrottleEntry {
+
+    // "IP:<address>" or "EMAIL:<email>"
+    @Id
+    @Column(name = "throttle_key", length = 400)
+    @EqualsAndHashCode.Include
+    private String throttleKey;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_attempt_at", nullable = false)
+    private Instant lastAttemptAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -1,6 +1,7 @@
 package edu.utec.planificador.entity;
 
 import edu.utec.planificador.enumeration.ModificationType;
+import edu.utec.planificador.util.Constants;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,8 +10,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -27,11 +30,14 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "modification")
+@Table(name = "modification", indexes = {
+    @Index(name = "idx_modification_course_date_id", columnList = "course_id, modification_date, id")
+})
 public class Modification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "modification_seq")
+    @SequenceGenerator(name = "modification_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
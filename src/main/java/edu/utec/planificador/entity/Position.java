@@ -1,8 +1,11 @@
 package edu.utec.planificador.entity;
 
 import edu.utec.planificador.enumeration.Role;
+import edu.utec.planificador.security.UserAccessChangeListener;
+import edu.utec.planificador.util.Constants;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +18,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -26,18 +30,21 @@ import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Getter
 @ToString(exclude = {"user", "campuses"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(UserAccessChangeListener.class)
 @Table(name = "position")
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class Position {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "position_seq")
+    @SequenceGenerator(name = "position_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -46,7 +53,6 @@ public abstract class Position {
     @NotNull
     private Role role;
 
-    @Setter
     @Column(nullable = false)
     private Boolean isActive = true;
 
@@ -69,13 +75,29 @@ public abstract class Position {
         this.role = role;
     }
 
+    public void setIsActive(Boolean isActive) {
+        if (!Objects.equals(isActive, this.isActive)) {
+            notifySecurityChange();
+        }
+        this.isActive = isActive;
+    }
+
     public void addCampus(Campus campus) {
         if (campus != null && !this.campuses.contains(campus)) {
             this.campuses.add(campus);
+            notifySecurityChange();
         }
     }
 
     public void removeCampus(Campus campus) {
-        this.campuses.remove(campus);
+        if (this.campuses.remove(campus)) {
+            notifySecurityChange();
+        }
+    }
+
+    private void notifySecurityChange() {
+        if (this.user != null) {
+            this.user.incrementSecurityVersion();
+        }
     }
 }
@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -19,6 +20,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,7 +34,8 @@ import java.util.List;
 public class ProgrammaticContent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "programmatic_content_seq")
+    @SequenceGenerator(name = "programmatic_content_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -60,6 +63,7 @@ public class ProgrammaticContent {
     private String color;
 
     @OneToMany(mappedBy = "programmaticContent", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     private List<Activity> activities = new ArrayList<>();
 
     @Setter
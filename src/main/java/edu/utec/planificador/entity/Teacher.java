@@ -1,7 +1,9 @@
 package edu.utec.planificador.entity;
 
+import edu.utec.planificador.entity.listener.CoursePeriodChangeListener;
 import edu.utec.planificador.enumeration.Role;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -14,6 +16,7 @@ import java.util.List;
 @ToString(callSuper = true, exclude = {"courses"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(CoursePeriodChangeListener.class)
 @Table(name = "teacher")
 public class Teacher extends Position {
 
@@ -1,5 +1,6 @@
 package edu.utec.planificador.entity;
 
+import edu.utec.planificador.util.Constants;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +12,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Min;
@@ -39,7 +41,8 @@ import java.util.List;
 public class Term {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "term_seq")
+    @SequenceGenerator(name = "term_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -65,6 +68,10 @@ public class Term {
     private List<CurricularUnit> curricularUnits = new ArrayList<>();
 
     public String getDisplayName() {
+        return displayNameOf(number);
+    }
+
+    public static String displayNameOf(Integer number) {
         return "Semestre " + number;
     }
 }
@@ -2,11 +2,14 @@ package edu.utec.planificador.entity;
 
 import edu.utec.planificador.datatype.PersonalData;
 import edu.utec.planificador.enumeration.AuthProvider;
+import edu.utec.planificador.security.AuthenticatedUser;
+import edu.utec.planificador.security.UserAccessChangeListener;
 import edu.utec.planificador.util.Constants;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -16,6 +19,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
@@ -26,6 +30,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -33,6 +38,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Getter
@@ -40,14 +46,16 @@ import java.util.stream.Collectors;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(UserAccessChangeListener.class)
 @Table(name = "users", indexes = {
     @Index(name = "idx_user_email", columnList = "utec_email"),
     @Index(name = "idx_user_enabled", columnList = "enabled")
 })
-public class User implements UserDetails {
+public class User implements UserDetails, AuthenticatedUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -72,10 +80,18 @@ public class User implements UserDetails {
     @Column(nullable = false, length = 20)
     private AuthProvider authProvider = AuthProvider.LOCAL;
 
-    @Setter
     @Column(nullable = false)
     private Boolean enabled = true;
 
+    /**
+     * Incremented whenever a change affects the user's authorities (account disabled, positions or
+     * campuses changed). Issued tokens carry the version they were built with, so stale tokens
+     * fall back to a database lookup instead of trusting their claims.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long securityVersion = 0L;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -98,14 +114,27 @@ public class User implements UserDetails {
         this.enabled = true;
     }
 
+    public void setEnabled(Boolean enabled) {
+        if (!Objects.equals(enabled, this.enabled)) {
+            incrementSecurityVersion();
+        }
+        this.enabled = enabled;
+    }
+
     public void addPosition(Position position) {
         this.positions.add(position);
         position.setUser(this);
+        incrementSecurityVersion();
     }
 
     public void removePosition(Position position) {
         this.positions.remove(position);
         position.setUser(null);
+        incrementSecurityVersion();
+    }
+
+    public void incrementSecurityVersion() {
+        this.securityVersion = this.securityVersion == null ? 1L : this.securityVersion + 1;
     }
 
 
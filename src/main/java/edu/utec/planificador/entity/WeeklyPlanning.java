@@ -6,13 +6,13 @@ import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -23,6 +23,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -37,7 +38,8 @@ import java.util.List;
 public class WeeklyPlanning {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weekly_planning_seq")
+    @SequenceGenerator(name = "weekly_planning_seq", allocationSize = Constants.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -71,12 +73,14 @@ public class WeeklyPlanning {
     @NotNull
     private LocalDate endDate;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     @CollectionTable(name = "weekly_planning_bibliographic_references", joinColumns = @JoinColumn(name = "weekly_planning_id"))
     @Column(name = "reference", length = 500)
     private List<String> bibliographicReferences = new ArrayList<>();
 
     @OneToMany(mappedBy = "weeklyPlanning", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = Constants.BATCH_FETCH_SIZE)
     @OrderBy("id ASC")
     private List<ProgrammaticContent> programmaticContents = new ArrayList<>();
 }
@@ -0,0 +1,30 @@
+package edu.utec.planificador.entity.listener;
+
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.service.impl.CoursePeriodCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener that clears the {@link CoursePeriodCache} when a {@link Course} is created, updated
+ * or deleted, or when a {@link Teacher} position changes, since activating or deactivating a
+ * teacher changes the periods listed for that user. Changing only the teachers of a course fires
+ * no {@link PostUpdate}, so the services that reassign teachers clear the cache themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoursePeriodChangeListener {
+
+    private final CoursePeriodCache coursePeriodCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        coursePeriodCache.invalidateAll();
+    }
+}
@@ -0,0 +1,30 @@
+package edu.utec.planificador.entity.listener;
+
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.service.CurricularUnitSearch;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener that tells the {@link CurricularUnitSearch} when a {@link CurricularUnit} or a
+ * {@link Program} is created, renamed or deleted, for implementations that keep their own index.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurricularUnitSearchChangeListener {
+
+    // Resolved lazily: the search depends on repositories created after the entity manager
+    private final ObjectProvider<CurricularUnitSearch> curricularUnitSearch;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        curricularUnitSearch.ifAvailable(CurricularUnitSearch::invalidate);
+    }
+}
@@ -0,0 +1,15 @@
+package edu.utec.planificador.enumeration;
+
+/**
+ * Resultado de cada ítem de una operación masiva.
+ */
+public enum BulkItemStatus {
+
+    CREATED,
+
+    // El ítem no pasó la validación o falló su inserción
+    FAILED,
+
+    // El ítem era válido pero no se creó porque la operación atómica se abortó
+    SKIPPED
+}
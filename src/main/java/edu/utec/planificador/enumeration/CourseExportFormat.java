@@ -0,0 +1,20 @@
+package edu.utec.planificador.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Formatos de la exportación de cursos.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CourseExportFormat {
+
+    // Un objeto JSON por línea
+    JSONL("application/x-ndjson", "jsonl"),
+
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+}
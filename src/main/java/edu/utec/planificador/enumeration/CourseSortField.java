@@ -0,0 +1,13 @@
+package edu.utec.planificador.enumeration;
+
+/**
+ * Orden disponible para el listado de cursos (siempre descendente).
+ */
+public enum CourseSortField {
+
+    // Más recientes primero
+    START_DATE,
+
+    // Editados recientemente primero; los cursos sin modificaciones van al final
+    LAST_MODIFIED_AT
+}
@@ -0,0 +1,27 @@
+package edu.utec.planificador.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when the server is temporarily saturated and the client should retry later.
+ * Results in HTTP 503 Service Unavailable response with a Retry-After header.
+ */
+@Getter
+public class ServiceUnavailableException extends BusinessException {
+
+    private static final String DEFAULT_ERROR_CODE = "SERVICE_UNAVAILABLE";
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor with error message and retry delay.
+     *
+     * @param message Error message
+     * @param retryAfterSeconds Seconds the client should wait before retrying
+     */
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message, DEFAULT_ERROR_CODE, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
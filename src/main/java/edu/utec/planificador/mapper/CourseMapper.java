@@ -5,11 +5,13 @@ import edu.utec.planificador.dto.response.CourseResponse;
 import edu.utec.planificador.dto.response.CurricularUnitResponse;
 import edu.utec.planificador.dto.response.UserBasicResponse;
 import edu.utec.planificador.entity.Course;
-import edu.utec.planificador.entity.Modification;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.repository.projection.CourseListingView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 @Component
@@ -42,11 +44,11 @@ public class CourseMapper {
             .startDate(course.getStartDate())
             .endDate(course.getEndDate())
             .partialGradingSystem(course.getPartialGradingSystem())
-            .hoursPerDeliveryFormat(course.getHoursPerDeliveryFormat())
+            .hoursPerDeliveryFormat(new HashMap<>(course.getHoursPerDeliveryFormat()))
             .isRelatedToInvestigation(course.getIsRelatedToInvestigation())
             .involvesActivitiesWithProductiveSector(course.getInvolvesActivitiesWithProductiveSector())
-            .sustainableDevelopmentGoals(course.getSustainableDevelopmentGoals())
-            .universalDesignLearningPrinciples(course.getUniversalDesignLearningPrinciples())
+            .sustainableDevelopmentGoals(new HashSet<>(course.getSustainableDevelopmentGoals()))
+            .universalDesignLearningPrinciples(new HashSet<>(course.getUniversalDesignLearningPrinciples()))
             .curricularUnit(curricularUnit)
             .campus(campusMapper.toSimplifiedResponse(course.getCampus()))
             .teachers(teachers)
@@ -54,41 +56,30 @@ public class CourseMapper {
     }
 
     /**
-     * Maps a Course entity to a CourseBasicResponse DTO.
+     * Maps a course listing row to a CourseBasicResponse DTO.
      * This includes only the essential information for course listing:
      * - Course ID
      * - Curricular unit name
-     * - List of teachers (as UserBasicResponse)
-     * - Last modification date (from most recent Modification)
+     * - List of teachers (as UserBasicResponse), loaded separately for the whole page
+     * - Last modification date (denormalized in Course.lastModifiedAt)
      */
-    public CourseBasicResponse toBasicResponse(Course course) {
+    public CourseBasicResponse toBasicResponse(CourseListingView course, List<UserBasicResponse> teachers) {
         if (course == null) {
             return null;
         }
 
-        // Map teachers to UserBasicResponse using UserMapper
-        List<UserBasicResponse> teachers = course.getTeachers().stream()
-            .map(teacher -> userMapper.toBasicResponse(teacher.getUser()))
-            .toList();
-
-        // Get the last modification date
-        LocalDateTime lastModificationDate = course.getModifications().stream()
-            .map(Modification::getModificationDate)
-            .max(LocalDateTime::compareTo)
-            .orElse(null);
-
         return CourseBasicResponse.builder()
-            .id(course.getId())
-            .shift(course.getShift().getDisplayValue())
-            .description(course.getDescription())
-            .startDate(course.getStartDate())
-            .endDate(course.getEndDate())
-            .curricularUnitName(course.getCurricularUnit().getName())
-            .termName(course.getCurricularUnit().getTerm().getDisplayName())
-            .programName(course.getCurricularUnit().getTerm().getProgram().getName())
-            .campusName(course.getCampus().getName())
+            .id(course.id())
+            .shift(course.shift().getDisplayValue())
+            .description(course.description())
+            .startDate(course.startDate())
+            .endDate(course.endDate())
+            .curricularUnitName(course.curricularUnitName())
+            .termName(Term.displayNameOf(course.termNumber()))
+            .programName(course.programName())
+            .campusName(course.campusName())
             .teachers(teachers)
-            .lastModificationDate(lastModificationDate)
+            .lastModificationDate(course.lastModificationDate())
             .build();
     }
 }
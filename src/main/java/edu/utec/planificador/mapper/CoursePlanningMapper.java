@@ -13,6 +13,7 @@ import edu.utec.planificador.enumeration.SustainableDevelopmentGoal;
 import edu.utec.planificador.enumeration.UniversalDesignLearningPrinciple;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -132,7 +133,7 @@ public class CoursePlanningMapper {
                 .id(planning.getId())
                 .weekNumber(planning.getWeekNumber())
                 .startDate(planning.getStartDate())
-                .bibliographicReferences(planning.getBibliographicReferences())
+                .bibliographicReferences(new ArrayList<>(planning.getBibliographicReferences()))
                 .programmaticContents(mapProgrammaticContents(planning.getProgrammaticContents()))
                 .build();
     }
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+
 @Component
 @RequiredArgsConstructor
 public class CurricularUnitMapper {
@@ -24,8 +26,8 @@ public class CurricularUnitMapper {
             .id(curricularUnit.getId())
             .name(curricularUnit.getName())
             .credits(curricularUnit.getCredits())
-            .domainAreas(curricularUnit.getDomainAreas())
-            .professionalCompetencies(curricularUnit.getProfessionalCompetencies())
+            .domainAreas(new HashSet<>(curricularUnit.getDomainAreas()))
+            .professionalCompetencies(new HashSet<>(curricularUnit.getProfessionalCompetencies()))
             .term(term)
             .build();
     }
@@ -2,6 +2,7 @@ package edu.utec.planificador.mapper;
 
 import edu.utec.planificador.dto.response.UserBasicResponse;
 import edu.utec.planificador.entity.User;
+import edu.utec.planificador.repository.projection.CourseTeacherView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,4 +24,21 @@ public class UserMapper {
             .fullName(fullName)
             .build();
     }
+
+    public UserBasicResponse toTeacherBasicResponse(CourseTeacherView teacher) {
+        if (teacher == null) {
+            return null;
+        }
+
+        String fullName = null;
+        if (teacher.getName() != null || teacher.getLastName() != null) {
+            fullName = teacher.getName() + " " + teacher.getLastName();
+        }
+
+        return UserBasicResponse.builder()
+            .id(teacher.getUserId())
+            .email(teacher.getEmail())
+            .fullName(fullName)
+            .build();
+    }
 }
@@ -1,9 +1,56 @@
 package edu.utec.planificador.repository;
 
 import edu.utec.planificador.entity.Activity;
+import edu.utec.planificador.repository.projection.ActivityEnumValueView;
+import edu.utec.planificador.repository.projection.ActivityTreeView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ActivityRepository extends JpaRepository<Activity, Long> {
+
+    String KIND_COGNITIVE_PROCESS = "COGNITIVE_PROCESS";
+    String KIND_TRANSVERSAL_COMPETENCY = "TRANSVERSAL_COMPETENCY";
+    String KIND_TEACHING_STRATEGY = "TEACHING_STRATEGY";
+    String KIND_LEARNING_RESOURCE = "LEARNING_RESOURCE";
+
+    @Query("""
+        SELECT a.id AS id, a.title AS title, a.description AS description, a.color AS color,
+               a.durationInMinutes AS durationInMinutes, a.learningModality AS learningModality,
+               pc.id AS programmaticContentId
+        FROM Course c
+        JOIN c.weeklyPlannings wp
+        JOIN wp.programmaticContents pc
+        JOIN pc.activities a
+        WHERE c.id = :courseId
+        ORDER BY a.id
+        """)
+    List<ActivityTreeView> findTreeRowsByCourseId(@Param("courseId") Long courseId);
+
+    // Los cuatro conjuntos de enums de todas las actividades del curso en una sola query.
+    // Se castea a VARCHAR porque cada tabla puede tener su propio tipo enum (p. ej. en H2)
+    @Query(value = """
+        WITH course_activity AS (
+            SELECT a.id FROM activity a
+            JOIN programmatic_content pc ON pc.id = a.programmatic_content_id
+            JOIN weekly_planning wp ON wp.id = pc.weekly_planning_id
+            WHERE wp.course_id = :courseId
+        )
+        SELECT acp.activity_id AS activityId, 'COGNITIVE_PROCESS' AS kind, CAST(acp.cognitive_process AS VARCHAR(255)) AS enumName
+        FROM activity_cognitive_processes acp JOIN course_activity ca ON ca.id = acp.activity_id
+        UNION ALL
+        SELECT atc.activity_id, 'TRANSVERSAL_COMPETENCY', CAST(atc.transversal_competency AS VARCHAR(255))
+        FROM activity_transversal_competencies atc JOIN course_activity ca ON ca.id = atc.activity_id
+        UNION ALL
+        SELECT ats.activity_id, 'TEACHING_STRATEGY', CAST(ats.teaching_strategy AS VARCHAR(255))
+        FROM activity_teaching_strategies ats JOIN course_activity ca ON ca.id = ats.activity_id
+        UNION ALL
+        SELECT alr.activity_id, 'LEARNING_RESOURCE', CAST(alr.learning_resource AS VARCHAR(255))
+        FROM activity_learning_resources alr JOIN course_activity ca ON ca.id = alr.activity_id
+        """, nativeQuery = true)
+    List<ActivityEnumValueView> findEnumValuesByCourseId(@Param("courseId") Long courseId);
 }
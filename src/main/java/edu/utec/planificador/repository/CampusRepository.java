@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,5 +31,9 @@ public interface CampusRepository extends JpaRepository<Campus, Long>, JpaSpecif
         ORDER BY c.name ASC
         """)
     List<Campus> findByUserId(@Param("userId") Long userId);
+
+    // Sedes con las carreras que ofrecen, para validar muchos cursos con una sola query
+    @Query("SELECT DISTINCT c FROM Campus c LEFT JOIN FETCH c.programs WHERE c.id IN :ids")
+    List<Campus> findAllWithProgramsByIdIn(@Param("ids") Collection<Long> ids);
 }
 
@@ -0,0 +1,64 @@
+package edu.utec.planificador.repository;
+
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.enumeration.CourseSortField;
+import edu.utec.planificador.repository.projection.CourseListingView;
+import edu.utec.planificador.util.KeysetCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read path for course listings that selects only the columns shown in the list.
+ */
+public interface CourseListingRepository {
+
+    /**
+     * Pages the courses matching the specification as flat rows: one query for the page
+     * and, only when needed, one count query. Teachers are not included.
+     *
+     * @param specification Filters, usually from {@code CourseSpecification.withFilters}
+     * @param pageable Page and sort
+     * @return Page of listing rows
+     */
+    default Page<CourseListingView> findListing(Specification<Course> specification, Pageable pageable) {
+        return findListing(specification, pageable, List.of());
+    }
+
+    /**
+     * Same as {@link #findListing(Specification, Pageable)}, ordering first by the position of each
+     * course's curricular unit in the given ranking (e.g. search relevance) and then by the page sort.
+     *
+     * @param curricularUnitRanking Curricular unit IDs, most relevant first (empty = no ranking); units
+     *                              not in it are ordered after every ranked unit
+     */
+    Page<CourseListingView> findListing(Specification<Course> specification, Pageable pageable, List<Long> curricularUnitRanking);
+
+    /**
+     * Keyset (cursor) variant of the listing: returns at most {@code limit} rows strictly after the
+     * cursor, seeking on (sort key, id) instead of skipping an OFFSET. No count query is issued.
+     * Rows are ordered by the ranking (if any), then by the sort field descending and by ID descending;
+     * with {@link CourseSortField#LAST_MODIFIED_AT} never-modified courses come last.
+     *
+     * @param after Position of the last row of the previous page, or null for the first page
+     * @param limit Maximum number of rows to return
+     */
+    List<CourseListingView> findListingAfter(
+        Specification<Course> specification,
+        CourseSortField sortField,
+        List<Long> curricularUnitRanking,
+        KeysetCursor after,
+        int limit
+    );
+
+    long countListing(Specification<Course> specification);
+
+    /**
+     * Streams every listing row matching the specification in ID order through a forward-only cursor,
+     * reading {@code fetchSize} rows per round trip. Must be consumed (and closed) inside a transaction.
+     */
+    Stream<CourseListingView> streamListing(Specification<Course> specification, int fetchSize);
+}
@@ -0,0 +1,292 @@
+package edu.utec.planificador.repository;
+
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.enumeration.CourseSortField;
+import edu.utec.planificador.repository.projection.CourseListingView;
+import edu.utec.planificador.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.criteria.JpaOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+class CourseListingRepositoryImpl implements CourseListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<CourseListingView> findListing(Specification<Course> specification, Pageable pageable, List<Long> curricularUnitRanking) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        ListingQuery listing = listingQuery(specification, criteriaBuilder);
+        CriteriaQuery<CourseListingView> query = listing.query();
+
+        if (listing.filter() != null) {
+            query.where(listing.filter());
+        }
+
+        List<Order> orders = new ArrayList<>();
+
+        if (!curricularUnitRanking.isEmpty()) {
+            orders.add(criteriaBuilder.asc(rankOf(listing.curricularUnit(), curricularUnitRanking, criteriaBuilder)));
+        }
+
+        if (pageable.getSort().isSorted()) {
+            orders.addAll(toOrders(pageable.getSort(), listing.course(), criteriaBuilder));
+        }
+
+        if (!orders.isEmpty()) {
+            query.orderBy(orders);
+        }
+
+        TypedQuery<CourseListingView> typedQuery = entityManager.createQuery(query);
+
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<CourseListingView> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countListing(specification));
+    }
+
+    @Override
+    public List<CourseListingView> findListingAfter(
+        Specification<Course> specification,
+        CourseSortField sortField,
+        List<Long> curricularUnitRanking,
+        KeysetCursor after,
+        int limit
+    ) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        ListingQuery listing = listingQuery(specification, criteriaBuilder);
+        Root<Course> course = listing.course();
+
+        Expression<Integer> rank = curricularUnitRanking.isEmpty()
+            ? null
+            : rankOf(listing.curricularUnit(), curricularUnitRanking, criteriaBuilder);
+        Path<Long> id = course.get("id");
+
+        // Orden total: (ranking,) clave de orden, id; el id desempata filas con la misma clave
+        List<Order> orders = new ArrayList<>();
+        if (rank != null) {
+            orders.add(criteriaBuilder.asc(rank));
+        }
+        orders.add(switch (sortField) {
+            case START_DATE -> criteriaBuilder.desc(course.get("startDate"));
+            case LAST_MODIFIED_AT -> ((JpaOrder) criteriaBuilder.desc(course.get("lastModifiedAt"))).nullPrecedence(NullPrecedence.LAST);
+        });
+        orders.add(criteriaBuilder.desc(id));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (listing.filter() != null) {
+            predicates.add(listing.filter());
+        }
+        if (after != null) {
+            predicates.add(seek(sortField, course, rank, after, criteriaBuilder));
+        }
+
+        CriteriaQuery<CourseListingView> query = listing.query()
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(orders);
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public Stream<CourseListingView> streamListing(Specification<Course> specification, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        ListingQuery listing = listingQuery(specification, criteriaBuilder);
+        CriteriaQuery<CourseListingView> query = listing.query();
+
+        if (listing.filter() != null) {
+            query.where(listing.filter());
+        }
+        // Reemplaza el orden de la especificación: el PK no requiere ordenar en memoria
+        query.orderBy(criteriaBuilder.asc(listing.course().get("id")));
+
+        // Hibernate resuelve el stream con ScrollableResults FORWARD_ONLY
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    /**
+     * Rows strictly after the cursor in the order of {@link #findListingAfter}. The sort key comparison is
+     * written so that an index on (sort key, id) can be used as a range scan instead of skipping an OFFSET.
+     */
+    private Predicate seek(CourseSortField sortField, Root<Course> course, Expression<Integer> rank, KeysetCursor after, CriteriaBuilder criteriaBuilder) {
+        Path<Long> id = course.get("id");
+        Predicate afterId = criteriaBuilder.lessThan(id, after.id());
+
+        Predicate afterKey = switch (sortField) {
+            case START_DATE -> {
+                Path<LocalDate> startDate = course.get("startDate");
+                LocalDate key = parseKey(after.sortKey(), LocalDate::parse);
+
+                Predicate seek = criteriaBuilder.or(
+                    criteriaBuilder.lessThan(startDate, key),
+                    criteriaBuilder.and(criteriaBuilder.equal(startDate, key), afterId)
+                );
+                // Cota redundante para que el planner recorra el índice desde la clave
+                yield rank == null ? criteriaBuilder.and(criteriaBuilder.lessThanOrEqualTo(startDate, key), seek) : seek;
+            }
+            case LAST_MODIFIED_AT -> {
+                // Los cursos nunca modificados van al final (NULLS LAST)
+                Path<LocalDateTime> lastModifiedAt = course.get("lastModifiedAt");
+
+                if (after.sortKey() == null) {
+                    yield criteriaBuilder.and(criteriaBuilder.isNull(lastModifiedAt), afterId);
+                }
+
+                LocalDateTime key = parseKey(after.sortKey(), LocalDateTime::parse);
+                yield criteriaBuilder.or(
+                    criteriaBuilder.lessThan(lastModifiedAt, key),
+                    criteriaBuilder.and(criteriaBuilder.equal(lastModifiedAt, key), afterId),
+                    criteriaBuilder.isNull(lastModifiedAt)
+                );
+            }
+        };
+
+        if (rank == null) {
+            return afterKey;
+        }
+
+        if (after.rank() == null) {
+            throw new IllegalArgumentException("Invalid cursor: missing search rank");
+        }
+
+        return criteriaBuilder.or(
+            criteriaBuilder.greaterThan(rank, after.rank()),
+            criteriaBuilder.and(criteriaBuilder.equal(rank, after.rank()), afterKey)
+        );
+    }
+
+    private <T> T parseKey(String sortKey, Function<String, T> parser) {
+        if (sortKey == null) {
+            throw new IllegalArgumentException("Invalid cursor: missing sort key");
+        }
+
+        try {
+            return parser.apply(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: malformed sort key " + sortKey, e);
+        }
+    }
+
+    private ListingQuery listingQuery(Specification<Course> specification, CriteriaBuilder criteriaBuilder) {
+        CriteriaQuery<CourseListingView> query = criteriaBuilder.createQuery(CourseListingView.class);
+        Root<Course> course = query.from(Course.class);
+
+        Predicate predicate = specification.toPredicate(course, query, criteriaBuilder);
+
+        Join<Course, CurricularUnit> curricularUnit = course.join("curricularUnit");
+        Join<CurricularUnit, Term> term = curricularUnit.join("term");
+        Join<Term, Program> program = term.join("program");
+
+        query.select(criteriaBuilder.construct(
+            CourseListingView.class,
+            course.get("id"),
+            course.get("shift"),
+            course.get("description"),
+            course.get("startDate"),
+            course.get("endDate"),
+            curricularUnit.get("id"),
+            curricularUnit.get("name"),
+            term.get("number"),
+            program.get("name"),
+            course.join("campus").get("name"),
+            course.get("lastModifiedAt")
+        ));
+
+        return new ListingQuery(query, course, curricularUnit, predicate);
+    }
+
+    // CASE cu.id WHEN <first> THEN 0 WHEN <second> THEN 1 ... END
+    private Expression<Integer> rankOf(Join<Course, CurricularUnit> curricularUnit, List<Long> ranking, CriteriaBuilder criteriaBuilder) {
+        CriteriaBuilder.SimpleCase<Long, Integer> rank = criteriaBuilder.selectCase(curricularUnit.<Long>get("id"));
+
+        for (int position = 0; position < ranking.size(); position++) {
+            rank.when(ranking.get(position), position);
+        }
+
+        return rank.otherwise(ranking.size());
+    }
+
+    /**
+     * Like {@code QueryUtils.toOrders}, but also applies the null handling of each order
+     * (e.g. never-modified courses last when sorting by last modification).
+     */
+    private List<Order> toOrders(Sort sort, Root<Course> course, CriteriaBuilder criteriaBuilder) {
+        List<Order> orders = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            Expression<?> property = course.get(order.getProperty());
+            JpaOrder jpaOrder = (JpaOrder) (order.isAscending() ? criteriaBuilder.asc(property) : criteriaBuilder.desc(property));
+
+            orders.add(switch (order.getNullHandling()) {
+                case NULLS_FIRST -> jpaOrder.nullPrecedence(NullPrecedence.FIRST);
+                case NULLS_LAST -> jpaOrder.nullPrecedence(NullPrecedence.LAST);
+                case NATIVE -> jpaOrder;
+            });
+        }
+
+        return orders;
+    }
+
+    @Override
+    public long countListing(Specification<Course> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Course> course = query.from(Course.class);
+
+        Predicate predicate = specification.toPredicate(course, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // The specification may add ordering, which a count does not need
+        query.orderBy(Collections.emptyList());
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(course) : criteriaBuilder.count(course));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private record ListingQuery(
+        CriteriaQuery<CourseListingView> query,
+        Root<Course> course,
+        Join<Course, CurricularUnit> curricularUnit,
+        Predicate filter
+    ) {
+    }
+}
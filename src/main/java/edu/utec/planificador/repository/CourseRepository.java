@@ -3,17 +3,22 @@ package edu.utec.planificador.repository;
 import edu.utec.planificador.entity.Course;
 import edu.utec.planificador.entity.ProgrammaticContent;
 import edu.utec.planificador.entity.WeeklyPlanning;
+import edu.utec.planificador.repository.projection.CourseOwnershipView;
+import edu.utec.planificador.repository.projection.CoursePlanningHeaderView;
+import edu.utec.planificador.repository.projection.CourseTeacherView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecificationExecutor<Course> {
+public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecificationExecutor<Course>, CourseListingRepository, PlanningCopyRepository {
 
     /**
      * Carga el curso con sus relaciones principales usando dos queries para evitar MultipleBagFetchException.
@@ -48,6 +53,26 @@ public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecif
         """)
     Optional<Course> findByIdWithTeachers(@Param("courseId") Long courseId);
 
+    /**
+     * Carga las colecciones de valores del curso (horas por formato, ODS y principios DUA) en una
+     * sola query; son Sets y un Map, así que no hay MultipleBagFetchException. Dentro de la misma
+     * transacción completa la instancia ya cargada por otra query, igual que findByIdWithTeachers.
+     *
+     * @param id ID del curso
+     * @return Optional con el curso y sus colecciones de valores cargadas
+     */
+    @EntityGraph(attributePaths = {"hoursPerDeliveryFormat", "sustainableDevelopmentGoals", "universalDesignLearningPrinciples"})
+    Optional<Course> findWithValueCollectionsById(Long id);
+
+    @Query("""
+        SELECT c.id AS id, c.description AS description, c.startDate AS startDate, c.endDate AS endDate,
+               cu.name AS curricularUnitName
+        FROM Course c
+        JOIN c.curricularUnit cu
+        WHERE c.id = :courseId
+        """)
+    Optional<CoursePlanningHeaderView> findPlanningHeaderById(@Param("courseId") Long courseId);
+
     /**
      * Busca el último curso para una unidad curricular donde AL MENOS UNO de los docentes
      * especificados está asignado, opcionalmente excluyendo un curso específico.
@@ -136,7 +161,90 @@ public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecif
         """)
     Optional<Course> findByActivityId(@Param("activityId") Long activityId);
 
-    // Teacher ownership validation queries
+    // Teachers of a page of listed courses, loaded in a single query
+    @Query("""
+        SELECT c.id AS courseId, u.id AS userId, u.utecEmail AS email,
+               u.personalData.name AS name, u.personalData.lastName AS lastName
+        FROM Course c
+        JOIN c.teachers t
+        JOIN t.user u
+        WHERE c.id IN :courseIds
+        ORDER BY t.id
+        """)
+    List<CourseTeacherView> findTeachersByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * Claves de período académico distintas (año * 10 + semestre) de los cursos que cumplen los filtros,
+     * de la más reciente a la más antigua. Mismos filtros que CourseSpecification para campus y docente.
+     */
+    @Query("""
+        SELECT DISTINCT c.academicPeriod FROM Course c
+        WHERE c.academicPeriod IS NOT NULL
+        AND (:campusId IS NULL OR c.campus.id = :campusId)
+        AND (:userId IS NULL OR EXISTS (
+            SELECT 1 FROM c.teachers t WHERE t.user.id = :userId AND t.isActive = true
+        ))
+        ORDER BY c.academicPeriod DESC
+        """)
+    List<Integer> findDistinctAcademicPeriods(@Param("campusId") Long campusId, @Param("userId") Long userId);
+
+    // Ownership queries for access control: course, campus, RTI and teacher user IDs in a single round trip
+    @Query("""
+        SELECT c.id AS courseId, campus.id AS campusId, campus.regionalTechnologicalInstitute.id AS rtiId,
+               c.endDate AS endDate, t.user.id AS teacherUserId
+        FROM Course c
+        JOIN c.campus campus
+        LEFT JOIN c.teachers t
+        WHERE c.id = :courseId
+        """)
+    List<CourseOwnershipView> findOwnershipById(@Param("courseId") Long courseId);
+
+    @Query("""
+        SELECT c.id AS courseId, campus.id AS campusId, campus.regionalTechnologicalInstitute.id AS rtiId,
+               c.endDate AS endDate, t.user.id AS teacherUserId
+        FROM Course c
+        JOIN c.campus campus
+        LEFT JOIN c.teachers t
+        WHERE c.id IN :courseIds
+        """)
+    List<CourseOwnershipView> findOwnershipByIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    @Query("""
+        SELECT c.id AS courseId, campus.id AS campusId, campus.regionalTechnologicalInstitute.id AS rtiId,
+               c.endDate AS endDate, t.user.id AS teacherUserId
+        FROM Course c
+        JOIN c.campus campus
+        JOIN c.weeklyPlannings wp
+        LEFT JOIN c.teachers t
+        WHERE wp.id = :weeklyPlanningId
+        """)
+    List<CourseOwnershipView> findOwnershipByWeeklyPlanningId(@Param("weeklyPlanningId") Long weeklyPlanningId);
+
+    @Query("""
+        SELECT c.id AS courseId, campus.id AS campusId, campus.regionalTechnologicalInstitute.id AS rtiId,
+               c.endDate AS endDate, t.user.id AS teacherUserId
+        FROM Course c
+        JOIN c.campus campus
+        JOIN c.weeklyPlannings wp
+        JOIN wp.programmaticContents pc
+        LEFT JOIN c.teachers t
+        WHERE pc.id = :programmaticContentId
+        """)
+    List<CourseOwnershipView> findOwnershipByProgrammaticContentId(@Param("programmaticContentId") Long programmaticContentId);
+
+    @Query("""
+        SELECT c.id AS courseId, campus.id AS campusId, campus.regionalTechnologicalInstitute.id AS rtiId,
+               c.endDate AS endDate, t.user.id AS teacherUserId
+        FROM Course c
+        JOIN c.campus campus
+        JOIN c.weeklyPlannings wp
+        JOIN wp.programmaticContents pc
+        JOIN pc.activities a
+        LEFT JOIN c.teachers t
+        WHERE a.id = :activityId
+        """)
+    List<CourseOwnershipView> findOwnershipByActivityId(@Param("activityId") Long activityId);
+
     @Query("""
         SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
         FROM Course c
@@ -1,16 +1,24 @@
 package edu.utec.planificador.repository;
 
 import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.repository.projection.CurricularUnitSearchView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CurricularUnitRepository extends JpaRepository<CurricularUnit, Long> {
 
+    // Áreas de dominio y competencias profesionales (lazy) en la misma query que la unidad curricular
+    @EntityGraph(attributePaths = {"domainAreas", "professionalCompetencies"})
+    Optional<CurricularUnit> findWithValueCollectionsById(Long id);
+
     @Query("""
         SELECT DISTINCT cu FROM CurricularUnit cu
         JOIN cu.term t
@@ -20,4 +28,22 @@ public interface CurricularUnitRepository extends JpaRepository<CurricularUnit,
         ORDER BY cu.name ASC
         """)
     List<CurricularUnit> findByCampusId(@Param("campusId") Long campusId);
+
+    // Nombres de todas las unidades curriculares y sus programas, para el índice de búsqueda en memoria
+    @Query("""
+        SELECT cu.id AS id, cu.name AS name, p.name AS programName
+        FROM CurricularUnit cu
+        JOIN cu.term t
+        JOIN t.program p
+        """)
+    List<CurricularUnitSearchView> findAllForSearch();
+
+    // Unidades curriculares con su término y carrera, para validar muchos cursos con una sola query
+    @Query("""
+        SELECT cu FROM CurricularUnit cu
+        JOIN FETCH cu.term t
+        JOIN FETCH t.program
+        WHERE cu.id IN :ids
+        """)
+    List<CurricularUnit> findAllWithProgramByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,6 +1,7 @@
 package edu.utec.planificador.repository;
 
 import edu.utec.planificador.entity.Modification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,9 +9,40 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ModificationRepository extends JpaRepository<Modification, Long> {
     
     @Query("SELECT m FROM Modification m WHERE m.course.id = :courseId ORDER BY m.modificationDate DESC")
     Page<Modification> findByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    // Keyset pagination over idx_modification_course_date_id; the teacher is fetched to build the response
+    @Query("""
+        SELECT m FROM Modification m
+        JOIN FETCH m.teacher t
+        JOIN FETCH t.user
+        WHERE m.course.id = :courseId
+        ORDER BY m.modificationDate DESC, m.id DESC
+        """)
+    List<Modification> findFirstByCourseId(@Param("courseId") Long courseId, Limit limit);
+
+    @Query("""
+        SELECT m FROM Modification m
+        JOIN FETCH m.teacher t
+        JOIN FETCH t.user
+        WHERE m.course.id = :courseId
+        AND m.modificationDate <= :modificationDate
+        AND (m.modificationDate < :modificationDate OR m.id < :id)
+        ORDER BY m.modificationDate DESC, m.id DESC
+        """)
+    List<Modification> findByCourseIdAfter(
+        @Param("courseId") Long courseId,
+        @Param("modificationDate") LocalDateTime modificationDate,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    long countByCourseId(Long courseId);
 }
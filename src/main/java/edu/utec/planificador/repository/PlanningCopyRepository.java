@@ -0,0 +1,30 @@
+package edu.utec.planificador.repository;
+
+/**
+ * Set-based copy of planning trees (bibliographic references, programmatic contents, activities
+ * and their enum collections) between courses, as a fixed number of {@code INSERT ... SELECT}
+ * statements regardless of the size of the planning. Nothing is loaded into the persistence context.
+ * <p>
+ * Both operations flush pending changes first. They do not update collections already loaded in
+ * memory: contents of the affected weeks read in the same transaction before the call are stale.
+ */
+public interface PlanningCopyRepository {
+
+    /**
+     * Copies the planning of weeks {@code fromWeek..toWeek} of the source course into the weeks with
+     * the same number of the target course, keeping the order of contents and activities. Weeks
+     * missing in either course are skipped. The target weeks are expected to be empty.
+     *
+     * @return Number of copied contents and activities
+     */
+    CopiedPlanning copyPlanning(Long sourceCourseId, Long targetCourseId, int fromWeek, int toWeek);
+
+    /**
+     * Deletes the bibliographic references, contents and activities of every week of the course,
+     * keeping the weeks.
+     */
+    void clearPlanning(Long courseId);
+
+    record CopiedPlanning(int contents, int activities) {
+    }
+}
@@ -0,0 +1,212 @@
+package edu.utec.planificador.repository;
+
+import edu.utec.planificador.util.Constants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class PlanningCopyRepositoryImpl implements PlanningCopyRepository {
+
+    // Colecciones de enums de Activity: tabla -> columna del valor
+    private static final Map<String, String> ACTIVITY_COLLECTIONS = Map.of(
+        "activity_cognitive_processes", "cognitive_process",
+        "activity_transversal_competencies", "transversal_competency",
+        "activity_teaching_strategies", "teaching_strategy",
+        "activity_learning_resources", "learning_resource"
+    );
+
+    /*
+     * Las filas copiadas se emparejan con su origen por (semana, posición dentro de la semana): se
+     * numeran las filas de ambos cursos en una sola pasada y se agrupan por (semana, posición), lo que
+     * da pares (ID origen, ID destino).
+     *
+     * Los IDs nuevos salen de bloques de la secuencia, igual que con el optimizador pooled de Hibernate:
+     * cada nextval() devuelve v y reserva los IDs (v - ID_ALLOCATION_SIZE, v]. Se pide un nextval() cada
+     * ID_ALLOCATION_SIZE filas y la fila n-ésima (en el orden del ROW_NUMBER) toma el ID que le toca en
+     * su bloque, así que el orden por ID de las filas copiadas (el de la UI) es el mismo que en el origen
+     * y no se gasta un bloque entero por fila.
+     */
+
+    private static final String CONTENT_PAIRS = """
+        (SELECT MAX(CASE WHEN r.course_id = :sourceCourseId THEN r.id END) AS source_id,
+                MAX(CASE WHEN r.course_id = :targetCourseId THEN r.id END) AS target_id
+         FROM (SELECT pc.id, wp.course_id, wp.week_number,
+                      ROW_NUMBER() OVER (PARTITION BY wp.course_id, wp.week_number ORDER BY pc.id) AS week_rank
+               FROM programmatic_content pc
+               JOIN weekly_planning wp ON wp.id = pc.weekly_planning_id
+               WHERE wp.course_id IN (:sourceCourseId, :targetCourseId)
+               AND wp.week_number BETWEEN :fromWeek AND :toWeek) r
+         GROUP BY r.week_number, r.week_rank
+         HAVING COUNT(*) = 2)""";
+
+    private static final String ACTIVITY_PAIRS = """
+        (SELECT MAX(CASE WHEN r.course_id = :sourceCourseId THEN r.id END) AS source_id,
+                MAX(CASE WHEN r.course_id = :targetCourseId THEN r.id END) AS target_id
+         FROM (SELECT a.id, wp.course_id, wp.week_number,
+                      ROW_NUMBER() OVER (PARTITION BY wp.course_id, wp.week_number ORDER BY pc.id, a.id) AS week_rank
+               FROM activity a
+               JOIN programmatic_content pc ON pc.id = a.programmatic_content_id
+               JOIN weekly_planning wp ON wp.id = pc.weekly_planning_id
+               WHERE wp.course_id IN (:sourceCourseId, :targetCourseId)
+               AND wp.week_number BETWEEN :fromWeek AND :toWeek) r
+         GROUP BY r.week_number, r.week_rank
+         HAVING COUNT(*) = 2)""";
+
+    private static final String COPY_REFERENCES = """
+        INSERT INTO weekly_planning_bibliographic_references (weekly_planning_id, reference)
+        SELECT tw.id, ref.reference
+        FROM weekly_planning_bibliographic_references ref
+        JOIN weekly_planning sw ON sw.id = ref.weekly_planning_id
+        JOIN weekly_planning tw ON tw.course_id = :targetCourseId AND tw.week_number = sw.week_number
+        WHERE sw.course_id = :sourceCourseId AND sw.week_number BETWEEN :fromWeek AND :toWeek
+        """;
+
+    private static final String CONTENT_ROWS = """
+        SELECT pc.title, pc.content, pc.color, tw.id AS weekly_planning_id,
+               ROW_NUMBER() OVER (ORDER BY sw.week_number, pc.id) AS rn
+        FROM programmatic_content pc
+        JOIN weekly_planning sw ON sw.id = pc.weekly_planning_id
+        JOIN weekly_planning tw ON tw.course_id = :targetCourseId AND tw.week_number = sw.week_number
+        WHERE sw.course_id = :sourceCourseId AND sw.week_number BETWEEN :fromWeek AND :toWeek""";
+
+    private static final String ACTIVITY_ROWS = """
+        SELECT a.title, a.description, a.color, a.duration_in_minutes, a.learning_modality,
+               p.target_id AS programmatic_content_id,
+               ROW_NUMBER() OVER (ORDER BY p.target_id, a.id) AS rn
+        FROM %s p
+        JOIN activity a ON a.programmatic_content_id = p.source_id""".formatted(CONTENT_PAIRS);
+
+    // Un nextval() por cada bloque de ID_ALLOCATION_SIZE filas
+    private static final String RESERVE_ID_BLOCKS = """
+        SELECT nextval('%1$s') FROM (%2$s) r WHERE MOD(r.rn - 1, %3$d) = 0
+        """;
+
+    // ID de la fila r dentro de su bloque b
+    private static final String ROW_ID = "b.high - %1$d + r.rn - b.block_index * %1$d"
+        .formatted(Constants.ID_ALLOCATION_SIZE);
+    private static final String BLOCK_JOIN = "JOIN (VALUES %%2$s) b(block_index, high) ON b.block_index = (r.rn - 1) / %d"
+        .formatted(Constants.ID_ALLOCATION_SIZE);
+
+    // %1$s: filas a copiar, %2$s: bloques reservados como (índice, valor de la secuencia)
+    private static final String COPY_CONTENTS = """
+        INSERT INTO programmatic_content (id, title, content, color, weekly_planning_id)
+        SELECT %s, r.title, r.content, r.color, r.weekly_planning_id
+        FROM (%%1$s) r
+        %s
+        """.formatted(ROW_ID, BLOCK_JOIN);
+
+    private static final String COPY_ACTIVITIES = """
+        INSERT INTO activity (id, title, description, color, duration_in_minutes, learning_modality, programmatic_content_id)
+        SELECT %s, r.title, r.description, r.color, r.duration_in_minutes, r.learning_modality, r.programmatic_content_id
+        FROM (%%1$s) r
+        %s
+        """.formatted(ROW_ID, BLOCK_JOIN);
+
+    private static final String COPY_ACTIVITY_COLLECTION = """
+        INSERT INTO %1$s (activity_id, %2$s)
+        SELECT p.target_id, e.%2$s
+        FROM %3$s p
+        JOIN %1$s e ON e.activity_id = p.source_id
+        """;
+
+    private static final String COURSE_WEEKS = "SELECT wp.id FROM weekly_planning wp WHERE wp.course_id = :courseId";
+
+    private static final String COURSE_CONTENTS = """
+        SELECT pc.id FROM programmatic_content pc
+        JOIN weekly_planning wp ON wp.id = pc.weekly_planning_id
+        WHERE wp.course_id = :courseId""";
+
+    private static final String COURSE_ACTIVITIES = """
+        SELECT a.id FROM activity a
+        JOIN programmatic_content pc ON pc.id = a.programmatic_content_id
+        JOIN weekly_planning wp ON wp.id = pc.weekly_planning_id
+        WHERE wp.course_id = :courseId""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public CopiedPlanning copyPlanning(Long sourceCourseId, Long targetCourseId, int fromWeek, int toWeek) {
+        entityManager.flush();
+
+        execute(COPY_REFERENCES, sourceCourseId, targetCourseId, fromWeek, toWeek);
+        int contents = insertWithReservedIds(
+            "programmatic_content_seq", CONTENT_ROWS, COPY_CONTENTS, sourceCourseId, targetCourseId, fromWeek, toWeek
+        );
+        int activities = insertWithReservedIds(
+            "activity_seq", ACTIVITY_ROWS, COPY_ACTIVITIES, sourceCourseId, targetCourseId, fromWeek, toWeek
+        );
+
+        if (activities > 0) {
+            ACTIVITY_COLLECTIONS.forEach((table, column) -> execute(
+                COPY_ACTIVITY_COLLECTION.formatted(table, column, ACTIVITY_PAIRS),
+                sourceCourseId, targetCourseId, fromWeek, toWeek
+            ));
+        }
+
+        return new CopiedPlanning(contents, activities);
+    }
+
+    @Override
+    public void clearPlanning(Long courseId) {
+        entityManager.flush();
+
+        ACTIVITY_COLLECTIONS.keySet().forEach(table ->
+            delete("DELETE FROM " + table + " WHERE activity_id IN (" + COURSE_ACTIVITIES + ")", courseId)
+        );
+        delete("DELETE FROM activity WHERE programmatic_content_id IN (" + COURSE_CONTENTS + ")", courseId);
+        delete("DELETE FROM programmatic_content WHERE weekly_planning_id IN (" + COURSE_WEEKS + ")", courseId);
+        delete("DELETE FROM weekly_planning_bibliographic_references WHERE weekly_planning_id IN (" + COURSE_WEEKS + ")", courseId);
+    }
+
+    private int insertWithReservedIds(
+        String sequence,
+        String rows,
+        String insert,
+        Long sourceCourseId,
+        Long targetCourseId,
+        int fromWeek,
+        int toWeek
+    ) {
+        List<?> reserved = query(RESERVE_ID_BLOCKS.formatted(sequence, rows, Constants.ID_ALLOCATION_SIZE),
+            sourceCourseId, targetCourseId, fromWeek, toWeek).getResultList();
+
+        if (reserved.isEmpty()) {
+            return 0;
+        }
+
+        // Bloques en orden ascendente, así los IDs crecen con el número de fila
+        List<Long> blocks = reserved.stream()
+            .map(value -> ((Number) value).longValue())
+            .sorted()
+            .toList();
+        String values = IntStream.range(0, blocks.size())
+            .mapToObj(index -> "(" + index + ", " + blocks.get(index) + ")")
+            .collect(Collectors.joining(", "));
+
+        return execute(insert.formatted(rows, values), sourceCourseId, targetCourseId, fromWeek, toWeek);
+    }
+
+    private int execute(String sql, Long sourceCourseId, Long targetCourseId, int fromWeek, int toWeek) {
+        return query(sql, sourceCourseId, targetCourseId, fromWeek, toWeek).executeUpdate();
+    }
+
+    private Query query(String sql, Long sourceCourseId, Long targetCourseId, int fromWeek, int toWeek) {
+        return entityManager.createNativeQuery(sql)
+            .setParameter("sourceCourseId", sourceCourseId)
+            .setParameter("targetCourseId", targetCourseId)
+            .setParameter("fromWeek", fromWeek)
+            .setParameter("toWeek", toWeek);
+    }
+
+    private void delete(String sql, Long courseId) {
+        entityManager.createNativeQuery(sql)
+            .setParameter("courseId", courseId)
+            .executeUpdate();
+    }
+}
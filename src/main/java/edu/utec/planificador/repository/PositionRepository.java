@@ -0,0 +1,40 @@
+package edu.utec.planificador.repository;
+
+import edu.utec.planificador.entity.Position;
+import edu.utec.planificador.repository.projection.PositionAccessView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PositionRepository extends JpaRepository<Position, Long> {
+
+    /**
+     * Returns the roles, campuses and RTIs of the user's active positions in a single query,
+     * without hydrating the Position and Campus entities.
+     *
+     * @param userId User ID
+     * @return One row per active position and campus
+     */
+    @Query("""
+        SELECT p.role AS role, c.id AS campusId, rti.id AS rtiId
+        FROM Position p
+        LEFT JOIN p.campuses c
+        LEFT JOIN c.regionalTechnologicalInstitute rti
+        WHERE p.user.id = :userId
+        AND p.isActive = true
+        """)
+    List<PositionAccessView> findActiveAccessByUserId(@Param("userId") Long userId);
+
+    /**
+     * Loads the positions of the given users with their campuses, so that positions already in the
+     * persistence context (e.g. from {@link UserRepository#findAllWithPositionsByIdIn}) get their
+     * campuses without one query per position.
+     */
+    @Query("SELECT DISTINCT p FROM Position p LEFT JOIN FETCH p.campuses WHERE p.user.id IN :userIds")
+    List<Position> findAllWithCampusesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
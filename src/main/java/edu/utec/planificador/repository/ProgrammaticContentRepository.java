@@ -1,9 +1,25 @@
 package edu.utec.planificador.repository;
 
 import edu.utec.planificador.entity.ProgrammaticContent;
+import edu.utec.planificador.repository.projection.ProgrammaticContentTreeView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProgrammaticContentRepository extends JpaRepository<ProgrammaticContent, Long> {
+
+    @Query("""
+        SELECT pc.id AS id, pc.title AS title, pc.content AS content, pc.color AS color,
+               wp.id AS weeklyPlanningId
+        FROM Course c
+        JOIN c.weeklyPlannings wp
+        JOIN wp.programmaticContents pc
+        WHERE c.id = :courseId
+        ORDER BY pc.id
+        """)
+    List<ProgrammaticContentTreeView> findTreeRowsByCourseId(@Param("courseId") Long courseId);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,12 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.positions WHERE u.id = :userId")
     Optional<User> findByIdWithPositions(@Param("userId") Long userId);
 
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.positions WHERE u.id IN :userIds")
+    List<User> findAllWithPositionsByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findSecurityVersionById(@Param("userId") Long userId);
+
     boolean existsByUtecEmail(String utecEmail);
 
     List<User> findByAuthProvider(AuthProvider authProvider);
@@ -1,6 +1,8 @@
 package edu.utec.planificador.repository;
 
 import edu.utec.planificador.entity.WeeklyPlanning;
+import edu.utec.planificador.repository.projection.BibliographicReferenceView;
+import edu.utec.planificador.repository.projection.WeeklyPlanningTreeView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,4 +23,22 @@ public interface WeeklyPlanningRepository extends JpaRepository<WeeklyPlanning,
     
     @Query("SELECT wp FROM Course c JOIN c.weeklyPlannings wp WHERE c.id = :courseId AND :date BETWEEN wp.startDate AND wp.endDate")
     Optional<WeeklyPlanning> findByCourseIdAndDate(@Param("courseId") Long courseId, @Param("date") LocalDate date);
+
+    @Query("""
+        SELECT wp.id AS id, wp.weekNumber AS weekNumber, wp.startDate AS startDate, wp.endDate AS endDate
+        FROM Course c
+        JOIN c.weeklyPlannings wp
+        WHERE c.id = :courseId
+        ORDER BY wp.weekNumber
+        """)
+    List<WeeklyPlanningTreeView> findTreeRowsByCourseId(@Param("courseId") Long courseId);
+
+    @Query("""
+        SELECT wp.id AS weeklyPlanningId, reference AS reference
+        FROM Course c
+        JOIN c.weeklyPlannings wp
+        JOIN wp.bibliographicReferences reference
+        WHERE c.id = :courseId
+        """)
+    List<BibliographicReferenceView> findBibliographicReferencesByCourseId(@Param("courseId") Long courseId);
 }
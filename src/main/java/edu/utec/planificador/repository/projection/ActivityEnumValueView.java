@@ -0,0 +1,14 @@
+package edu.utec.planificador.repository.projection;
+
+/**
+ * One value of an activity's enum sets. {@code kind} tells which set it belongs to
+ * (see the {@code ActivityRepository.KIND_*} constants) and {@code enumName} is the enum constant name.
+ */
+public interface ActivityEnumValueView {
+
+    Long getActivityId();
+
+    String getKind();
+
+    String getEnumName();
+}
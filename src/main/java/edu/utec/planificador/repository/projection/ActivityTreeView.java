@@ -0,0 +1,24 @@
+package edu.utec.planificador.repository.projection;
+
+import edu.utec.planificador.enumeration.LearningModality;
+
+/**
+ * Activity row of the planning tree, with the ID of its programmatic content. The enum sets
+ * are loaded separately as {@link ActivityEnumValueView} rows.
+ */
+public interface ActivityTreeView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getColor();
+
+    Integer getDurationInMinutes();
+
+    LearningModality getLearningModality();
+
+    Long getProgrammaticContentId();
+}
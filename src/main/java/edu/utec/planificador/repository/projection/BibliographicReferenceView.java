@@ -0,0 +1,11 @@
+package edu.utec.planificador.repository.projection;
+
+/**
+ * One bibliographic reference of a weekly planning.
+ */
+public interface BibliographicReferenceView {
+
+    Long getWeeklyPlanningId();
+
+    String getReference();
+}
@@ -0,0 +1,25 @@
+package edu.utec.planificador.repository.projection;
+
+import edu.utec.planificador.enumeration.Shift;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flattened row of the course listing: the course columns plus the names of its curricular unit,
+ * term, program and campus, and the date of its last modification (null if there is none).
+ */
+public record CourseListingView(
+    Long id,
+    Shift shift,
+    String description,
+    LocalDate startDate,
+    LocalDate endDate,
+    Long curricularUnitId,
+    String curricularUnitName,
+    Integer termNumber,
+    String programName,
+    String campusName,
+    LocalDateTime lastModificationDate
+) {
+}
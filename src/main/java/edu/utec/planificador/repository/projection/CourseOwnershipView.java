@@ -0,0 +1,20 @@
+package edu.utec.planificador.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Flattened ownership data of a course: one row per assigned teacher.
+ * The teacher user ID is null for courses without teachers.
+ */
+public interface CourseOwnershipView {
+
+    Long getCourseId();
+
+    Long getCampusId();
+
+    Long getRtiId();
+
+    LocalDate getEndDate();
+
+    Long getTeacherUserId();
+}
@@ -0,0 +1,19 @@
+package edu.utec.planificador.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Course columns shown at the root of the planning tree.
+ */
+public interface CoursePlanningHeaderView {
+
+    Long getId();
+
+    String getDescription();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    String getCurricularUnitName();
+}
@@ -0,0 +1,17 @@
+package edu.utec.planificador.repository.projection;
+
+/**
+ * Teacher of a course with the user data shown in listings: one row per course and teacher.
+ */
+public interface CourseTeacherView {
+
+    Long getCourseId();
+
+    Long getUserId();
+
+    String getEmail();
+
+    String getName();
+
+    String getLastName();
+}
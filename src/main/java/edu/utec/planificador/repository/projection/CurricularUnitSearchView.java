@@ -0,0 +1,13 @@
+package edu.utec.planificador.repository.projection;
+
+/**
+ * Names indexed by the in-memory curricular unit search: one row per curricular unit.
+ */
+public interface CurricularUnitSearchView {
+
+    Long getId();
+
+    String getName();
+
+    String getProgramName();
+}
@@ -0,0 +1,16 @@
+package edu.utec.planificador.repository.projection;
+
+import edu.utec.planificador.enumeration.Role;
+
+/**
+ * Flattened view of an active position: one row per (position, campus) pair.
+ * The campus and RTI IDs are null for positions without campuses.
+ */
+public interface PositionAccessView {
+
+    Role getRole();
+
+    Long getCampusId();
+
+    Long getRtiId();
+}
@@ -0,0 +1,17 @@
+package edu.utec.planificador.repository.projection;
+
+/**
+ * Programmatic content row of the planning tree, with the ID of its weekly planning.
+ */
+public interface ProgrammaticContentTreeView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+
+    String getColor();
+
+    Long getWeeklyPlanningId();
+}
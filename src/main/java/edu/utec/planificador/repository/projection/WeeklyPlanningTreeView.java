@@ -0,0 +1,17 @@
+package edu.utec.planificador.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Weekly planning row of the planning tree, without its collections.
+ */
+public interface WeeklyPlanningTreeView {
+
+    Long getId();
+
+    Integer getWeekNumber();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
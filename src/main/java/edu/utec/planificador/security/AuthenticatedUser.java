@@ -0,0 +1,17 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.enumeration.AuthProvider;
+
+/**
+ * Minimal view of the authenticated user stored as the security principal.
+ * Implemented by the {@link edu.utec.planificador.entity.User} entity (database-backed principal)
+ * and by {@link UserPrincipal} (principal rebuilt from JWT claims without touching the database).
+ */
+public interface AuthenticatedUser {
+
+    Long getId();
+
+    String getUtecEmail();
+
+    AuthProvider getAuthProvider();
+}
@@ -0,0 +1,64 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.repository.projection.CourseOwnershipView;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Ownership data of a course (campus, RTI and assigned teachers) used to authorize access
+ * to the course and to every element of its planning without loading the entities.
+ */
+public record CourseOwnership(Long courseId, Long campusId, Long rtiId, LocalDate endDate, Set<Long> teacherUserIds) {
+
+    /**
+     * Folds the per-teacher rows of an ownership query into a single value.
+     *
+     * @return empty if no rows were found
+     */
+    public static Optional<CourseOwnership> of(List<CourseOwnershipView> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CourseOwnershipView first = rows.get(0);
+        Set<Long> teacherUserIds = new HashSet<>();
+
+        for (CourseOwnershipView row : rows) {
+            if (row.getTeacherUserId() != null) {
+                teacherUserIds.add(row.getTeacherUserId());
+            }
+        }
+
+        return Optional.of(new CourseOwnership(
+            first.getCourseId(),
+            first.getCampusId(),
+            first.getRtiId(),
+            first.getEndDate(),
+            Set.copyOf(teacherUserIds)
+        ));
+    }
+
+    /**
+     * Groups the rows of a multi-course ownership query by course ID.
+     */
+    public static Map<Long, CourseOwnership> byCourseId(List<CourseOwnershipView> rows) {
+        return rows.stream()
+            .collect(Collectors.groupingBy(CourseOwnershipView::getCourseId))
+            .entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> of(entry.getValue()).orElseThrow()));
+    }
+
+    public boolean isTeacher(Long userId) {
+        return teacherUserIds.contains(userId);
+    }
+
+    public boolean isFinished(LocalDate today) {
+        return endDate != null && endDate.isBefore(today);
+    }
+}
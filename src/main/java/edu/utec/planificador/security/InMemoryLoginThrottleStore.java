@@ -0,0 +1,61 @@
+package edu.utec.planificador.security;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Node-local {@link LoginThrottleStore} backed by two {@link SlidingWindowThrottle}s (IPs and emails).
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-throttle.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginThrottleStore implements LoginThrottleStore {
+
+    @Value("${security.login-throttle.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${security.login-throttle.lockout-minutes:15}")
+    private int lockoutMinutes;
+
+    // Hard cap of tracked keys per throttle (IPs and emails)
+    @Value("${security.login-throttle.max-entries:100000}")
+    private int maxEntries;
+
+    private SlidingWindowThrottle ipThrottle;
+    private SlidingWindowThrottle emailThrottle;
+
+    @PostConstruct
+    public void init() {
+        Duration lockout = Duration.ofMinutes(lockoutMinutes);
+        this.ipThrottle = new SlidingWindowThrottle(maxAttempts, lockout, maxEntries);
+        this.emailThrottle = new SlidingWindowThrottle(maxAttempts, lockout, maxEntries);
+    }
+
+    @Override
+    public int recordFailure(String key, boolean isEmail) {
+        return throttle(isEmail).recordFailure(key);
+    }
+
+    @Override
+    public void reset(String key, boolean isEmail) {
+        throttle(isEmail).reset(key);
+    }
+
+    @Override
+    public long remainingLockoutMillis(String key, boolean isEmail) {
+        return throttle(isEmail).remainingLockoutMillis(key);
+    }
+
+    @Override
+    public void expire() {
+        ipThrottle.expire();
+        emailThrottle.expire();
+    }
+
+    private SlidingWindowThrottle throttle(boolean isEmail) {
+        return isEmail ? emailThrottle : ipThrottle;
+    }
+}
@@ -0,0 +1,158 @@
+package edu.utec.planificador.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoginThrottleStore} shared by every node through the {@code login_throttle} table (PostgreSQL).
+ * <p>
+ * Counters are updated with an atomic upsert and expire {@code lockout-minutes} after the last failure,
+ * using the database clock so that every node agrees. A small local cache keeps the result of recent
+ * checks: "not blocked" for {@code local-cache-ttl-seconds} and "blocked" until the lockout ends,
+ * so most lockout checks do not query the table. Failures recorded on other nodes are therefore seen
+ * with at most that delay. Resets always delete the row.
+ * <p>
+ * The table is created on startup by {@link edu.utec.planificador.config.SchemaMigration}.
+ * <p>
+ * Writes run in their own transaction so they are kept when the login transaction rolls back.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.login-throttle.store", havingValue = "jdbc")
+public class JdbcLoginThrottleStore implements LoginThrottleStore {
+
+    private static final String UPSERT_FAILURE = """
+        INSERT INTO login_throttle (throttle_key, attempts, last_attempt_at, expires_at)
+        VALUES (?, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond')
+        ON CONFLICT (throttle_key) DO UPDATE SET
+            attempts = CASE
+                WHEN login_throttle.expires_at <= CURRENT_TIMESTAMP THEN 1
+                ELSE login_throttle.attempts + 1
+            END,
+            last_attempt_at = EXCLUDED.last_attempt_at,
+            expires_at = EXCLUDED.expires_at
+        RETURNING attempts
+        """;
+
+    private static final String SELECT_STATUS = """
+        SELECT attempts, CAST(EXTRACT(EPOCH FROM (expires_at - CURRENT_TIMESTAMP)) * 1000 AS BIGINT) AS remaining_millis
+        FROM login_throttle
+        WHERE throttle_key = ? AND expires_at > CURRENT_TIMESTAMP
+        """;
+
+    private static final String DELETE_KEY = "DELETE FROM login_throttle WHERE throttle_key = ?";
+
+    private static final String DELETE_EXPIRED = "DELETE FROM login_throttle WHERE expires_at <= CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${security.login-throttle.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${security.login-throttle.lockout-minutes:15}")
+    private int lockoutMinutes;
+
+    @Value("${security.login-throttle.jdbc.local-cache-ttl-seconds:5}")
+    private long localCacheTtlSeconds;
+
+    @Value("${security.login-throttle.max-entries:100000}")
+    private int localCacheMaxEntries;
+
+    private final ConcurrentHashMap<String, LocalStatus> localCache = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int recordFailure(String key, boolean isEmail) {
+        String throttleKey = throttleKey(key, isEmail);
+        long lockoutMillis = TimeUnit.MINUTES.toMillis(lockoutMinutes);
+
+        Integer attempts = jdbcTemplate.queryForObject(UPSERT_FAILURE, Integer.class, throttleKey, lockoutMillis);
+        int result = attempts != null ? attempts : 0;
+
+        cache(throttleKey, result, result >= maxAttempts ? lockoutMillis : 0);
+        return result;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reset(String key, boolean isEmail) {
+        String throttleKey = throttleKey(key, isEmail);
+
+        // Always deleted: a cached "no failures" may miss failures recorded since on other nodes
+        localCache.remove(throttleKey);
+        jdbcTemplate.update(DELETE_KEY, throttleKey);
+    }
+
+    @Override
+    public long remainingLockoutMillis(String key, boolean isEmail) {
+        String throttleKey = throttleKey(key, isEmail);
+        long now = System.nanoTime();
+
+        LocalStatus cached = localCache.get(throttleKey);
+        if (cached != null) {
+            if (cached.blockedUntil() - now > 0) {
+                return TimeUnit.NANOSECONDS.toMillis(cached.blockedUntil() - now);
+            }
+            if (isFresh(cached, now)) {
+                return 0;
+            }
+        }
+
+        List<LocalStatus> rows = jdbcTemplate.query(SELECT_STATUS, (rs, rowNum) -> {
+            int attempts = rs.getInt("attempts");
+            long remainingMillis = attempts >= maxAttempts ? Math.max(0, rs.getLong("remaining_millis")) : 0;
+            return cache(throttleKey, attempts, remainingMillis);
+        }, throttleKey);
+
+        if (rows.isEmpty()) {
+            cache(throttleKey, 0, 0);
+            return 0;
+        }
+
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, rows.get(0).blockedUntil() - System.nanoTime()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void expire() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED);
+        log.debug("Removed {} expired login throttle entries", deleted);
+
+        long now = System.nanoTime();
+        localCache.values().removeIf(status -> !isFresh(status, now) && status.blockedUntil() - now <= 0);
+    }
+
+    private boolean isFresh(LocalStatus status, long now) {
+        return now - status.checkedAt() < TimeUnit.SECONDS.toNanos(localCacheTtlSeconds);
+    }
+
+    private LocalStatus cache(String throttleKey, int attempts, long remainingMillis) {
+        if (localCache.size() >= localCacheMaxEntries) {
+            log.debug("Login throttle local cache reached {} entries, clearing", localCacheMaxEntries);
+            localCache.clear();
+        }
+
+        long now = System.nanoTime();
+        LocalStatus status = new LocalStatus(attempts, now + TimeUnit.MILLISECONDS.toNanos(remainingMillis), now);
+        localCache.put(throttleKey, status);
+        return status;
+    }
+
+    private static String throttleKey(String key, boolean isEmail) {
+        return (isEmail ? "EMAIL:" : "IP:") + key;
+    }
+
+    private record LocalStatus(int attempts, long blockedUntil, long checkedAt) {
+    }
+}
@@ -1,12 +1,17 @@
 package edu.utec.planificador.security;
 
 import edu.utec.planificador.util.CookieUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,6 +23,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -27,6 +33,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
     private final CookieUtil cookieUtil;
+    private final UserSecurityVersionCache securityVersionCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.jwt.stateless-authentication:true}")
+    private boolean statelessAuthentication;
+
+    private Counter claimsPrincipalCounter;
+    private Counter databasePrincipalCounter;
+
+    @PostConstruct
+    public void init() {
+        this.claimsPrincipalCounter = Counter.builder("security.authentication.principal")
+            .description("Authenticated requests by principal source (claims = database lookup avoided)")
+            .tag("source", "claims")
+            .register(meterRegistry);
+        this.databasePrincipalCounter = Counter.builder("security.authentication.principal")
+            .description("Authenticated requests by principal source (claims = database lookup avoided)")
+            .tag("source", "database")
+            .register(meterRegistry);
+        log.info("JWT authentication filter initialized (stateless authentication: {})", statelessAuthentication);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -38,10 +65,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String userEmail = tokenProvider.getUserEmailFromToken(jwt);
+            Optional<Claims> verifiedClaims = StringUtils.hasText(jwt)
+                ? tokenProvider.verifyToken(jwt)
+                : Optional.empty();
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (verifiedClaims.isPresent()) {
+                Claims claims = verifiedClaims.get();
+                String userEmail = claims.getSubject();
+
+                UserDetails userDetails = resolvePrincipal(claims);
                 
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
@@ -65,6 +97,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Builds the principal from the token claims when stateless authentication is enabled and the
+     * token's security version is still current. Otherwise the user is loaded from the database.
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        if (statelessAuthentication) {
+            Long userId = claims.get("userId", Long.class);
+            Long tokenVersion = claims.get("securityVersion", Long.class);
+
+            if (userId != null && tokenVersion != null && securityVersionCache.isCurrent(userId, tokenVersion)) {
+                claimsPrincipalCounter.increment();
+                return UserPrincipal.of(
+                    userId,
+                    claims.getSubject(),
+                    claims.get("authProvider", String.class),
+                    claims.get("roles", String.class)
+                );
+            }
+
+            log.debug("Security version changed or missing for user {}, loading from database", claims.getSubject());
+        }
+
+        databasePrincipalCounter.increment();
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         var cookieToken = cookieUtil.getCookieValue(request, CookieUtil.ACCESS_TOKEN_COOKIE_NAME);
         if (cookieToken.isPresent()) {
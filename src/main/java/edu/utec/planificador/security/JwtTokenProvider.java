@@ -1,8 +1,10 @@
 package edu.utec.planificador.security;
 
 import edu.utec.planificador.entity.User;
+import edu.utec.planificador.exception.InvalidTokenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -17,7 +19,12 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,14 +40,26 @@ public class JwtTokenProvider {
     @Value("${security.jwt.issuer:UTEC-Planificador}")
     private String jwtIssuer;
 
+    @Value("${security.jwt.verification-cache.max-entries:10000}")
+    private int verificationCacheMaxEntries;
+
     private SecretKey secretKey;
 
+    // JwtParser instances are immutable and thread-safe, so a single one is shared by all requests
+    private JwtParser jwtParser;
+
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
     private static final int MINIMUM_SECRET_LENGTH = 64;
 
     @PostConstruct
     public void init() {
         validateJwtSecret();
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+            .verifyWith(secretKey)
+            .requireIssuer(jwtIssuer)
+            .build();
         log.info("JWT Provider initialized successfully");
     }
 
@@ -80,6 +99,7 @@ public class JwtTokenProvider {
             .claim("email", user.getUtecEmail())
             .claim("roles", roles)
             .claim("authProvider", user.getAuthProvider().name())
+            .claim("securityVersion", user.getSecurityVersion())
             .issuer(jwtIssuer)
             .issuedAt(now)
             .expiration(expiryDate)
@@ -97,24 +117,43 @@ public class JwtTokenProvider {
         return claims.get("userId", Long.class);
     }
 
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .requireIssuer(jwtIssuer)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    public Claims getClaimsFromToken(String token) {
+        return verifyToken(token)
+            .orElseThrow(() -> new InvalidTokenException("Invalid JWT token"));
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .requireIssuer(jwtIssuer)
-                .build()
-                .parseSignedClaims(token);
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * Verifies the token signature, issuer and expiration in a single pass and returns its claims.
+     * Tokens already verified are served from a bounded cache keyed by the token digest,
+     * so repeated requests with the same token skip the HMAC verification until the token expires.
+     *
+     * @param token Compact JWT
+     * @return Verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> verifyToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (now < cached.expiresAt()) {
+                return Optional.of(cached.claims());
+            }
+            verifiedTokens.remove(digest);
+        }
 
-            return true;
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            cacheVerifiedToken(digest, claims, now);
+            return Optional.of(claims);
         } catch (SignatureException e) {
             log.warn("Invalid JWT signature");
         } catch (MalformedJwtException e) {
@@ -128,10 +167,40 @@ public class JwtTokenProvider {
         } catch (Exception e) {
             log.error("JWT validation error", e);
         }
-        return false;
+        return Optional.empty();
+    }
+
+    private void cacheVerifiedToken(String digest, Claims claims, long now) {
+        if (verificationCacheMaxEntries <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+
+        if (verifiedTokens.size() >= verificationCacheMaxEntries) {
+            verifiedTokens.values().removeIf(entry -> entry.expiresAt() <= now);
+
+            if (verifiedTokens.size() >= verificationCacheMaxEntries) {
+                log.debug("Verified token cache reached {} entries, clearing", verificationCacheMaxEntries);
+                verifiedTokens.clear();
+            }
+        }
+
+        verifiedTokens.put(digest, new VerifiedToken(claims, claims.getExpiration().getTime()));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
     }
 
     public long getExpirationMs() {
         return jwtExpirationMs;
     }
+
+    private record VerifiedToken(Claims claims, long expiresAt) {
+    }
 }
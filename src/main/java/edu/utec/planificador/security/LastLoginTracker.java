@@ -0,0 +1,91 @@
+package edu.utec.planificador.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for {@code users.last_login_at}.
+ * <p>
+ * Successful logins only record the timestamp in memory; {@link #flush()} writes the pending
+ * timestamps in a single JDBC batch (scheduled every few seconds and on shutdown). The update
+ * touches that column alone, so it neither bumps {@code updatedAt} nor goes through the entity
+ * listeners that invalidate the user's access caches. Readers combine the stored value with the
+ * pending one through {@link #resolve(Long, LocalDateTime)}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginTracker {
+
+    private static final String UPDATE_LAST_LOGIN = """
+        UPDATE users SET last_login_at = ?
+        WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (current, recorded) -> recorded.isAfter(current) ? recorded : current);
+    }
+
+    /**
+     * Returns the most recent login of the user, including a timestamp not flushed yet.
+     */
+    public LocalDateTime resolve(Long userId, LocalDateTime persisted) {
+        LocalDateTime pendingLogin = pending.get(userId);
+
+        if (pendingLogin == null || (persisted != null && !pendingLogin.isAfter(persisted))) {
+            return persisted;
+        }
+
+        return pendingLogin;
+    }
+
+    /**
+     * Writes every pending timestamp in one batch. Timestamps recorded while flushing stay pending
+     * for the next run; if the batch fails, all of them are kept and retried.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        pending.forEach((userId, loginAt) -> batch.add(Map.entry(userId, loginAt)));
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, batch, batch.size(), (statement, entry) -> {
+            Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+            statement.setTimestamp(1, loginAt);
+            statement.setLong(2, entry.getKey());
+            statement.setTimestamp(3, loginAt);
+        });
+
+        batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        log.debug("Flushed last login timestamps for {} users", batch.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Could not flush {} pending last login timestamps on shutdown", pending.size(), e);
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,102 @@
+package edu.utec.planificador.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of successful LDAP binds, so repeated logins of the same user do not
+ * reach the directory server. Entries are keyed by an HMAC of the credentials with a random
+ * per-process key: neither passwords nor reusable hashes are kept in memory.
+ * Disabled unless {@code security.ldap.auth-cache.ttl-seconds} is greater than zero.
+ * A password changed in LDAP keeps working for at most that TTL.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.ldap.enabled", havingValue = "true")
+public class LdapBindCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Value("${security.ldap.auth-cache.ttl-seconds:0}")
+    private long ttlSeconds;
+
+    @Value("${security.ldap.auth-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final SecretKeySpec salt;
+    private final ConcurrentHashMap<String, Long> binds = new ConcurrentHashMap<>();
+
+    public LdapBindCache() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.salt = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        return ttlSeconds > 0 && maxEntries > 0;
+    }
+
+    /**
+     * Returns true if the same credentials were successfully bound within the TTL.
+     */
+    public boolean contains(String username, String password) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        String key = key(username, password);
+        Long expiresAt = binds.get(key);
+
+        if (expiresAt == null) {
+            return false;
+        }
+
+        if (expiresAt - System.nanoTime() <= 0) {
+            binds.remove(key, expiresAt);
+            return false;
+        }
+
+        return true;
+    }
+
+    public void put(String username, String password) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        if (binds.size() >= maxEntries) {
+            binds.values().removeIf(expiresAt -> expiresAt - now <= 0);
+            if (binds.size() >= maxEntries) {
+                log.debug("LDAP bind cache reached {} entries, clearing", maxEntries);
+                binds.clear();
+            }
+        }
+
+        binds.put(key(username, password), now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+    }
+
+    private String key(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(salt);
+            mac.update(username.toLowerCase().getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC not available", e);
+        }
+    }
+}
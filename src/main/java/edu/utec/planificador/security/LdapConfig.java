@@ -25,6 +25,19 @@ public class LdapConfig {
     @Value("${security.ldap.manager.password:}")
     private String managerPassword;
 
+    // JNDI connection pool for the manager (search) connections. User binds are never pooled.
+    @Value("${security.ldap.pool.enabled:true}")
+    private boolean poolEnabled;
+
+    @Value("${security.ldap.pool.max-size:20}")
+    private int poolMaxSize;
+
+    @Value("${security.ldap.pool.pref-size:5}")
+    private int poolPrefSize;
+
+    @Value("${security.ldap.pool.idle-timeout-ms:300000}")
+    private long poolIdleTimeoutMs;
+
     @Bean
     public LdapContextSource ldapContextSource() {
         log.info("Configuring LDAP context source: {}", ldapUrl);
@@ -37,6 +50,11 @@ public class LdapConfig {
             contextSource.setUserDn(managerDn);
             contextSource.setPassword(managerPassword);
         }
+
+        if (poolEnabled) {
+            configureConnectionPool();
+            contextSource.setPooled(true);
+        }
         
         contextSource.afterPropertiesSet();
         
@@ -44,6 +62,20 @@ public class LdapConfig {
         return contextSource;
     }
 
+    /**
+     * The JNDI pool is configured through system properties, read when the first pooled
+     * connection is created.
+     */
+    private void configureConnectionPool() {
+        System.setProperty("com.sun.jndi.ldap.connect.pool.maxsize", String.valueOf(poolMaxSize));
+        System.setProperty("com.sun.jndi.ldap.connect.pool.prefsize", String.valueOf(poolPrefSize));
+        System.setProperty("com.sun.jndi.ldap.connect.pool.timeout", String.valueOf(poolIdleTimeoutMs));
+        System.setProperty("com.sun.jndi.ldap.connect.pool.protocol", "plain ssl");
+
+        log.info("LDAP connection pooling enabled (max: {}, preferred: {}, idle timeout: {} ms)",
+            poolMaxSize, poolPrefSize, poolIdleTimeoutMs);
+    }
+
     @Bean
     public LdapTemplate ldapTemplate(LdapContextSource ldapContextSource) {
         return new LdapTemplate(ldapContextSource);
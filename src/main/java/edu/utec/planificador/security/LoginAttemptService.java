@@ -1,119 +1,69 @@
 package edu.utec.planificador.security;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class LoginAttemptService {
 
-    private static final int MAX_ATTEMPTS = 5;
-    private static final int LOCKOUT_DURATION_MINUTES = 15;
-    private final ConcurrentHashMap<String, AttemptInfo> attemptsCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, AttemptInfo> emailAttemptsCache = new ConcurrentHashMap<>();
+    private final LoginThrottleStore throttleStore;
+
+    @Value("${security.login-throttle.max-attempts:5}")
+    private int maxAttempts;
 
     public void loginFailed(String key, boolean isEmail) {
-        ConcurrentHashMap<String, AttemptInfo> cache = isEmail ? emailAttemptsCache : attemptsCache;
-        
-        AttemptInfo attempts = cache.computeIfAbsent(key, k -> new AttemptInfo());
-        attempts.incrementAttempts();
-        
+        int attempts = throttleStore.recordFailure(key, isEmail);
+
+        if (attempts == 0) {
+            log.warn("Login failed for {}: {} (not tracked by the login throttle)", isEmail ? "user" : "IP", key);
+            return;
+        }
+
         log.warn(
-            "Login failed for {}: {} (attempts: {})", 
-            isEmail ? "user" : "IP", 
-            key, 
-            attempts.getAttempts()
+            "Login failed for {}: {} (attempts: {})",
+            isEmail ? "user" : "IP",
+            key,
+            attempts
         );
-        
-        if (attempts.getAttempts() >= MAX_ATTEMPTS) {
+
+        if (attempts >= maxAttempts) {
             log.error(
-                "SECURITY ALERT: {} {} has been blocked due to {} failed login attempts", 
+                "SECURITY ALERT: {} {} has been blocked due to {} failed login attempts",
                 isEmail ? "User" : "IP",
-                key, 
-                MAX_ATTEMPTS
+                key,
+                maxAttempts
             );
         }
     }
 
     public void loginSucceeded(String key, boolean isEmail) {
-        ConcurrentHashMap<String, AttemptInfo> cache = isEmail ? emailAttemptsCache : attemptsCache;
-        cache.remove(key);
+        throttleStore.reset(key, isEmail);
         log.debug(
-            "Login succeeded for {}: {}, cleared failed attempts", 
+            "Login succeeded for {}: {}, cleared failed attempts",
             isEmail ? "user" : "IP", key
         );
     }
 
     public boolean isBlocked(String key, boolean isEmail) {
-        ConcurrentHashMap<String, AttemptInfo> cache = isEmail ? emailAttemptsCache : attemptsCache;
-        
-        AttemptInfo attempts = cache.get(key);
-        if (attempts == null) {
-            return false;
-        }
-
-        if (attempts.isLockoutExpired(LOCKOUT_DURATION_MINUTES)) {
-            cache.remove(key);
-            log.info("Lockout expired for {}: {}", isEmail ? "user" : "IP", key);
-            return false;
-        }
-
-        return attempts.getAttempts() >= MAX_ATTEMPTS;
+        return throttleStore.remainingLockoutMillis(key, isEmail) > 0;
     }
 
     public long getRemainingLockoutTime(String key, boolean isEmail) {
-        ConcurrentHashMap<String, AttemptInfo> cache = isEmail ? emailAttemptsCache : attemptsCache;
-        
-        AttemptInfo attempts = cache.get(key);
-        if (attempts == null) {
-            return 0;
-        }
-
-        return attempts.getRemainingLockoutMinutes(LOCKOUT_DURATION_MINUTES);
+        long remainingMillis = throttleStore.remainingLockoutMillis(key, isEmail);
+        return remainingMillis == 0 ? 0 : Math.max(1, TimeUnit.MILLISECONDS.toMinutes(remainingMillis));
     }
 
+    /**
+     * Reclaims entries that expired while there were no login attempts.
+     * Expired entries are otherwise reclaimed incrementally on every check.
+     */
     public void clearExpiredEntries() {
-        clearExpiredFromCache(attemptsCache);
-        clearExpiredFromCache(emailAttemptsCache);
-    }
-
-    private void clearExpiredFromCache(ConcurrentHashMap<String, AttemptInfo> cache) {
-        cache.entrySet().removeIf(entry -> 
-            entry.getValue().isLockoutExpired(LOCKOUT_DURATION_MINUTES)
-        );
-    }
-
-    private static class AttemptInfo {
-        private int attempts;
-        private LocalDateTime lastAttempt;
-
-        public AttemptInfo() {
-            this.attempts = 0;
-            this.lastAttempt = LocalDateTime.now();
-        }
-
-        public synchronized void incrementAttempts() {
-            this.attempts++;
-            this.lastAttempt = LocalDateTime.now();
-        }
-
-        public int getAttempts() {
-            return attempts;
-        }
-
-        public boolean isLockoutExpired(int lockoutMinutes) {
-            return LocalDateTime.now().isAfter(lastAttempt.plusMinutes(lockoutMinutes));
-        }
-
-        public long getRemainingLockoutMinutes(int lockoutMinutes) {
-            LocalDateTime unlockTime = lastAttempt.plusMinutes(lockoutMinutes);
-            if (LocalDateTime.now().isAfter(unlockTime)) {
-                return 0;
-            }
-            return java.time.Duration.between(LocalDateTime.now(), unlockTime).toMinutes();
-        }
+        throttleStore.expire();
     }
 }
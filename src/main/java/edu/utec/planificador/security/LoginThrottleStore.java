@@ -0,0 +1,30 @@
+package edu.utec.planificador.security;
+
+/**
+ * Storage of failed login attempts used by {@link LoginAttemptService}.
+ * The implementation is selected with {@code security.login-throttle.store}:
+ * {@code memory} (per node, default) or {@code jdbc} (shared by every node through the database).
+ */
+public interface LoginThrottleStore {
+
+    /**
+     * Records a failed attempt for the key.
+     *
+     * @param key IP address or email
+     * @param isEmail Whether the key is an email
+     * @return Failed attempts within the current window, or 0 if the key is not tracked
+     */
+    int recordFailure(String key, boolean isEmail);
+
+    void reset(String key, boolean isEmail);
+
+    /**
+     * @return Milliseconds until the key is unblocked, or 0 if it is not blocked
+     */
+    long remainingLockoutMillis(String key, boolean isEmail);
+
+    /**
+     * Removes the entries whose lockout has expired.
+     */
+    void expire();
+}
@@ -0,0 +1,134 @@
+package edu.utec.planificador.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs password hash checks on a dedicated pool sized to the number of cores, so login storms
+ * cannot take the CPU away from the request threads serving the rest of the API.
+ * <p>
+ * The pool has a bounded queue: when it is full the check is rejected immediately with a
+ * {@link RejectedExecutionException} instead of piling up waiting requests, and the caller
+ * answers with a retry-after response. Queue wait and hash time are published as metrics.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordVerificationExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    // 0 = one thread per available core
+    @Value("${security.password-verification.threads:0}")
+    private int threads;
+
+    @Value("${security.password-verification.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${security.password-verification.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+    private Timer queueWaitTimer;
+    private Timer hashTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-verification-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.queueWaitTimer = Timer.builder("security.password.verification.queue.wait")
+            .description("Time password checks wait for a verification thread")
+            .register(meterRegistry);
+        this.hashTimer = Timer.builder("security.password.verification.hash")
+            .description("Time spent hashing passwords to verify them")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("security.password.verification.rejected")
+            .description("Password checks rejected because the verification queue was full")
+            .register(meterRegistry);
+        Gauge.builder("security.password.verification.queue.size", executor, pool -> pool.getQueue().size())
+            .description("Password checks waiting for a verification thread")
+            .register(meterRegistry);
+
+        log.info("Password verification executor initialized (threads: {}, queue capacity: {})", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Checks the raw password against the encoded one on the verification pool.
+     *
+     * @throws RejectedExecutionException if the verification queue is full
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> result;
+
+        try {
+            result = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+                try {
+                    return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
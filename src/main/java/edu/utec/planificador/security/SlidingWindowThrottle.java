@@ -0,0 +1,248 @@
+package edu.utec.planificador.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Failed-attempt counter with a hard cap on the number of tracked keys.
+ * <p>
+ * A key is blocked once it reaches {@code maxAttempts} failures, and its counter expires
+ * {@code lockout} after the last failure. Each key's state is a single packed {@link AtomicLong}
+ * (attempt count + time of last failure) updated with CAS, and time comes from a monotonic clock.
+ * <p>
+ * Expired keys are reclaimed incrementally through a hashed time wheel: every key sits in the bucket
+ * of the tick it was last scheduled in, and each operation drains only the buckets whose tick has
+ * fully expired since the previous operation. When the cap is reached, the oldest scheduled keys
+ * that are not blocked are evicted; blocked keys are never evicted, so flooding the map with new
+ * keys cannot reset a lockout. If no key can be evicted within a small budget, the new key is not
+ * tracked.
+ */
+public class SlidingWindowThrottle {
+
+    private static final int WHEEL_TICKS = 16;
+    private static final int RING_SIZE = WHEEL_TICKS + 2;
+    private static final int EVICTION_BUDGET = 32;
+
+    private static final int COUNT_SHIFT = 48;
+    private static final long TIME_MASK = (1L << COUNT_SHIFT) - 1;
+    private static final long MAX_COUNT = 0xFFFF;
+
+    private final int maxAttempts;
+    private final long lockoutMillis;
+    private final long tickMillis;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry>[] wheel;
+    private final AtomicLong lastDrainedTick = new AtomicLong(-1);
+
+    public SlidingWindowThrottle(int maxAttempts, Duration lockout, int maxEntries) {
+        this(maxAttempts, lockout, maxEntries, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    SlidingWindowThrottle(int maxAttempts, Duration lockout, int maxEntries, LongSupplier nanoClock) {
+        this.maxAttempts = maxAttempts;
+        this.lockoutMillis = Math.max(lockout.toMillis(), WHEEL_TICKS);
+        this.tickMillis = this.lockoutMillis / WHEEL_TICKS;
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        this.wheel = new ConcurrentLinkedQueue[RING_SIZE];
+        for (int i = 0; i < RING_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Records a failure for the key.
+     *
+     * @return Failures within the current window, or 0 if the key could not be tracked
+     */
+    public int recordFailure(String key) {
+        long now = nowMillis();
+        advance(now);
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= maxEntries && !evict()) {
+                return 0;
+            }
+
+            Entry created = new Entry(key, pack(0, now));
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+                schedule(entry, now);
+            }
+        }
+
+        long state;
+        long updated;
+        do {
+            state = entry.state.get();
+            long count = isExpired(state, now) ? 0 : countOf(state);
+            updated = pack(Math.min(count + 1, MAX_COUNT), now);
+        } while (!entry.state.compareAndSet(state, updated));
+
+        return (int) countOf(updated);
+    }
+
+    public void reset(String key) {
+        advance(nowMillis());
+        entries.remove(key);
+    }
+
+    public boolean isBlocked(String key) {
+        return remainingLockoutMillis(key) > 0;
+    }
+
+    /**
+     * @return Milliseconds until the key is unblocked, or 0 if it is not blocked
+     */
+    public long remainingLockoutMillis(String key) {
+        long now = nowMillis();
+        advance(now);
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return 0;
+        }
+
+        long state = entry.state.get();
+        if (isExpired(state, now)) {
+            entries.remove(key, entry);
+            return 0;
+        }
+
+        return countOf(state) >= maxAttempts ? lockoutMillis - (now - timeOf(state)) : 0;
+    }
+
+    /**
+     * Drains the buckets that expired while there was no activity.
+     */
+    public void expire() {
+        advance(nowMillis());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void advance(long now) {
+        long target = now / tickMillis - WHEEL_TICKS - 1;
+        long last = lastDrainedTick.get();
+
+        if (target <= last || !lastDrainedTick.compareAndSet(last, target)) {
+            return;
+        }
+
+        // Only the last RING_SIZE ticks can still have keys; older buckets were reused by them
+        List<Entry> live = new ArrayList<>();
+        for (long tick = Math.max(last + 1, target - RING_SIZE + 1); tick <= target; tick++) {
+            ConcurrentLinkedQueue<Entry> bucket = wheel[(int) (tick % RING_SIZE)];
+            Entry entry;
+            while ((entry = bucket.poll()) != null) {
+                if (!reclaim(entry, now, false)) {
+                    live.add(entry);
+                }
+            }
+        }
+
+        // Rescheduled after draining, since the bucket of a live key may be one being drained
+        live.forEach(entry -> schedule(entry, timeOf(entry.state.get())));
+    }
+
+    /**
+     * Evicts the oldest scheduled keys that are not blocked until there is room for a new one.
+     */
+    private boolean evict() {
+        long now = nowMillis();
+        long firstTick = lastDrainedTick.get() + 1;
+        long currentTick = now / tickMillis;
+        int budget = EVICTION_BUDGET;
+        List<Entry> blocked = new ArrayList<>();
+
+        try {
+            for (long tick = Math.max(firstTick, currentTick - RING_SIZE + 1); tick <= currentTick && budget > 0; tick++) {
+                ConcurrentLinkedQueue<Entry> bucket = wheel[(int) (tick % RING_SIZE)];
+                Entry entry;
+                while (budget-- > 0 && (entry = bucket.poll()) != null) {
+                    if (!reclaim(entry, now, true)) {
+                        blocked.add(entry);
+                    }
+                    if (entries.size() < maxEntries) {
+                        return true;
+                    }
+                }
+            }
+
+            return entries.size() < maxEntries;
+        } finally {
+            // Rescheduled after the scan, so they are not polled again by it
+            blocked.forEach(entry -> schedule(entry, timeOf(entry.state.get())));
+        }
+    }
+
+    /**
+     * Handles a key taken out of its bucket: removes it if it expired, or if it is evicted and not blocked.
+     *
+     * @return false if the key is still live and must be scheduled again
+     */
+    private boolean reclaim(Entry entry, long now, boolean evict) {
+        if (entries.get(entry.key) != entry) {
+            // Reset or replaced since it was scheduled
+            return true;
+        }
+
+        long state = entry.state.get();
+        if (isExpired(state, now) || (evict && countOf(state) < maxAttempts)) {
+            entries.remove(entry.key, entry);
+            return true;
+        }
+
+        return false;
+    }
+
+    private void schedule(Entry entry, long time) {
+        wheel[(int) ((time / tickMillis) % RING_SIZE)].offer(entry);
+    }
+
+    private boolean isExpired(long state, long now) {
+        return now - timeOf(state) >= lockoutMillis;
+    }
+
+    private long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - origin);
+    }
+
+    private static long pack(long count, long time) {
+        return (count << COUNT_SHIFT) | (time & TIME_MASK);
+    }
+
+    private static long countOf(long state) {
+        return state >>> COUNT_SHIFT;
+    }
+
+    private static long timeOf(long state) {
+        return state & TIME_MASK;
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final AtomicLong state;
+
+        private Entry(String key, long state) {
+            this.key = key;
+            this.state = new AtomicLong(state);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.entity.Position;
+import edu.utec.planificador.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener that invalidates the cached access data of a user whenever their
+ * {@link User} row or any of their {@link Position}s change.
+ * Campus changes of a position bump the user's security version, so they are seen as user updates.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccessChangeListener {
+
+    private final UserAccessProfileCache accessProfileCache;
+
+    // Resolved lazily: the version cache depends on repositories created after the entity manager
+    private final ObjectProvider<UserSecurityVersionCache> securityVersionCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long userId = switch (entity) {
+            case User user -> user.getId();
+            case Position position -> position.getUser() != null ? position.getUser().getId() : null;
+            default -> null;
+        };
+
+        if (userId == null) {
+            return;
+        }
+
+        accessProfileCache.invalidate(userId);
+        securityVersionCache.ifAvailable(cache -> cache.evict(userId));
+    }
+}
@@ -0,0 +1,94 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.enumeration.Role;
+import edu.utec.planificador.repository.projection.PositionAccessView;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Authorization data of a user, derived from their active positions.
+ * Built once and reused by every {@link edu.utec.planificador.service.AccessControlService} check,
+ * so that a single request does not reload the user's positions for each validation.
+ */
+@Getter
+public class UserAccessProfile {
+
+    private final Long userId;
+    private final String utecEmail;
+    private final Set<Long> campusIds;
+    private final Set<Long> rtiIds;
+    private final Set<Role> roles;
+
+    /**
+     * Campuses where the user holds an active ANALYST or COORDINATOR position.
+     */
+    private final Set<Long> administrativeCampusIds;
+
+    private UserAccessProfile(
+        Long userId,
+        String utecEmail,
+        Set<Long> campusIds,
+        Set<Long> rtiIds,
+        Set<Role> roles,
+        Set<Long> administrativeCampusIds
+    ) {
+        this.userId = userId;
+        this.utecEmail = utecEmail;
+        this.campusIds = Set.copyOf(campusIds);
+        this.rtiIds = Set.copyOf(rtiIds);
+        this.roles = Set.copyOf(roles);
+        this.administrativeCampusIds = Set.copyOf(administrativeCampusIds);
+    }
+
+    public static UserAccessProfile of(Long userId, String utecEmail, List<PositionAccessView> positions) {
+        Set<Long> campusIds = new HashSet<>();
+        Set<Long> rtiIds = new HashSet<>();
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        Set<Long> administrativeCampusIds = new HashSet<>();
+
+        for (PositionAccessView position : positions) {
+            roles.add(position.getRole());
+
+            if (position.getCampusId() != null) {
+                campusIds.add(position.getCampusId());
+
+                if (position.getRole() == Role.ANALYST || position.getRole() == Role.COORDINATOR) {
+                    administrativeCampusIds.add(position.getCampusId());
+                }
+            }
+
+            if (position.getRtiId() != null) {
+                rtiIds.add(position.getRtiId());
+            }
+        }
+
+        return new UserAccessProfile(userId, utecEmail, campusIds, rtiIds, roles, administrativeCampusIds);
+    }
+
+    public boolean hasAccessToCampus(Long campusId, Long rtiId) {
+        return campusIds.contains(campusId) || rtiIds.contains(rtiId);
+    }
+
+    public boolean hasAdministrativeRoleInCampus(Long campusId) {
+        return administrativeCampusIds.contains(campusId);
+    }
+
+    /**
+     * Returns true if ALL active positions are TEACHER role.
+     * Returns false if the user has any administrative role or no active positions.
+     */
+    public boolean hasOnlyTeacherRole() {
+        return !roles.isEmpty() && roles.stream().allMatch(role -> role == Role.TEACHER);
+    }
+
+    /**
+     * Returns true if the user has at least one active TEACHER position.
+     */
+    public boolean hasTeacherRole() {
+        return roles.contains(Role.TEACHER);
+    }
+}
@@ -0,0 +1,173 @@
+package edu.utec.planificador.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Node-local cache of {@link UserAccessProfile}s shared across requests.
+ * Entries expire after a TTL and are invalidated as soon as the positions or campuses of a user
+ * change, so a warm user's roles and campuses are resolved without touching the database.
+ * Statistics are published as the {@code cache.*} metrics with {@code cache=userAccessProfiles}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAccessProfileCache {
+
+    public static final String CACHE_NAME = "userAccessProfiles";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.access-profile-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${security.access-profile-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<Long, CachedProfile> profiles = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        new ProfileCacheMetrics(this).bindTo(meterRegistry);
+    }
+
+    /**
+     * Returns the cached profile of the user, building it with the given loader on a miss.
+     */
+    public UserAccessProfile get(Long userId, Function<Long, UserAccessProfile> loader) {
+        if (ttlSeconds <= 0 || maxEntries <= 0) {
+            misses.incrementAndGet();
+            return loader.apply(userId);
+        }
+
+        long now = System.nanoTime();
+
+        CachedProfile cached = profiles.get(userId);
+        if (cached != null && now - cached.loadedAt() < TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+            hits.incrementAndGet();
+            return cached.profile();
+        }
+
+        misses.incrementAndGet();
+        UserAccessProfile profile = loader.apply(userId);
+
+        if (profiles.size() >= maxEntries) {
+            evictOldest(now);
+        }
+
+        profiles.put(userId, new CachedProfile(profile, now));
+        puts.incrementAndGet();
+        return profile;
+    }
+
+    /**
+     * Invalidates the profiles of the given users. When called inside a transaction the entries
+     * are removed again when it completes, so a profile loaded concurrently from the old data is not kept.
+     */
+    public void invalidate(Collection<Long> userIds) {
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        ids.forEach(profiles::remove);
+        log.debug("Invalidated access profiles of users {}", ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(profiles::remove);
+                }
+            });
+        }
+    }
+
+    public void invalidate(Long userId) {
+        invalidate(List.of(userId));
+    }
+
+    public void clear() {
+        profiles.clear();
+    }
+
+    private void evictOldest(long now) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        int before = profiles.size();
+        profiles.values().removeIf(cached -> now - cached.loadedAt() >= ttlNanos);
+
+        // Still full: drop the oldest tenth instead of the whole cache
+        if (profiles.size() >= maxEntries) {
+            profiles.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt()))
+                .limit(Math.max(1, maxEntries / 10))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(profiles::remove);
+        }
+
+        evictions.addAndGet(Math.max(0, before - profiles.size()));
+    }
+
+    private record CachedProfile(UserAccessProfile profile, long loadedAt) {
+    }
+
+    private static final class ProfileCacheMetrics extends CacheMeterBinder<UserAccessProfileCache> {
+
+        private ProfileCacheMetrics(UserAccessProfileCache cache) {
+            super(cache, CACHE_NAME, Tags.empty());
+        }
+
+        @Override
+        protected Long size() {
+            return (long) getCache().profiles.size();
+        }
+
+        @Override
+        protected long hitCount() {
+            return getCache().hits.get();
+        }
+
+        @Override
+        protected Long missCount() {
+            return getCache().misses.get();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return getCache().evictions.get();
+        }
+
+        @Override
+        protected long putCount() {
+            return getCache().puts.get();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.repository.PositionRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves the {@link UserAccessProfile} of the current user.
+ * Within an HTTP request the profile is built once and stored as a request attribute;
+ * across requests it is served from the {@link UserAccessProfileCache}.
+ * Also counts the queries issued for authorization during the request and publishes them
+ * through the {@code security.authorization.queries} metric when the request completes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAccessProfileResolver {
+
+    private static final String PROFILE_ATTRIBUTE = UserAccessProfileResolver.class.getName() + ".PROFILE";
+    private static final String QUERY_COUNT_ATTRIBUTE = UserAccessProfileResolver.class.getName() + ".QUERY_COUNT";
+
+    private final PositionRepository positionRepository;
+    private final UserAccessProfileCache accessProfileCache;
+    private final MeterRegistry meterRegistry;
+
+    private DistributionSummary authorizationQueries;
+
+    @PostConstruct
+    public void init() {
+        this.authorizationQueries = DistributionSummary.builder("security.authorization.queries")
+            .description("Database queries issued for authorization per request")
+            .register(meterRegistry);
+    }
+
+    public AuthenticatedUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (AuthenticatedUser) authentication.getPrincipal();
+    }
+
+    public UserAccessProfile getCurrentProfile() {
+        AuthenticatedUser user = getCurrentUser();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes != null
+            && requestAttributes.getAttribute(PROFILE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UserAccessProfile profile
+            && profile.getUserId().equals(user.getId())) {
+            return profile;
+        }
+
+        UserAccessProfile profile = loadProfile(user);
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(PROFILE_ATTRIBUTE, profile, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return profile;
+    }
+
+    /**
+     * Records a query issued by the access control layer for the current request.
+     */
+    public void recordQuery() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return;
+        }
+
+        AtomicInteger counter = (AtomicInteger) requestAttributes.getAttribute(
+            QUERY_COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST
+        );
+
+        if (counter == null) {
+            AtomicInteger requestCounter = new AtomicInteger();
+            requestAttributes.setAttribute(QUERY_COUNT_ATTRIBUTE, requestCounter, RequestAttributes.SCOPE_REQUEST);
+            requestAttributes.registerDestructionCallback(QUERY_COUNT_ATTRIBUTE, () -> {
+                log.debug("Authorization queries for request: {}", requestCounter.get());
+                authorizationQueries.record(requestCounter.get());
+            }, RequestAttributes.SCOPE_REQUEST);
+            counter = requestCounter;
+        }
+
+        counter.incrementAndGet();
+    }
+
+    private UserAccessProfile loadProfile(AuthenticatedUser user) {
+        return accessProfileCache.get(user.getId(), userId -> {
+            recordQuery();
+            return UserAccessProfile.of(
+                userId,
+                user.getUtecEmail(),
+                positionRepository.findActiveAccessByUserId(userId)
+            );
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.enumeration.AuthProvider;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lightweight principal built from the claims of a verified JWT.
+ * Used by the stateless authentication mode so that authenticated requests
+ * do not need to load the {@link edu.utec.planificador.entity.User} entity.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class UserPrincipal implements UserDetails, AuthenticatedUser {
+
+    @EqualsAndHashCode.Include
+    private final Long id;
+
+    private final String utecEmail;
+
+    private final AuthProvider authProvider;
+
+    private final Set<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String utecEmail, AuthProvider authProvider, Set<GrantedAuthority> authorities) {
+        this.id = id;
+        this.utecEmail = utecEmail;
+        this.authProvider = authProvider;
+        this.authorities = Set.copyOf(authorities);
+    }
+
+    /**
+     * Builds a principal from the comma separated authorities stored in the "roles" claim.
+     */
+    public static UserPrincipal of(Long id, String utecEmail, String authProvider, String roles) {
+        Set<GrantedAuthority> authorities = StringUtils.hasText(roles)
+            ? Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toSet())
+            : Set.of();
+
+        AuthProvider provider = StringUtils.hasText(authProvider)
+            ? AuthProvider.valueOf(authProvider)
+            : AuthProvider.LOCAL;
+
+        return new UserPrincipal(id, utecEmail, provider, authorities);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return utecEmail;
+    }
+}
@@ -0,0 +1,79 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local cache of each user's security version.
+ * Lets the JWT filter trust the claims of a token as long as the version it was issued with
+ * is still the current one, with at most one scalar query per user every TTL period.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSecurityVersionCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${security.jwt.security-version-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${security.jwt.security-version-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether the given token version is still the current security version of the user.
+     *
+     * @param userId User ID from the token
+     * @param tokenVersion Security version the token was issued with
+     * @return true if the token claims can be trusted, false if the user must be reloaded from the database
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        Optional<Long> currentVersion = getCurrentVersion(userId);
+        return currentVersion.isPresent() && currentVersion.get() == tokenVersion;
+    }
+
+    public void evict(Long userId) {
+        versions.remove(userId);
+    }
+
+    public void clear() {
+        versions.clear();
+    }
+
+    private Optional<Long> getCurrentVersion(Long userId) {
+        long now = System.nanoTime();
+
+        CachedVersion cached = versions.get(userId);
+        if (cached != null && now - cached.loadedAt() < TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+            return Optional.of(cached.version());
+        }
+
+        Optional<Long> version = userRepository.findSecurityVersionById(userId);
+
+        if (version.isEmpty()) {
+            versions.remove(userId);
+            return Optional.empty();
+        }
+
+        if (versions.size() >= maxEntries) {
+            log.debug("Security version cache reached {} entries, clearing", maxEntries);
+            versions.clear();
+        }
+
+        versions.put(userId, new CachedVersion(version.get(), now));
+        return version;
+    }
+
+    private record CachedVersion(long version, long loadedAt) {
+    }
+}
@@ -1,5 +1,8 @@
 package edu.utec.planificador.service;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * Service for validating user access to resources based on their positions.
  * Ensures that users can only access resources within their assigned RTIs and Campuses.
@@ -54,6 +57,25 @@ public interface AccessControlService {
      */
     void validateActivityAccess(Long activityId);
 
+    /**
+     * Returns the subset of the given courses the current user has access to,
+     * applying the same rules as {@link #validateCourseAccess(Long)} with a single query.
+     * Courses that do not exist are not included.
+     *
+     * @param courseIds Course IDs to check
+     * @return Accessible course IDs, in the order they were given
+     */
+    Set<Long> filterAccessibleCourseIds(Collection<Long> courseIds);
+
+    /**
+     * Validates if the current user has access to all the given courses with a single query.
+     *
+     * @param courseIds Course IDs to validate access
+     * @throws edu.utec.planificador.exception.ResourceNotFoundException if any course does not exist
+     * @throws edu.utec.planificador.exception.ForbiddenException if user doesn't have access to any of them
+     */
+    void validateCoursesAccess(Collection<Long> courseIds);
+
     /**
      * Validates if the current user has access to a specific campus.
      *
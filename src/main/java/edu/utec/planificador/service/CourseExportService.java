@@ -0,0 +1,10 @@
+package edu.utec.planificador.service;
+
+import edu.utec.planificador.enumeration.CourseExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface CourseExportService {
+
+    // Validates access to the campus (or RTI) right away; the returned body streams the courses when the response is written
+    StreamingResponseBody exportCourses(Long campusId, Long rtiId, String period, CourseExportFormat format);
+}
@@ -1,8 +1,10 @@
 package edu.utec.planificador.service;
 
 import edu.utec.planificador.dto.aiagent.AIReportRequest.CourseStatisticsDto;
+import edu.utec.planificador.dto.request.CourseBulkRequest;
 import edu.utec.planificador.dto.request.CourseRequest;
 import edu.utec.planificador.dto.response.*;
+import edu.utec.planificador.enumeration.CourseSortField;
 import edu.utec.planificador.enumeration.SustainableDevelopmentGoal;
 import edu.utec.planificador.enumeration.UniversalDesignLearningPrinciple;
 import org.springframework.data.domain.Page;
@@ -14,6 +16,9 @@ public interface CourseService {
 
     CourseResponse createCourse(CourseRequest request);
 
+    // Crea varios cursos validándolos todos antes de insertar; devuelve el resultado de cada uno
+    CourseBulkResponse createCourses(CourseBulkRequest request);
+
     CourseResponse getCourseById(Long id);
 
     CourseResponse updateCourse(Long id, CourseRequest request);
@@ -22,6 +27,12 @@ public interface CourseService {
 
     Page<CourseBasicResponse> getCourses(Long userId, Long campusId, String period, String searchText, Pageable pageable);
 
+    // Keyset (cursor) variant of getCourses: no OFFSET, and the count only runs when includeCount is true
+    CursorPageResponse<CourseBasicResponse> getCourses(
+        Long userId, Long campusId, String period, String searchText,
+        CourseSortField sortBy, String cursor, int size, boolean includeCount
+    );
+
     // Returns brief course info (id, curricular unit name, start date, shift) for the current user in a campus
     // If courseId is provided, validates that the course belongs to the current user's courses in that campus,
     // otherwise throws a ForbiddenException or ResourceNotFoundException as appropriate.
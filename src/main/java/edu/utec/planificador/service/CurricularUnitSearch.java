@@ -0,0 +1,28 @@
+package edu.utec.planificador.service;
+
+import java.util.List;
+
+/**
+ * Type-ahead search of curricular units by their name or their program's name, accent and
+ * case insensitive and tolerant to small typos. The implementation is selected with
+ * {@code course.search.engine}: {@code memory} (in-process n-gram index, default) or {@code postgres}
+ * (trigram indexes; needs the pg_trgm and unaccent extensions).
+ * <p>
+ * Relevance: unit name starting with the text, then unit name containing it, then program name
+ * containing it, then fuzzy matches by trigram similarity.
+ */
+public interface CurricularUnitSearch {
+
+    /**
+     * @param text Search text as typed by the user
+     * @param limit Maximum number of matches ({@link Integer#MAX_VALUE} for all of them)
+     * @return IDs of the matching curricular units, most relevant first
+     */
+    List<Long> search(String text, int limit);
+
+    /**
+     * Called when curricular units or programs change, for implementations that keep their own index.
+     */
+    default void invalidate() {
+    }
+}
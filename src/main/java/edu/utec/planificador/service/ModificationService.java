@@ -1,5 +1,6 @@
 package edu.utec.planificador.service;
 
+import edu.utec.planificador.dto.response.CursorPageResponse;
 import edu.utec.planificador.dto.response.ModificationResponse;
 import edu.utec.planificador.entity.Activity;
 import edu.utec.planificador.entity.Course;
@@ -12,6 +13,8 @@ public interface ModificationService {
 
     Page<ModificationResponse> getModificationsByCourse(Long courseId, Pageable pageable);
 
+    CursorPageResponse<ModificationResponse> getModificationsByCourse(Long courseId, String cursor, int size, boolean includeCount);
+
     void logProgrammaticContentCreation(ProgrammaticContent content, Teacher teacher, Course course);
 
     void logProgrammaticContentUpdate(ProgrammaticContent oldContent, ProgrammaticContent newContent, Teacher teacher, Course course);
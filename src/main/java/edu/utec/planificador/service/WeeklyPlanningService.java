@@ -1,6 +1,7 @@
 package edu.utec.planificador.service;
 
 import edu.utec.planificador.dto.request.WeeklyPlanningRequest;
+import edu.utec.planificador.dto.response.CoursePlanningTreeResponse;
 import edu.utec.planificador.dto.response.WeeklyPlanningResponse;
 
 import java.time.LocalDate;
@@ -14,6 +15,9 @@ public interface WeeklyPlanningService {
 
     List<WeeklyPlanningResponse> getWeeklyPlanningsByCourseId(Long courseId);
 
+    // Whole planning of the course (weeks, references, contents and activities) built from a fixed number of queries
+    CoursePlanningTreeResponse getPlanningTreeByCourseId(Long courseId);
+
     WeeklyPlanningResponse getWeeklyPlanningByCourseIdAndWeekNumber(Long courseId, Integer weekNumber);
 
     WeeklyPlanningResponse getWeeklyPlanningByCourseIdAndDate(Long courseId, LocalDate date);
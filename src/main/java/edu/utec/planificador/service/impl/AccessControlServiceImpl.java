@@ -1,39 +1,33 @@
 package edu.utec.planificador.service.impl;
 
-import edu.utec.planificador.entity.Activity;
 import edu.utec.planificador.entity.Campus;
-import edu.utec.planificador.entity.Course;
 import edu.utec.planificador.entity.CurricularUnit;
-import edu.utec.planificador.entity.Position;
 import edu.utec.planificador.entity.Program;
-import edu.utec.planificador.entity.ProgrammaticContent;
-import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
 import edu.utec.planificador.entity.Term;
-import edu.utec.planificador.entity.User;
-import edu.utec.planificador.entity.WeeklyPlanning;
-import edu.utec.planificador.enumeration.Role;
 import edu.utec.planificador.exception.ForbiddenException;
 import edu.utec.planificador.exception.ResourceNotFoundException;
-import edu.utec.planificador.repository.ActivityRepository;
 import edu.utec.planificador.repository.CampusRepository;
 import edu.utec.planificador.repository.CourseRepository;
 import edu.utec.planificador.repository.CurricularUnitRepository;
 import edu.utec.planificador.repository.ProgramRepository;
-import edu.utec.planificador.repository.ProgrammaticContentRepository;
 import edu.utec.planificador.repository.RegionalTechnologicalInstituteRepository;
 import edu.utec.planificador.repository.TermRepository;
-import edu.utec.planificador.repository.UserRepository;
-import edu.utec.planificador.repository.WeeklyPlanningRepository;
+import edu.utec.planificador.security.AuthenticatedUser;
+import edu.utec.planificador.security.CourseOwnership;
+import edu.utec.planificador.security.UserAccessProfile;
+import edu.utec.planificador.security.UserAccessProfileResolver;
 import edu.utec.planificador.service.MessageService;
 import edu.utec.planificador.service.AccessControlService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -44,53 +38,45 @@ public class AccessControlServiceImpl implements AccessControlService {
 
     private final CourseRepository courseRepository;
     private final CurricularUnitRepository curricularUnitRepository;
-    private final WeeklyPlanningRepository weeklyPlanningRepository;
-    private final ProgrammaticContentRepository programmaticContentRepository;
-    private final ActivityRepository activityRepository;
     private final CampusRepository campusRepository;
     private final RegionalTechnologicalInstituteRepository rtiRepository;
     private final ProgramRepository programRepository;
     private final TermRepository termRepository;
-    private final UserRepository userRepository;
+    private final UserAccessProfileResolver accessProfileResolver;
     private final MessageService messageService;
 
     @Override
     @Transactional(readOnly = true)
     public void validateCourseAccess(Long courseId) {
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException(
-                messageService.getMessage("error.course.not-found")
-            ));
+        checkCourseAccess(findOwnership(courseId), accessProfileResolver.getCurrentProfile());
+    }
 
-        User currentUser = getCurrentUser();
-        
-        // Use direct campus relationship from course
-        Campus courseCampus = course.getCampus();
-        Long courseCampusId = courseCampus.getId();
-        Long courseRtiId = courseCampus.getRegionalTechnologicalInstitute().getId();
+    private boolean canAccessCourse(CourseOwnership ownership, UserAccessProfile profile) {
+        return profile.hasAccessToCampus(ownership.campusId(), ownership.rtiId())
+            && (!profile.hasOnlyTeacherRole() || ownership.isTeacher(profile.getUserId()));
+    }
 
-        Set<Long> userCampusIds = getUserCampusIds();
-        Set<Long> userRtiIds = getUserRtiIds();
+    private void checkCourseAccess(CourseOwnership ownership, UserAccessProfile profile) {
+        Long courseId = ownership.courseId();
 
         // First check: User must have access to the campus/RTI where the course is offered
-        boolean hasCampusAccess = userCampusIds.contains(courseCampusId) || userRtiIds.contains(courseRtiId);
+        boolean hasCampusAccess = profile.hasAccessToCampus(ownership.campusId(), ownership.rtiId());
 
         if (!hasCampusAccess) {
             log.warn("User {} attempted to access course {} without campus access (course campus: {})",
-                currentUser.getUtecEmail(), courseId, courseCampus.getName());
+                profile.getUtecEmail(), courseId, ownership.campusId());
             throw new ForbiddenException(
                 messageService.getMessage("error.access.no-course-access")
             );
         }
 
         // Second check: If user has ONLY TEACHER role, validate ownership
-        if (hasOnlyTeacherRole()) {
-            boolean isTeacherOfCourse = course.getTeachers().stream()
-                .anyMatch(teacher -> teacher.getUser().getId().equals(currentUser.getId()));
+        if (profile.hasOnlyTeacherRole()) {
+            boolean isTeacherOfCourse = ownership.isTeacher(profile.getUserId());
 
             if (!isTeacherOfCourse) {
                 log.warn("User {} attempted to access course {} without being assigned as teacher",
-                    currentUser.getUtecEmail(), courseId);
+                    profile.getUtecEmail(), courseId);
                 throw new ForbiddenException(
                     messageService.getMessage("error.access.not-assigned-teacher")
                 );
@@ -103,7 +89,8 @@ public class AccessControlServiceImpl implements AccessControlService {
     @Override
     @Transactional(readOnly = true)
     public void validateCurricularUnitAccess(Long curricularUnitId) {
-        User currentUser = getCurrentUser();
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
+        accessProfileResolver.recordQuery();
         CurricularUnit curricularUnit = curricularUnitRepository.findById(curricularUnitId)
             .orElseThrow(() -> new ResourceNotFoundException(
                 messageService.getMessage("error.curricular-unit.not-found")
@@ -113,6 +100,7 @@ public class AccessControlServiceImpl implements AccessControlService {
         Program program = term.getProgram();
 
         // Get campuses where this program is offered
+        accessProfileResolver.recordQuery();
         List<Campus> programCampuses = campusRepository.findByProgram(program.getId());
 
         if (programCampuses.isEmpty()) {
@@ -125,32 +113,30 @@ public class AccessControlServiceImpl implements AccessControlService {
             .map(Campus::getId)
             .collect(Collectors.toSet());
 
-        Set<Long> userCampusIds = getUserCampusIds();
-        Set<Long> userRtiIds = getUserRtiIds();
-
         // First check: User must have access to the campus/RTI where the curricular unit belongs
-        boolean hasCampusAccess = programCampusIds.stream().anyMatch(userCampusIds::contains) ||
+        boolean hasCampusAccess = programCampusIds.stream().anyMatch(profile.getCampusIds()::contains) ||
                                   programCampuses.stream()
-                                      .anyMatch(campus -> userRtiIds.contains(campus.getRegionalTechnologicalInstitute().getId()));
+                                      .anyMatch(campus -> profile.getRtiIds().contains(campus.getRegionalTechnologicalInstitute().getId()));
 
         if (!hasCampusAccess) {
             log.warn("User {} attempted to access curricular unit {} without campus access",
-                currentUser.getUtecEmail(), curricularUnitId);
+                profile.getUtecEmail(), curricularUnitId);
             throw new ForbiddenException(
                 messageService.getMessage("error.access.no-curricular-unit-access")
             );
         }
 
         // Second check: If user has ONLY TEACHER role, validate they have at least one course in this CU
-        if (hasOnlyTeacherRole()) {
+        if (profile.hasOnlyTeacherRole()) {
+            accessProfileResolver.recordQuery();
             boolean hasAssociatedCourse = courseRepository.existsByCurricularUnitIdAndUserId(
                 curricularUnitId, 
-                currentUser.getId()
+                profile.getUserId()
             );
 
             if (!hasAssociatedCourse) {
                 log.warn("User {} attempted to access curricular unit {} without having any associated course",
-                    currentUser.getUtecEmail(), curricularUnitId);
+                    profile.getUtecEmail(), curricularUnitId);
                 throw new ForbiddenException(
                     messageService.getMessage("error.access.no-associated-course-cu")
                 );
@@ -163,61 +149,103 @@ public class AccessControlServiceImpl implements AccessControlService {
     @Override
     @Transactional(readOnly = true)
     public void validateWeeklyPlanningAccess(Long weeklyPlanningId) {
-        // Verify weekly planning exists and get its course
-        if (!weeklyPlanningRepository.existsById(weeklyPlanningId)) {
-            throw new ResourceNotFoundException(
+        accessProfileResolver.recordQuery();
+        CourseOwnership ownership = CourseOwnership.of(courseRepository.findOwnershipByWeeklyPlanningId(weeklyPlanningId))
+            .orElseThrow(() -> new ResourceNotFoundException(
                 messageService.getMessage("error.weekly-planning.not-found")
-            );
-        }
-
-        // Optimized: use direct query instead of loading all courses
-        Course course = courseRepository.findByWeeklyPlanningId(weeklyPlanningId)
-            .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found-for-weekly-planning")));
+            ));
 
-        validateCourseAccess(course.getId());
+        checkCourseAccess(ownership, accessProfileResolver.getCurrentProfile());
     }
 
     @Override
     @Transactional(readOnly = true)
     public void validateProgrammaticContentAccess(Long programmaticContentId) {
-        ProgrammaticContent programmaticContent = programmaticContentRepository.findById(programmaticContentId)
+        accessProfileResolver.recordQuery();
+        CourseOwnership ownership = CourseOwnership.of(courseRepository.findOwnershipByProgrammaticContentId(programmaticContentId))
             .orElseThrow(() -> new ResourceNotFoundException(
                 messageService.getMessage("error.programmatic-content.not-found")
             ));
 
-        WeeklyPlanning weeklyPlanning = programmaticContent.getWeeklyPlanning();
-        validateWeeklyPlanningAccess(weeklyPlanning.getId());
+        checkCourseAccess(ownership, accessProfileResolver.getCurrentProfile());
     }
 
     @Override
     @Transactional(readOnly = true)
     public void validateActivityAccess(Long activityId) {
-        Activity activity = activityRepository.findById(activityId)
+        accessProfileResolver.recordQuery();
+        CourseOwnership ownership = CourseOwnership.of(courseRepository.findOwnershipByActivityId(activityId))
             .orElseThrow(() -> new ResourceNotFoundException(
                 messageService.getMessage("error.activity.not-found")
             ));
 
-        ProgrammaticContent programmaticContent = activity.getProgrammaticContent();
-        validateProgrammaticContentAccess(programmaticContent.getId());
+        checkCourseAccess(ownership, accessProfileResolver.getCurrentProfile());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> filterAccessibleCourseIds(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return Set.of();
+        }
+
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
+
+        accessProfileResolver.recordQuery();
+        Map<Long, CourseOwnership> ownerships = CourseOwnership.byCourseId(
+            courseRepository.findOwnershipByIdIn(new HashSet<>(courseIds))
+        );
+
+        return courseIds.stream()
+            .filter(courseId -> {
+                CourseOwnership ownership = ownerships.get(courseId);
+                return ownership != null && canAccessCourse(ownership, profile);
+            })
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void validateCoursesAccess(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
+
+        accessProfileResolver.recordQuery();
+        Map<Long, CourseOwnership> ownerships = CourseOwnership.byCourseId(
+            courseRepository.findOwnershipByIdIn(new HashSet<>(courseIds))
+        );
+
+        for (Long courseId : courseIds) {
+            CourseOwnership ownership = ownerships.get(courseId);
+
+            if (ownership == null) {
+                throw new ResourceNotFoundException(
+                    messageService.getMessage("error.course.not-found")
+                );
+            }
+
+            checkCourseAccess(ownership, profile);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public void validateCampusAccess(Long campusId) {
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
+        accessProfileResolver.recordQuery();
         Campus campus = campusRepository.findById(campusId)
             .orElseThrow(() -> new ResourceNotFoundException(
                 messageService.getMessage("error.campus.not-found")
             ));
 
-        Set<Long> userCampusIds = getUserCampusIds();
-        Set<Long> userRtiIds = getUserRtiIds();
-
-        boolean hasAccess = userCampusIds.contains(campusId) ||
-                           userRtiIds.contains(campus.getRegionalTechnologicalInstitute().getId());
+        boolean hasAccess = profile.hasAccessToCampus(campusId, campus.getRegionalTechnologicalInstitute().getId());
 
         if (!hasAccess) {
             log.warn("User {} attempted to access campus {} without proper permissions",
-                getCurrentUser().getUtecEmail(), campusId);
+                profile.getUtecEmail(), campusId);
             throw new ForbiddenException(
                 messageService.getMessage("error.access.no-campus-access")
             );
@@ -227,17 +255,17 @@ public class AccessControlServiceImpl implements AccessControlService {
     @Override
     @Transactional(readOnly = true)
     public void validateRtiAccess(Long rtiId) {
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
+        accessProfileResolver.recordQuery();
         if (!rtiRepository.existsById(rtiId)) {
             throw new ResourceNotFoundException(
                 messageService.getMessage("error.rti.not-found")
             );
         }
 
-        Set<Long> userRtiIds = getUserRtiIds();
-
-        if (!userRtiIds.contains(rtiId)) {
+        if (!profile.getRtiIds().contains(rtiId)) {
             log.warn("User {} attempted to access RTI {} without proper permissions",
-                getCurrentUser().getUtecEmail(), rtiId);
+                profile.getUtecEmail(), rtiId);
             throw new ForbiddenException(
                 messageService.getMessage("error.access.no-rti-access")
             );
@@ -247,9 +275,10 @@ public class AccessControlServiceImpl implements AccessControlService {
     @Override
     @Transactional(readOnly = true)
     public void validateProgramAccess(Long programId) {
-        User currentUser = getCurrentUser();
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
         
         // Verify program exists
+        accessProfileResolver.recordQuery();
         if (!programRepository.existsById(programId)) {
             throw new ResourceNotFoundException(
                 messageService.getMessage("error.program.not-found")
@@ -257,6 +286,7 @@ public class AccessControlServiceImpl implements AccessControlService {
         }
 
         // Get campuses where this program is offered
+        accessProfileResolver.recordQuery();
         List<Campus> programCampuses = campusRepository.findByProgram(programId);
 
         if (programCampuses.isEmpty()) {
@@ -267,32 +297,30 @@ public class AccessControlServiceImpl implements AccessControlService {
             .map(Campus::getId)
             .collect(Collectors.toSet());
 
-        Set<Long> userCampusIds = getUserCampusIds();
-        Set<Long> userRtiIds = getUserRtiIds();
-
         // First check: User must have access to the campus/RTI where the program is offered
-        boolean hasCampusAccess = programCampusIds.stream().anyMatch(userCampusIds::contains) ||
+        boolean hasCampusAccess = programCampusIds.stream().anyMatch(profile.getCampusIds()::contains) ||
                                   programCampuses.stream()
-                                      .anyMatch(campus -> userRtiIds.contains(campus.getRegionalTechnologicalInstitute().getId()));
+                                      .anyMatch(campus -> profile.getRtiIds().contains(campus.getRegionalTechnologicalInstitute().getId()));
 
         if (!hasCampusAccess) {
             log.warn("User {} attempted to access program {} without campus access",
-                currentUser.getUtecEmail(), programId);
+                profile.getUtecEmail(), programId);
             throw new ForbiddenException(
                 messageService.getMessage("error.access.no-program-access")
             );
         }
 
         // Second check: If user has ONLY TEACHER role, validate they have at least one course in this program
-        if (hasOnlyTeacherRole()) {
+        if (profile.hasOnlyTeacherRole()) {
+            accessProfileResolver.recordQuery();
             boolean hasAssociatedCourse = courseRepository.existsByProgramIdAndUserId(
                 programId, 
-                currentUser.getId()
+                profile.getUserId()
             );
 
             if (!hasAssociatedCourse) {
                 log.warn("User {} attempted to access program {} without having any associated course",
-                    currentUser.getUtecEmail(), programId);
+                    profile.getUtecEmail(), programId);
                 throw new ForbiddenException(
                     messageService.getMessage("error.access.no-associated-course-program")
                 );
@@ -305,7 +333,8 @@ public class AccessControlServiceImpl implements AccessControlService {
     @Override
     @Transactional(readOnly = true)
     public void validateTermAccess(Long termId) {
-        User currentUser = getCurrentUser();
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
+        accessProfileResolver.recordQuery();
         Term term = termRepository.findById(termId)
             .orElseThrow(() -> new ResourceNotFoundException(
                 messageService.getMessage("error.term.not-found")
@@ -319,15 +348,16 @@ public class AccessControlServiceImpl implements AccessControlService {
         // Additional check: If user has ONLY TEACHER role, validate they have at least one course in this specific term
         // Note: validateProgramAccess already validated they have courses in the program,
         // but we need to ensure they have courses in THIS specific term
-        if (hasOnlyTeacherRole()) {
+        if (profile.hasOnlyTeacherRole()) {
+            accessProfileResolver.recordQuery();
             boolean hasAssociatedCourse = courseRepository.existsByTermIdAndUserId(
                 termId, 
-                currentUser.getId()
+                profile.getUserId()
             );
 
             if (!hasAssociatedCourse) {
                 log.warn("User {} attempted to access term {} without having any associated course in this term",
-                    currentUser.getUtecEmail(), termId);
+                    profile.getUtecEmail(), termId);
                 throw new ForbiddenException(
                     messageService.getMessage("error.access.no-associated-course-term")
                 );
@@ -337,127 +367,57 @@ public class AccessControlServiceImpl implements AccessControlService {
 
     @Override
     public boolean hasAccessToCampus(Long campusId) {
+        accessProfileResolver.recordQuery();
         Campus campus = campusRepository.findById(campusId).orElse(null);
         if (campus == null) {
             return false;
         }
 
-        Set<Long> userCampusIds = getUserCampusIds();
-        Set<Long> userRtiIds = getUserRtiIds();
-
-        return userCampusIds.contains(campusId) ||
-               userRtiIds.contains(campus.getRegionalTechnologicalInstitute().getId());
+        return accessProfileResolver.getCurrentProfile()
+            .hasAccessToCampus(campusId, campus.getRegionalTechnologicalInstitute().getId());
     }
 
     @Override
     public boolean hasAccessToRti(Long rtiId) {
-        Set<Long> userRtiIds = getUserRtiIds();
-        return userRtiIds.contains(rtiId);
-    }
-
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return (User) authentication.getPrincipal();
-    }
-
-    private Set<Long> getUserCampusIds() {
-        User user = getCurrentUser();
-        User fullUser = userRepository.findByIdWithPositions(user.getId())
-            .orElseThrow(() -> new RuntimeException(messageService.getMessage("error.user.not-found")));
-
-        return fullUser.getPositions().stream()
-            .filter(Position::getIsActive)
-            .flatMap(position -> position.getCampuses().stream())
-            .map(Campus::getId)
-            .collect(Collectors.toSet());
-    }
-
-    private Set<Long> getUserRtiIds() {
-        User user = getCurrentUser();
-        User fullUser = userRepository.findByIdWithPositions(user.getId())
-            .orElseThrow(() -> new RuntimeException(messageService.getMessage("error.user.not-found")));
-
-        return fullUser.getPositions().stream()
-            .filter(Position::getIsActive)
-            .flatMap(position -> position.getCampuses().stream())
-            .map(Campus::getRegionalTechnologicalInstitute)
-            .map(RegionalTechnologicalInstitute::getId)
-            .collect(Collectors.toSet());
-    }
-
-    /**
-     * Checks if the current user has ONLY the TEACHER role in all their active positions.
-     * Returns true if ALL active positions are TEACHER role.
-     * Returns false if user has any administrative role (EDUCATION_MANAGER, COORDINATOR, ANALYST).
-     *
-     * @return true if user has only TEACHER role in all active positions
-     */
-    private boolean hasOnlyTeacherRole() {
-        User user = getCurrentUser();
-        User fullUser = userRepository.findByIdWithPositions(user.getId())
-            .orElseThrow(() -> new RuntimeException(messageService.getMessage("error.user.not-found")));
-
-        List<Position> activePositions = fullUser.getPositions().stream()
-            .filter(Position::getIsActive)
-            .toList();
-
-        if (activePositions.isEmpty()) {
-            return false;
-        }
-
-        // Check if ALL active positions are TEACHER role
-        return activePositions.stream()
-            .allMatch(position -> position.getRole() == Role.TEACHER);
+        return accessProfileResolver.getCurrentProfile().getRtiIds().contains(rtiId);
     }
 
-    /**
-     * Checks if the current user has AT LEAST one TEACHER role in their active positions.
-     * Used for write access validation - even if user has administrative roles,
-     * if they also have TEACHER role, ownership must be validated for write operations.
-     *
-     * @return true if user has at least one active TEACHER position
-     */
-    private boolean hasTeacherRole() {
-        User user = getCurrentUser();
-        User fullUser = userRepository.findByIdWithPositions(user.getId())
-            .orElseThrow(() -> new RuntimeException(messageService.getMessage("error.user.not-found")));
-
-        return fullUser.getPositions().stream()
-            .filter(Position::getIsActive)
-            .anyMatch(position -> position.getRole() == Role.TEACHER);
+    private CourseOwnership findOwnership(Long courseId) {
+        accessProfileResolver.recordQuery();
+        return CourseOwnership.of(courseRepository.findOwnershipById(courseId))
+            .orElseThrow(() -> new ResourceNotFoundException(
+                messageService.getMessage("error.course.not-found")
+            ));
     }
 
     @Override
     @Transactional(readOnly = true)
     public void validateCoursePlanningManagement(Long courseId) {
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
+        CourseOwnership ownership = findOwnership(courseId);
+
         // First, validate basic course access (campus/RTI check)
-        validateCourseAccess(courseId);
+        checkCourseAccess(ownership, profile);
 
         // If user has TEACHER role (regardless of other roles), validate ownership for planning management operations
         // This applies to all planning hierarchy (WeeklyPlanning, ProgrammaticContent, Activity, OfficeHours)
-        if (hasTeacherRole()) {
-            User currentUser = getCurrentUser();
-            Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found")));
-
-            boolean isTeacherOfCourse = course.getTeachers().stream()
-                .anyMatch(teacher -> teacher.getUser().getId().equals(currentUser.getId()));
+        if (profile.hasTeacherRole()) {
+            boolean isTeacherOfCourse = ownership.isTeacher(profile.getUserId());
 
             if (!isTeacherOfCourse) {
                 log.warn("User {} attempted to manage planning for course {} without being assigned as teacher",
-                    currentUser.getUtecEmail(), courseId);
+                    profile.getUtecEmail(), courseId);
                 throw new ForbiddenException(
                     messageService.getMessage("error.access.cannot-manage-planning")
                 );
             }
             
-            log.debug("User {} validated as teacher of course {} for planning management", currentUser.getUtecEmail(), courseId);
+            log.debug("User {} validated as teacher of course {} for planning management", profile.getUtecEmail(), courseId);
         } else {
             // If user doesn't have TEACHER role at all, throw exception
             // (administrative operations should use validateCourseUpdateAccess or validateCourseDeleteAccess instead)
-            User currentUser = getCurrentUser();
             log.warn("User {} without TEACHER role attempted to use validateCoursePlanningManagement on course {}",
-                currentUser.getUtecEmail(), courseId);
+                profile.getUtecEmail(), courseId);
             throw new ForbiddenException(
                 messageService.getMessage("error.access.must-have-teacher-role")
             );
@@ -467,36 +427,20 @@ public class AccessControlServiceImpl implements AccessControlService {
     @Override
     @Transactional(readOnly = true)
     public void validateCourseUpdateAccess(Long courseId) {
-        User currentUser = getCurrentUser();
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
         
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException(
-                messageService.getMessage("error.course.not-found")
-            ));
-
-        // Get course's campus directly from the new relationship
-        Campus courseCampus = course.getCampus();
-        Long courseCampusId = courseCampus.getId();
+        CourseOwnership ownership = findOwnership(courseId);
 
-        // Get user's active positions with ANALYST or COORDINATOR roles in the course's campus
-        User fullUser = userRepository.findByIdWithPositions(currentUser.getId())
-            .orElseThrow(() -> new RuntimeException(messageService.getMessage("error.user.not-found", currentUser.getId())));
-
-        boolean hasAdminRole = fullUser.getPositions().stream()
-            .filter(Position::getIsActive)
-            .filter(position -> position.getRole() == Role.ANALYST || position.getRole() == Role.COORDINATOR)
-            .flatMap(position -> position.getCampuses().stream())
-            .map(Campus::getId)
-            .anyMatch(campusId -> campusId.equals(courseCampusId));
+        // User's active positions with ANALYST or COORDINATOR roles in the course's campus
+        boolean hasAdminRole = profile.hasAdministrativeRoleInCampus(ownership.campusId());
 
         // Check if user is a teacher of this course
-        boolean isTeacherOfCourse = course.getTeachers().stream()
-            .anyMatch(teacher -> teacher.getUser().getId().equals(currentUser.getId()));
+        boolean isTeacherOfCourse = hasAdminRole || ownership.isTeacher(profile.getUserId());
 
         // User must have either administrative role OR be a teacher of the course
         if (!hasAdminRole && !isTeacherOfCourse) {
             log.warn("User {} attempted to update course {} without ANALYST/COORDINATOR role or being assigned as teacher",
-                currentUser.getUtecEmail(), courseId);
+                profile.getUtecEmail(), courseId);
             throw new ForbiddenException(
                 messageService.getMessage("error.access.cannot-update-course")
             );
@@ -504,62 +448,46 @@ public class AccessControlServiceImpl implements AccessControlService {
 
         if (hasAdminRole) {
             log.debug("User {} has update access to course {} through ANALYST/COORDINATOR role", 
-                currentUser.getUtecEmail(), courseId);
+                profile.getUtecEmail(), courseId);
         } else {
             log.debug("User {} has update access to course {} as assigned teacher", 
-                currentUser.getUtecEmail(), courseId);
+                profile.getUtecEmail(), courseId);
         }
     }
 
     @Override
     @Transactional(readOnly = true)
     public void validateCourseDeleteAccess(Long courseId) {
-        User currentUser = getCurrentUser();
+        UserAccessProfile profile = accessProfileResolver.getCurrentProfile();
         
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found")));
-
-        // Get course's campus directly from the new relationship
-        Campus courseCampus = course.getCampus();
-        Long courseCampusId = courseCampus.getId();
-
-        // Get user's active positions with ANALYST or COORDINATOR roles in the course's campus
-        User fullUser = userRepository.findByIdWithPositions(currentUser.getId())
-            .orElseThrow(() -> new RuntimeException(messageService.getMessage("error.user.not-found", currentUser.getId())));
+        CourseOwnership ownership = findOwnership(courseId);
 
-        boolean hasAdminRole = fullUser.getPositions().stream()
-            .filter(Position::getIsActive)
-            .filter(position -> position.getRole() == Role.ANALYST || position.getRole() == Role.COORDINATOR)
-            .flatMap(position -> position.getCampuses().stream())
-            .map(Campus::getId)
-            .anyMatch(campusId -> campusId.equals(courseCampusId));
+        // User's active positions with ANALYST or COORDINATOR roles in the course's campus
+        boolean hasAdminRole = profile.hasAdministrativeRoleInCampus(ownership.campusId());
 
         // Only users with ANALYST or COORDINATOR roles can delete courses
         // Teachers are NOT allowed to delete courses
         if (!hasAdminRole) {
             log.warn("User {} attempted to delete course {} without ANALYST or COORDINATOR role in the appropriate campus",
-                currentUser.getUtecEmail(), courseId);
+                profile.getUtecEmail(), courseId);
             throw new ForbiddenException(
                 messageService.getMessage("error.access.cannot-delete-course")
             );
         }
 
         log.debug("User {} has delete access to course {} through ANALYST/COORDINATOR role", 
-            currentUser.getUtecEmail(), courseId);
+            profile.getUtecEmail(), courseId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public void validateCourseNotExpired(Long courseId) {
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException(
-                messageService.getMessage("error.course.not-found")
-            ));
+        CourseOwnership ownership = findOwnership(courseId);
 
-        if (course.getEndDate() != null && course.getEndDate().isBefore(java.time.LocalDate.now())) {
-            User currentUser = getCurrentUser();
+        if (ownership.isFinished(java.time.LocalDate.now())) {
+            AuthenticatedUser currentUser = accessProfileResolver.getCurrentUser();
             log.warn("User {} attempted to modify expired course {} (endDate: {})",
-                currentUser.getUtecEmail(), courseId, course.getEndDate());
+                currentUser.getUtecEmail(), courseId, ownership.endDate());
             throw new IllegalArgumentException(
                 messageService.getMessage("error.course.already-finished")
             );
@@ -6,7 +6,9 @@ import edu.utec.planificador.dto.response.UserResponse;
 import edu.utec.planificador.entity.User;
 import edu.utec.planificador.exception.InvalidCredentialsException;
 import edu.utec.planificador.repository.UserRepository;
+import edu.utec.planificador.security.AuthenticatedUser;
 import edu.utec.planificador.security.JwtTokenProvider;
+import edu.utec.planificador.security.LastLoginTracker;
 import edu.utec.planificador.security.LoginAttemptService;
 import edu.utec.planificador.service.AuthenticationService;
 import edu.utec.planificador.service.AuthenticationStrategy;
@@ -32,14 +34,19 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final JwtTokenProvider tokenProvider;
     private final List<AuthenticationStrategy> authenticationStrategies;
     private final LoginAttemptService loginAttemptService;
+    private final LastLoginTracker lastLoginTracker;
     private final HttpServletRequest request;
     private final MessageService messageService;
 
     @Value("${security.auth.default-provider:LOCAL}")
     private String defaultAuthProvider;
 
+    /**
+     * Not transactional on purpose: the password check may wait for a verification thread, and
+     * holding a database connection meanwhile would starve the pool shared with the rest of the API.
+     * Strategies load the user together with its positions, which is all the response needs.
+     */
     @Override
-    @Transactional
     public AuthResponse login(LoginRequest loginRequest) {
         String email = loginRequest.getEmail();
         String clientIP = getClientIP();
@@ -103,16 +110,25 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             );
         }
 
-        User user = (User) authentication.getPrincipal();
+        // Stateless requests carry a lightweight principal, so the full user is loaded only here
+        User user = authentication.getPrincipal() instanceof User principalUser
+            ? principalUser
+            : userRepository.findByIdWithPositions(((AuthenticatedUser) authentication.getPrincipal()).getId())
+                .orElseThrow(() -> new InvalidCredentialsException(
+                    messageService.getMessage("auth.error.user-not-authenticated")
+                ));
 
         return buildUserResponse(user);
     }
 
+    /**
+     * Buffered by {@link LastLoginTracker} and written in batches, off the login path.
+     */
     @Override
-    @Transactional
     public void updateLastLogin(User user) {
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        LocalDateTime now = LocalDateTime.now();
+        lastLoginTracker.record(user.getId(), now);
+        user.setLastLoginAt(now);
     }
 
     private String determineAuthProvider(String email) {
@@ -183,7 +199,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 )
                 .enabled(user.isEnabled())
                 .createdAt(user.getCreatedAt())
-                .lastLoginAt(user.getLastLoginAt())
+                .lastLoginAt(lastLoginTracker.resolve(user.getId(), user.getLastLoginAt()))
                 .build();
     }
 }
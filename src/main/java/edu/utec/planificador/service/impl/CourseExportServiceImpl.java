@@ -0,0 +1,219 @@
+package edu.utec.planificador.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.utec.planificador.dto.response.CourseBasicResponse;
+import edu.utec.planificador.dto.response.UserBasicResponse;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.enumeration.CourseExportFormat;
+import edu.utec.planificador.mapper.CourseMapper;
+import edu.utec.planificador.mapper.UserMapper;
+import edu.utec.planificador.repository.CourseRepository;
+import edu.utec.planificador.repository.projection.CourseListingView;
+import edu.utec.planificador.repository.projection.CourseTeacherView;
+import edu.utec.planificador.service.AccessControlService;
+import edu.utec.planificador.service.CourseExportService;
+import edu.utec.planificador.service.MessageService;
+import edu.utec.planificador.specification.CourseSpecification;
+import edu.utec.planificador.util.AcademicPeriodUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Exportación de todos los cursos de una sede o ITR en JSON Lines o CSV.
+ * <p>
+ * Las filas se leen con un cursor forward-only ({@code fetch-size} filas por viaje a la base) y se
+ * escriben en bloques de {@code chunk-size}: por bloque, una query para sus docentes, un flush hacia
+ * el cliente y un clear del contexto de persistencia. La memoria usada no depende del total exportado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseExportServiceImpl implements CourseExportService {
+
+    private static final List<String> CSV_HEADER = List.of(
+        "id", "description", "shift", "period", "startDate", "endDate", "curricularUnit",
+        "term", "program", "campus", "teachers", "lastModificationDate"
+    );
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final UserMapper userMapper;
+    private final AccessControlService accessControlService;
+    private final MessageService messageService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${course.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${course.export.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public StreamingResponseBody exportCourses(Long campusId, Long rtiId, String period, CourseExportFormat format) {
+        log.debug("Exporting courses - campusId: {}, rtiId: {}, period: {}, format: {}", campusId, rtiId, period, format);
+
+        // La validación corre en el hilo del request, antes de empezar a escribir la respuesta
+        if (campusId != null) {
+            accessControlService.validateCampusAccess(campusId);
+        } else if (rtiId != null) {
+            accessControlService.validateRtiAccess(rtiId);
+        } else {
+            throw new IllegalArgumentException(messageService.getMessage("error.course.export-scope-required"));
+        }
+
+        // Con sede, el ITR se ignora (la validación de acceso fue sobre la sede)
+        Specification<Course> specification = campusId != null
+            ? CourseSpecification.withFilters(null, campusId, period, null)
+            : CourseSpecification.withFilters(null, null, period, null)
+                .and(CourseSpecification.inRegionalTechnologicalInstitute(rtiId));
+
+        return outputStream -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(specification, format, outputStream));
+            } catch (UncheckedIOException e) {
+                // Normalmente el cliente cortó la descarga
+                log.warn("Course export interrupted: {}", e.getMessage());
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void write(Specification<Course> specification, CourseExportFormat format, OutputStream outputStream) {
+        long start = System.nanoTime();
+        long exported = 0;
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+            if (format == CourseExportFormat.CSV) {
+                writeCsvLine(writer, CSV_HEADER);
+                writer.flush();
+            }
+
+            try (Stream<CourseListingView> rows = courseRepository.streamListing(specification, fetchSize)) {
+                Iterator<CourseListingView> iterator = rows.iterator();
+                List<CourseListingView> chunk = new ArrayList<>(chunkSize);
+
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+
+                    if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                        writeChunk(chunk, format, writer);
+                        exported += chunk.size();
+                        chunk.clear();
+                    }
+                }
+            }
+
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Exported {} courses as {} in {} ms", exported, format, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void writeChunk(List<CourseListingView> chunk, CourseExportFormat format, Writer writer) throws IOException {
+        Map<Long, List<UserBasicResponse>> teachersByCourse = courseRepository
+            .findTeachersByCourseIdIn(chunk.stream().map(CourseListingView::id).toList())
+            .stream()
+            .collect(Collectors.groupingBy(
+                CourseTeacherView::getCourseId,
+                Collectors.mapping(userMapper::toTeacherBasicResponse, Collectors.toList())
+            ));
+
+        for (CourseListingView row : chunk) {
+            CourseBasicResponse course = courseMapper.toBasicResponse(row, teachersByCourse.getOrDefault(row.id(), List.of()));
+
+            switch (format) {
+                case JSONL -> {
+                    writer.write(objectMapper.writeValueAsString(course));
+                    writer.write('\n');
+                }
+                case CSV -> writeCsvLine(writer, toCsvValues(course));
+            }
+        }
+
+        writer.flush();
+        // Las filas son proyecciones, pero el contexto no debe crecer durante una exportación larga
+        entityManager.clear();
+    }
+
+    private List<String> toCsvValues(CourseBasicResponse course) {
+        String teachers = course.getTeachers().stream()
+            .map(teacher -> teacher.getFullName() != null
+                ? teacher.getFullName() + " <" + teacher.getEmail() + ">"
+                : teacher.getEmail())
+            .collect(Collectors.joining("; "));
+
+        return Arrays.asList(
+            String.valueOf(course.getId()),
+            course.getDescription(),
+            course.getShift(),
+            AcademicPeriodUtils.toPeriod(AcademicPeriodUtils.keyOf(course.getStartDate())),
+            String.valueOf(course.getStartDate()),
+            String.valueOf(course.getEndDate()),
+            course.getCurricularUnitName(),
+            course.getTermName(),
+            course.getProgramName(),
+            course.getCampusName(),
+            teachers,
+            course.getLastModificationDate() != null ? course.getLastModificationDate().toString() : null
+        );
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180; además evita que una planilla interprete como fórmula un texto que empieza con =, +, - o @
+    private String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        String field = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+
+        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+
+        return field;
+    }
+}
@@ -0,0 +1,156 @@
+package edu.utec.planificador.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Node-local cache of the academic periods listed by GET /courses/periods, keyed by the
+ * (campusId, userId) filter. Any course change (or a teacher position change) clears it,
+ * since a single course can affect the periods of every filter; the TTL bounds how long
+ * other nodes keep stale entries. Statistics are published as the {@code cache.*} metrics
+ * with {@code cache=coursePeriods}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoursePeriodCache {
+
+    public static final String CACHE_NAME = "coursePeriods";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${course.periods-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${course.periods-cache.max-entries:1000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<Key, CachedPeriods> periods = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // Bumped on every invalidation so a load that started before it is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        new PeriodCacheMetrics(this).bindTo(meterRegistry);
+    }
+
+    /**
+     * Returns the cached periods for the filter, loading them with the given loader on a miss.
+     */
+    public List<String> get(Long campusId, Long userId, Supplier<List<String>> loader) {
+        if (ttlSeconds <= 0 || maxEntries <= 0) {
+            misses.incrementAndGet();
+            return loader.get();
+        }
+
+        Key key = new Key(campusId, userId);
+        long now = System.nanoTime();
+
+        CachedPeriods cached = periods.get(key);
+        if (cached != null && now - cached.loadedAt() < TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+            hits.incrementAndGet();
+            return cached.periods();
+        }
+
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        List<String> loaded = List.copyOf(loader.get());
+
+        if (loadGeneration == generation.get()) {
+            if (periods.size() >= maxEntries) {
+                evictions.addAndGet(periods.size());
+                periods.clear();
+            }
+
+            periods.put(key, new CachedPeriods(loaded, now));
+            puts.incrementAndGet();
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Clears every entry. When called inside a transaction the cache is cleared again when it
+     * completes, so periods loaded concurrently from the old data are not kept.
+     */
+    public void invalidateAll() {
+        clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        periods.clear();
+        log.debug("Course period cache cleared");
+    }
+
+    private record Key(Long campusId, Long userId) {
+    }
+
+    private record CachedPeriods(List<String> periods, long loadedAt) {
+    }
+
+    private static final class PeriodCacheMetrics extends CacheMeterBinder<CoursePeriodCache> {
+
+        private PeriodCacheMetrics(CoursePeriodCache cache) {
+            super(cache, CACHE_NAME, Tags.empty());
+        }
+
+        @Override
+        protected Long size() {
+            return (long) getCache().periods.size();
+        }
+
+        @Override
+        protected long hitCount() {
+            return getCache().hits.get();
+        }
+
+        @Override
+        protected Long missCount() {
+            return getCache().misses.get();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return getCache().evictions.get();
+        }
+
+        @Override
+        protected long putCount() {
+            return getCache().puts.get();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+    }
+}
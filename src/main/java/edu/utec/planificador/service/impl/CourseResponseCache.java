@@ -0,0 +1,222 @@
+package edu.utec.planificador.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.utec.planificador.dto.response.CourseResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Node-local cache of the {@link CourseResponse} served by GET /courses/{id}, keyed by course ID
+ * and a per-course version. Every course mutation bumps the version, so an entry built from an
+ * older version is never served again; the TTL bounds how long other nodes (and changes to the
+ * related curricular unit, campus or teacher names) stay stale. Only the data assembly is
+ * cached: access checks still run for every caller.
+ * <p>
+ * Statistics are published as the {@code cache.*} metrics with {@code cache=courseResponses},
+ * plus {@code cache.hit.ratio} and {@code cache.memory.estimated} (size of the cached responses
+ * serialized as JSON).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseResponseCache {
+
+    public static final String CACHE_NAME = "courseResponses";
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${course.response-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${course.response-cache.max-entries:5000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<Long, CachedCourse> courses = new ConcurrentHashMap<>();
+
+    // Versión actual de cada curso modificado desde el arranque (0 si nunca se modificó)
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        new CourseResponseCacheMetrics(this).bindTo(meterRegistry);
+    }
+
+    /**
+     * Returns the cached response for the current version of the course, loading it with the
+     * given loader on a miss. The returned instance is shared between callers and must not be
+     * modified.
+     */
+    public CourseResponse get(Long courseId, Supplier<CourseResponse> loader) {
+        if (ttlSeconds <= 0 || maxEntries <= 0) {
+            misses.incrementAndGet();
+            return loader.get();
+        }
+
+        long version = currentVersion(courseId);
+        long now = System.nanoTime();
+
+        CachedCourse cached = courses.get(courseId);
+        if (cached != null && cached.version() == version
+            && now - cached.loadedAt() < TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+            hits.incrementAndGet();
+            return cached.response();
+        }
+
+        misses.incrementAndGet();
+        CourseResponse loaded = loader.get();
+
+        // Si el curso se modificó mientras se cargaba, la respuesta puede ser de la versión anterior
+        if (loaded != null && version == currentVersion(courseId)) {
+            if (courses.size() >= maxEntries) {
+                evictExpiredOrAll(now);
+            }
+
+            replace(courseId, new CachedCourse(loaded, version, estimateSize(loaded), now));
+            puts.incrementAndGet();
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Bumps the version of the course and drops its entry. When called inside a transaction the
+     * version is bumped again when it completes, so a response loaded concurrently from the
+     * uncommitted state (or the state before the commit) is not kept.
+     */
+    public void invalidate(Long courseId) {
+        bump(courseId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(courseId);
+                }
+            });
+        }
+    }
+
+    public long currentVersion(Long courseId) {
+        return versions.getOrDefault(courseId, 0L);
+    }
+
+    private void bump(Long courseId) {
+        versions.merge(courseId, 1L, Long::sum);
+        replace(courseId, null);
+        log.debug("Course response cache entry invalidated for course {}", courseId);
+    }
+
+    private void replace(Long courseId, CachedCourse entry) {
+        CachedCourse previous = entry != null ? courses.put(courseId, entry) : courses.remove(courseId);
+
+        estimatedBytes.addAndGet((entry != null ? entry.estimatedBytes() : 0)
+            - (previous != null ? previous.estimatedBytes() : 0));
+    }
+
+    private void evictExpiredOrAll(long now) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+        courses.forEach((courseId, entry) -> {
+            if (now - entry.loadedAt() >= ttlNanos && courses.remove(courseId, entry)) {
+                estimatedBytes.addAndGet(-entry.estimatedBytes());
+                evictions.incrementAndGet();
+            }
+        });
+
+        if (courses.size() >= maxEntries) {
+            courses.forEach((courseId, entry) -> {
+                if (courses.remove(courseId, entry)) {
+                    estimatedBytes.addAndGet(-entry.estimatedBytes());
+                    evictions.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private long estimateSize(CourseResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response).length;
+        } catch (JsonProcessingException e) {
+            log.debug("Could not estimate cached size of course {}: {}", response.getId(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private record CachedCourse(CourseResponse response, long version, long estimatedBytes, long loadedAt) {
+    }
+
+    private static final class CourseResponseCacheMetrics extends CacheMeterBinder<CourseResponseCache> {
+
+        private CourseResponseCacheMetrics(CourseResponseCache cache) {
+            super(cache, CACHE_NAME, Tags.empty());
+        }
+
+        @Override
+        protected Long size() {
+            return (long) getCache().courses.size();
+        }
+
+        @Override
+        protected long hitCount() {
+            return getCache().hits.get();
+        }
+
+        @Override
+        protected Long missCount() {
+            return getCache().misses.get();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return getCache().evictions.get();
+        }
+
+        @Override
+        protected long putCount() {
+            return getCache().puts.get();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            Gauge.builder("cache.hit.ratio", getCache(), CourseResponseCache::hitRatio)
+                .tags(getTagsWithCacheName())
+                .description("Fraction of lookups served from the cache")
+                .register(registry);
+
+            Gauge.builder("cache.memory.estimated", getCache(), cache -> cache.estimatedBytes.get())
+                .tags(getTagsWithCacheName())
+                .baseUnit(BaseUnits.BYTES)
+                .description("Estimated footprint of the cached responses (serialized JSON size)")
+                .register(registry);
+        }
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -1,53 +1,78 @@
 package edu.utec.planificador.service.impl;
 
 import edu.utec.planificador.dto.aiagent.AIReportRequest.CourseStatisticsDto;
+import edu.utec.planificador.dto.request.CourseBulkRequest;
 import edu.utec.planificador.dto.request.CourseRequest;
 import edu.utec.planificador.dto.response.CourseBasicResponse;
 import edu.utec.planificador.dto.response.CourseBriefResponse;
+import edu.utec.planificador.dto.response.CourseBulkItemResponse;
+import edu.utec.planificador.dto.response.CourseBulkResponse;
 import edu.utec.planificador.dto.response.CourseDetailedInfoResponse;
 import edu.utec.planificador.dto.response.CoursePdfDataResponse;
 import edu.utec.planificador.dto.response.CourseResponse;
+import edu.utec.planificador.dto.response.CursorPageResponse;
 import edu.utec.planificador.dto.response.PeriodResponse;
 import edu.utec.planificador.dto.response.TeacherCourseResponse;
-import edu.utec.planificador.entity.Activity;
+import edu.utec.planificador.dto.response.UserBasicResponse;
 import edu.utec.planificador.entity.Campus;
 import edu.utec.planificador.entity.Course;
 import edu.utec.planificador.entity.CurricularUnit;
 import edu.utec.planificador.entity.OfficeHours;
 import edu.utec.planificador.entity.Position;
-import edu.utec.planificador.entity.ProgrammaticContent;
 import edu.utec.planificador.entity.Teacher;
 import edu.utec.planificador.entity.User;
 import edu.utec.planificador.entity.WeeklyPlanning;
+import edu.utec.planificador.enumeration.BulkItemStatus;
+import edu.utec.planificador.enumeration.CourseSortField;
 import edu.utec.planificador.enumeration.DeliveryFormat;
 import edu.utec.planificador.enumeration.PartialGradingSystem;
 import edu.utec.planificador.enumeration.Role;
 import edu.utec.planificador.enumeration.SustainableDevelopmentGoal;
 import edu.utec.planificador.enumeration.UniversalDesignLearningPrinciple;
+import edu.utec.planificador.exception.BusinessException;
 import edu.utec.planificador.exception.ForbiddenException;
 import edu.utec.planificador.exception.ResourceNotFoundException;
 import edu.utec.planificador.mapper.CourseMapper;
 import edu.utec.planificador.mapper.CourseStatisticsMapper;
+import edu.utec.planificador.mapper.UserMapper;
 import edu.utec.planificador.repository.CampusRepository;
 import edu.utec.planificador.repository.CourseRepository;
 import edu.utec.planificador.repository.CurricularUnitRepository;
+import edu.utec.planificador.repository.PlanningCopyRepository;
+import edu.utec.planificador.repository.PositionRepository;
 import edu.utec.planificador.repository.UserRepository;
+import edu.utec.planificador.repository.projection.CourseListingView;
+import edu.utec.planificador.repository.projection.CourseTeacherView;
+import edu.utec.planificador.security.AuthenticatedUser;
 import edu.utec.planificador.service.AccessControlService;
 import edu.utec.planificador.service.CourseService;
+import edu.utec.planificador.service.CurricularUnitSearch;
 import edu.utec.planificador.service.MessageService;
 import edu.utec.planificador.specification.CourseSpecification;
+import edu.utec.planificador.util.AcademicPeriodUtils;
+import edu.utec.planificador.util.Constants;
+import edu.utec.planificador.util.KeysetCursor;
 import edu.utec.planificador.util.WeeklyPlanningGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -68,21 +93,34 @@ public class CourseServiceImpl implements CourseService {
     private final CampusRepository campusRepository;
     private final CourseMapper courseMapper;
     private final CourseStatisticsMapper courseStatisticsMapper;
+    private final UserMapper userMapper;
     private final AccessControlService accessControlService;
     private final MessageService messageService;
+    private final CoursePeriodCache coursePeriodCache;
+    private final CourseResponseCache courseResponseCache;
+    private final CurricularUnitSearch curricularUnitSearch;
+    private final PositionRepository positionRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${course.search.ranked-matches:200}")
+    private int searchRankedMatches;
+
+    @Value("${course.bulk.max-items:500}")
+    private int bulkMaxItems;
+
+    @Value("${course.bulk.chunk-size:100}")
+    private int bulkChunkSize;
 
     @Override
     @Transactional
     public CourseResponse createCourse(CourseRequest request) {
         log.debug("Creating course for curricular unit: {}", request.getCurricularUnitId());
         
-        // Validate startDate <= endDate
-        if (request.getStartDate() != null && request.getEndDate() != null && 
-            request.getStartDate().isAfter(request.getEndDate())) {
-            throw new IllegalArgumentException(
-                messageService.getMessage("error.course.start-after-end")
-            );
-        }
+        validateDates(request);
         
         accessControlService.validateCurricularUnitAccess(request.getCurricularUnitId());
 
@@ -97,6 +135,293 @@ public class CourseServiceImpl implements CourseService {
                 messageService.getMessage("error.campus.not-found")
             ));
         
+        validateProgramOfferedAtCampus(curricularUnit, campus);
+        
+        // Validate teachers
+        List<Teacher> teachers = new ArrayList<>();
+        for (Long userId : request.getUserIds()) {
+            User user = userRepository.findByIdWithPositions(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.user.not-found")));
+            
+            teachers.add(requireTeacherInCampus(user, request.getCampusId()));
+        }
+        
+        log.debug("Validated {} teacher(s) for course at campus {}", teachers.size(), campus.getId());
+        
+        validateHours(request);
+        
+        Course course = newCourse(request, curricularUnit.getName(), curricularUnit, campus, teachers);
+        
+        curricularUnit.getCourses().add(course);
+        
+        // Guardar el curso con WeeklyPlannings vacíos
+        Course savedCourse = courseRepository.save(course);
+        log.info("Course created successfully with id: {} and {} teacher(s) - planning is empty and must be loaded manually by teacher", 
+            savedCourse.getId(), teachers.size());
+        
+        return courseMapper.toResponse(savedCourse);
+    }
+
+    /*
+     * Creación masiva: todas las unidades curriculares, sedes y docentes de la solicitud se resuelven
+     * con una query IN por tipo y todos los cursos se validan antes de insertar el primero. Los cursos
+     * válidos se insertan en bloques de chunk-size (flush + clear por bloque): con atomic=true todos en
+     * una misma transacción y solo si ningún curso es inválido; si no, una transacción por bloque.
+     */
+    @Override
+    public CourseBulkResponse createCourses(CourseBulkRequest request) {
+        List<CourseRequest> items = request.getCourses();
+        boolean atomic = Boolean.TRUE.equals(request.getAtomic());
+        log.debug("Creating {} courses in bulk (atomic: {})", items.size(), atomic);
+
+        if (items.size() > bulkMaxItems) {
+            throw new IllegalArgumentException(
+                messageService.getMessage("error.course.bulk-too-many", bulkMaxItems)
+            );
+        }
+
+        CourseBulkItemResponse[] results = new CourseBulkItemResponse[items.size()];
+
+        // Fuera de la transacción de validación: una excepción de acceso la marcaría como rollback-only
+        Map<Long, Optional<RuntimeException>> curricularUnitAccess = validateCurricularUnitsAccess(items);
+
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        List<BulkCourse> validCourses = readOnlyTransaction.execute(
+            status -> validateBulkCourses(items, curricularUnitAccess, results)
+        );
+
+        if (atomic && validCourses.size() < items.size()) {
+            String aborted = messageService.getMessage("error.course.bulk-aborted");
+            validCourses.forEach(course -> results[course.index()] = bulkItem(course.index(), BulkItemStatus.SKIPPED, null, aborted));
+        } else if (!validCourses.isEmpty()) {
+            insertBulkCourses(validCourses, atomic, results);
+        }
+
+        int created = (int) Arrays.stream(results)
+            .filter(result -> result.getStatus() == BulkItemStatus.CREATED)
+            .count();
+
+        log.info("Bulk course creation finished: {} requested, {} created", items.size(), created);
+
+        return CourseBulkResponse.builder()
+            .requested(items.size())
+            .created(created)
+            .failed(items.size() - created)
+            .results(Arrays.asList(results))
+            .build();
+    }
+
+    /*
+     * El acceso se valida una vez por unidad curricular, cada una en su propia transacción; el resultado
+     * (vacío o la excepción) se reutiliza en todos los cursos de esa unidad.
+     */
+    private Map<Long, Optional<RuntimeException>> validateCurricularUnitsAccess(List<CourseRequest> items) {
+        Map<Long, Optional<RuntimeException>> curricularUnitAccess = new HashMap<>();
+
+        items.stream()
+            .map(CourseRequest::getCurricularUnitId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .forEach(curricularUnitId -> {
+                try {
+                    accessControlService.validateCurricularUnitAccess(curricularUnitId);
+                    curricularUnitAccess.put(curricularUnitId, Optional.empty());
+                } catch (IllegalArgumentException | BusinessException e) {
+                    curricularUnitAccess.put(curricularUnitId, Optional.of(e));
+                }
+            });
+
+        return curricularUnitAccess;
+    }
+
+    private List<BulkCourse> validateBulkCourses(
+        List<CourseRequest> items,
+        Map<Long, Optional<RuntimeException>> curricularUnitAccess,
+        CourseBulkItemResponse[] results
+    ) {
+        Set<Long> curricularUnitIds = new HashSet<>();
+        Set<Long> campusIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+
+        for (CourseRequest item : items) {
+            Optional.ofNullable(item.getCurricularUnitId()).ifPresent(curricularUnitIds::add);
+            Optional.ofNullable(item.getCampusId()).ifPresent(campusIds::add);
+            if (item.getUserIds() != null) {
+                item.getUserIds().stream().filter(Objects::nonNull).forEach(userIds::add);
+            }
+        }
+
+        Map<Long, CurricularUnit> curricularUnits = curricularUnitIds.isEmpty() ? Map.of()
+            : curricularUnitRepository.findAllWithProgramByIdIn(curricularUnitIds).stream()
+                .collect(Collectors.toMap(CurricularUnit::getId, curricularUnit -> curricularUnit));
+        Map<Long, Campus> campuses = campusIds.isEmpty() ? Map.of()
+            : campusRepository.findAllWithProgramsByIdIn(campusIds).stream()
+                .collect(Collectors.toMap(Campus::getId, campus -> campus));
+        Map<Long, User> users = Map.of();
+        if (!userIds.isEmpty()) {
+            users = userRepository.findAllWithPositionsByIdIn(userIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+            // Inicializa las sedes de las posiciones ya cargadas
+            positionRepository.findAllWithCampusesByUserIdIn(userIds);
+        }
+
+        List<BulkCourse> validCourses = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            try {
+                validCourses.add(validateBulkCourse(
+                    index, items.get(index), curricularUnits, campuses, users, curricularUnitAccess
+                ));
+            } catch (IllegalArgumentException | BusinessException e) {
+                log.debug("Bulk course {} is invalid: {}", index, e.getMessage());
+                results[index] = bulkItem(index, BulkItemStatus.FAILED, null, e.getMessage());
+            }
+        }
+
+        return validCourses;
+    }
+
+    private BulkCourse validateBulkCourse(
+        int index,
+        CourseRequest request,
+        Map<Long, CurricularUnit> curricularUnits,
+        Map<Long, Campus> campuses,
+        Map<Long, User> users,
+        Map<Long, Optional<RuntimeException>> curricularUnitAccess
+    ) {
+        // Cada ítem se valida acá (no con @Valid en el controlador) para que sus errores queden en su resultado
+        Set<ConstraintViolation<CourseRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; ")));
+        }
+
+        validateDates(request);
+
+        curricularUnitAccess.get(request.getCurricularUnitId()).ifPresent(e -> {
+            throw e;
+        });
+
+        CurricularUnit curricularUnit = Optional.ofNullable(curricularUnits.get(request.getCurricularUnitId()))
+            .orElseThrow(() -> new ResourceNotFoundException(
+                messageService.getMessage("error.curricular-unit.not-found")
+            ));
+
+        Campus campus = Optional.ofNullable(campuses.get(request.getCampusId()))
+            .orElseThrow(() -> new ResourceNotFoundException(
+                messageService.getMessage("error.campus.not-found")
+            ));
+
+        validateProgramOfferedAtCampus(curricularUnit, campus);
+
+        List<Long> teacherIds = new ArrayList<>();
+        for (Long userId : request.getUserIds()) {
+            User user = Optional.ofNullable(users.get(userId))
+                .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.user.not-found")));
+
+            teacherIds.add(requireTeacherInCampus(user, campus.getId()).getId());
+        }
+
+        validateHours(request);
+
+        return new BulkCourse(index, request, curricularUnit.getId(), curricularUnit.getName(), campus.getId(), teacherIds);
+    }
+
+    private void insertBulkCourses(List<BulkCourse> courses, boolean atomic, CourseBulkItemResponse[] results) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int chunkSize = Math.max(1, bulkChunkSize);
+
+        List<List<BulkCourse>> chunks = new ArrayList<>();
+        for (int from = 0; from < courses.size(); from += chunkSize) {
+            chunks.add(courses.subList(from, Math.min(from + chunkSize, courses.size())));
+        }
+
+        // Atómico: una sola transacción para todos los bloques; si no, una por bloque
+        List<List<List<BulkCourse>>> transactions = atomic
+            ? List.of(chunks)
+            : chunks.stream().map(List::of).toList();
+
+        for (List<List<BulkCourse>> transactionChunks : transactions) {
+            try {
+                List<Long> ids = transaction.execute(status -> {
+                    List<Long> insertedIds = new ArrayList<>();
+                    transactionChunks.forEach(chunk -> insertedIds.addAll(insertBulkChunk(chunk)));
+                    return insertedIds;
+                });
+
+                List<BulkCourse> inserted = transactionChunks.stream().flatMap(List::stream).toList();
+                for (int i = 0; i < inserted.size(); i++) {
+                    int index = inserted.get(i).index();
+                    results[index] = bulkItem(index, BulkItemStatus.CREATED, ids.get(i), null);
+                }
+            } catch (RuntimeException e) {
+                log.error("Error inserting bulk courses: {}", e.getMessage(), e);
+                String chunkFailed = messageService.getMessage("error.course.bulk-chunk-failed");
+                transactionChunks.stream().flatMap(List::stream)
+                    .forEach(course -> results[course.index()] = bulkItem(course.index(), BulkItemStatus.FAILED, null, chunkFailed));
+            }
+        }
+    }
+
+    // Ya validados: las unidades curriculares, sedes y docentes se referencian por ID, sin cargarlos
+    private List<Long> insertBulkChunk(List<BulkCourse> chunk) {
+        List<Course> courses = new ArrayList<>(chunk.size());
+
+        for (BulkCourse bulkCourse : chunk) {
+            List<Teacher> teachers = bulkCourse.teacherIds().stream()
+                .map(teacherId -> entityManager.getReference(Teacher.class, teacherId))
+                .toList();
+
+            Course course = newCourse(
+                bulkCourse.request(),
+                bulkCourse.curricularUnitName(),
+                entityManager.getReference(CurricularUnit.class, bulkCourse.curricularUnitId()),
+                entityManager.getReference(Campus.class, bulkCourse.campusId()),
+                teachers
+            );
+
+            entityManager.persist(course);
+            courses.add(course);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        return courses.stream().map(Course::getId).toList();
+    }
+
+    private CourseBulkItemResponse bulkItem(int index, BulkItemStatus status, Long courseId, String error) {
+        return CourseBulkItemResponse.builder()
+            .index(index)
+            .status(status)
+            .courseId(courseId)
+            .error(error)
+            .build();
+    }
+
+    private record BulkCourse(
+        int index,
+        CourseRequest request,
+        Long curricularUnitId,
+        String curricularUnitName,
+        Long campusId,
+        List<Long> teacherIds
+    ) {
+    }
+
+    private void validateDates(CourseRequest request) {
+        // Validate startDate <= endDate
+        if (request.getStartDate() != null && request.getEndDate() != null && 
+            request.getStartDate().isAfter(request.getEndDate())) {
+            throw new IllegalArgumentException(
+                messageService.getMessage("error.course.start-after-end")
+            );
+        }
+    }
+
+    private void validateProgramOfferedAtCampus(CurricularUnit curricularUnit, Campus campus) {
         // Validate that the program is offered at the specified campus
         Long programId = curricularUnit.getTerm().getProgram().getId();
         boolean programOfferedAtCampus = campus.getPrograms().stream()
@@ -109,34 +434,50 @@ public class CourseServiceImpl implements CourseService {
         }
         
         log.debug("Validated that program {} is offered at campus {}", programId, campus.getId());
+    }
+
+    private Teacher requireTeacherInCampus(User user, Long campusId) {
+        Teacher teacher = user.getPositions().stream()
+            .filter(pos -> pos instanceof Teacher)
+            .map(pos -> (Teacher) pos)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(messageService.getMessage("error.course.user-not-teacher")));
         
-        // Validate teachers
-        List<Teacher> teachers = new ArrayList<>();
-        for (Long userId : request.getUserIds()) {
-            User user = userRepository.findByIdWithPositions(userId)
-                .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.user.not-found")));
-            
-            Teacher teacher = user.getPositions().stream()
-                .filter(pos -> pos instanceof Teacher)
-                .map(pos -> (Teacher) pos)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(messageService.getMessage("error.course.user-not-teacher")));
-            
-            // Validate that the teacher belongs to the specified campus
-            boolean teacherBelongsToCampus = teacher.getCampuses().stream()
-                .anyMatch(c -> c.getId().equals(request.getCampusId()));
-            
-            if (!teacherBelongsToCampus) {
+        // Validate that the teacher belongs to the specified campus
+        boolean teacherBelongsToCampus = teacher.getCampuses().stream()
+            .anyMatch(c -> c.getId().equals(campusId));
+        
+        if (!teacherBelongsToCampus) {
+            throw new IllegalArgumentException(
+                messageService.getMessage("error.course.teacher-not-in-campus")
+            );
+        }
+        
+        return teacher;
+    }
+
+    private void validateHours(CourseRequest request) {
+        if (request.getHoursPerDeliveryFormat() == null) {
+            return;
+        }
+        
+        // Validar que todas las horas sean no negativas
+        for (Map.Entry<DeliveryFormat, Integer> entry : request.getHoursPerDeliveryFormat().entrySet()) {
+            if (entry.getValue() < 0) {
                 throw new IllegalArgumentException(
-                    messageService.getMessage("error.course.teacher-not-in-campus")
+                    messageService.getMessage("error.course.invalid-hours-format")
                 );
             }
-            
-            teachers.add(teacher);
         }
-        
-        log.debug("Validated {} teacher(s) for course at campus {}", teachers.size(), campus.getId());
-        
+    }
+
+    private Course newCourse(
+        CourseRequest request,
+        String curricularUnitName,
+        CurricularUnit curricularUnit,
+        Campus campus,
+        List<Teacher> teachers
+    ) {
         Course course = new Course(
             request.getShift(),
             request.getStartDate(),
@@ -148,7 +489,7 @@ public class CourseServiceImpl implements CourseService {
         if (request.getDescription() != null && !request.getDescription().isBlank()) {
             course.setDescription(request.getDescription());
         } else {
-            String defaultDescription = "Curso de " + curricularUnit.getName();
+            String defaultDescription = "Curso de " + curricularUnitName;
             course.setDescription(defaultDescription);
             log.debug("Using default description: {}", defaultDescription);
         }
@@ -162,8 +503,6 @@ public class CourseServiceImpl implements CourseService {
         
         course.getTeachers().addAll(teachers);
         
-        curricularUnit.getCourses().add(course);
-        
         if (request.getIsRelatedToInvestigation() != null) {
             course.setIsRelatedToInvestigation(request.getIsRelatedToInvestigation());
         }
@@ -173,14 +512,6 @@ public class CourseServiceImpl implements CourseService {
         }
         
         if (request.getHoursPerDeliveryFormat() != null && !request.getHoursPerDeliveryFormat().isEmpty()) {
-            // Validar que todas las horas sean no negativas
-            for (Map.Entry<DeliveryFormat, Integer> entry : request.getHoursPerDeliveryFormat().entrySet()) {
-                if (entry.getValue() < 0) {
-                    throw new IllegalArgumentException(
-                        messageService.getMessage("error.course.invalid-hours-format")
-                    );
-                }
-            }
             course.getHoursPerDeliveryFormat().putAll(request.getHoursPerDeliveryFormat());
         } else {
             for (DeliveryFormat format : DeliveryFormat.values()) {
@@ -210,12 +541,7 @@ public class CourseServiceImpl implements CourseService {
         course.getWeeklyPlannings().addAll(weeklyPlannings);
         log.info("Generated {} empty weekly planning(s) for course", weeklyPlannings.size());
         
-        // Guardar el curso con WeeklyPlannings vacíos
-        Course savedCourse = courseRepository.save(course);
-        log.info("Course created successfully with id: {} and {} teacher(s) - planning is empty and must be loaded manually by teacher", 
-            savedCourse.getId(), teachers.size());
-        
-        return courseMapper.toResponse(savedCourse);
+        return course;
     }
 
     @Override
@@ -226,18 +552,25 @@ public class CourseServiceImpl implements CourseService {
         // Validate access to course
         accessControlService.validateCourseAccess(id);
 
-        // Cargar el curso con weeklyPlannings (primera query)
-        Course course = courseRepository.findByIdWithWeeklyPlannings(id)
-            .orElseThrow(() -> new ResourceNotFoundException(
-                messageService.getMessage("error.course.not-found")
-            ));
-        
-        // Cargar teachers en query separada (evita MultipleBagFetchException con weeklyPlannings)
-        // Hibernate detecta que es el mismo objeto en la sesión y actualiza la colección teachers
-        courseRepository.findByIdWithTeachers(id);
-        
-        // Mapear dentro de la transacción para acceder a todas las colecciones
-        return courseMapper.toResponse(course);
+        // El control de acceso corre siempre; solo el armado de la respuesta queda cacheado por versión
+        return courseResponseCache.get(id, () -> {
+            // Cargar el curso con weeklyPlannings (primera query)
+            Course course = courseRepository.findByIdWithWeeklyPlannings(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    messageService.getMessage("error.course.not-found")
+                ));
+
+            // Cargar teachers en query separada (evita MultipleBagFetchException con weeklyPlannings)
+            // Hibernate detecta que es el mismo objeto en la sesión y actualiza la colección teachers
+            courseRepository.findByIdWithTeachers(id);
+
+            // Colecciones de valores (lazy) del curso y de su unidad curricular, una query para cada entidad
+            courseRepository.findWithValueCollectionsById(id);
+            curricularUnitRepository.findWithValueCollectionsById(course.getCurricularUnit().getId());
+
+            // Mapear dentro de la transacción para acceder a todas las colecciones
+            return courseMapper.toResponse(course);
+        });
     }
 
     @Override
@@ -310,6 +643,16 @@ public class CourseServiceImpl implements CourseService {
                 existing.setEndDate(template.getEndDate());
             }
             
+            // Agregar las nuevas semanas
+            for (int i = currentWeekCount; i < newWeekCount; i++) {
+                WeeklyPlanning template = newPlannings.get(i);
+                course.getWeeklyPlannings().add(new WeeklyPlanning(
+                    template.getWeekNumber(),
+                    template.getStartDate(),
+                    template.getEndDate()
+                ));
+            }
+            
             // Intentar copiar planificación de curso anterior para las nuevas semanas
             Optional<Course> sourceCourseOpt = courseRepository.findLatestByCurricularUnitAndUsers(
                 course.getCurricularUnit().getId(),
@@ -317,81 +660,18 @@ public class CourseServiceImpl implements CourseService {
                 course.getId()
             );
             
-            Course sourceCourse = null;
-            java.util.Map<Integer, WeeklyPlanning> sourceWeeklyPlanningMap = null;
-            
             if (sourceCourseOpt.isPresent()) {
-                sourceCourse = sourceCourseOpt.get();
-                log.debug("Found previous course {} for copying additional weeks", sourceCourse.getId());
-                
-                // Cargar los detalles del curso fuente
-                courseRepository.findByIdWithWeeklyPlannings(sourceCourse.getId());
-                courseRepository.loadProgrammaticContents(sourceCourse.getId());
-                courseRepository.loadProgrammaticContentActivities(sourceCourse.getId());
+                Long sourceCourseId = sourceCourseOpt.get().getId();
+                log.debug("Found previous course {} for copying additional weeks", sourceCourseId);
                 
-                // Refrescar el curso fuente para obtener las colecciones cargadas
-                sourceCourse = courseRepository.findByIdWithWeeklyPlannings(sourceCourse.getId()).orElse(null);
-                
-                if (sourceCourse != null) {
-                    sourceWeeklyPlanningMap = sourceCourse.getWeeklyPlannings().stream()
-                        .collect(java.util.stream.Collectors.toMap(
-                            WeeklyPlanning::getWeekNumber,
-                            wp -> wp
-                        ));
-                }
-            }
-            
-            // Agregar las nuevas semanas
-            for (int i = currentWeekCount; i < newWeekCount; i++) {
-                WeeklyPlanning template = newPlannings.get(i);
-                WeeklyPlanning newWeekly = new WeeklyPlanning(
-                    template.getWeekNumber(),
-                    template.getStartDate(),
-                    template.getEndDate()
+                PlanningCopyRepository.CopiedPlanning copied = courseRepository.copyPlanning(
+                    sourceCourseId,
+                    course.getId(),
+                    newPlannings.get(currentWeekCount).getWeekNumber(),
+                    newPlannings.get(newWeekCount - 1).getWeekNumber()
                 );
-                
-                // Intentar copiar contenido del curso anterior si existe
-                if (sourceWeeklyPlanningMap != null) {
-                    WeeklyPlanning sourceWeekly = sourceWeeklyPlanningMap.get(template.getWeekNumber());
-                    if (sourceWeekly != null) {
-                        log.debug("Copying content from previous course for week {}", template.getWeekNumber());
-                        
-                        // Copiar referencias bibliográficas
-                        newWeekly.getBibliographicReferences().addAll(sourceWeekly.getBibliographicReferences());
-                        
-                        // Copiar ProgrammaticContents y Activities
-                        for (ProgrammaticContent sourceContent : sourceWeekly.getProgrammaticContents()) {
-                            ProgrammaticContent newContent = new ProgrammaticContent(
-                                sourceContent.getTitle(),
-                                sourceContent.getContent(),
-                                newWeekly
-                            );
-                            newContent.setColor(sourceContent.getColor());
-                            
-                            // Copiar Activities
-                            for (Activity sourceActivity : sourceContent.getActivities()) {
-                                Activity newActivity = new Activity(
-                                    sourceActivity.getDescription(),
-                                    sourceActivity.getDurationInMinutes(),
-                                    sourceActivity.getLearningModality(),
-                                    newContent
-                                );
-                                newActivity.setTitle(sourceActivity.getTitle());
-                                newActivity.setColor(sourceActivity.getColor());
-                                newActivity.getCognitiveProcesses().addAll(sourceActivity.getCognitiveProcesses());
-                                newActivity.getTransversalCompetencies().addAll(sourceActivity.getTransversalCompetencies());
-                                newActivity.getTeachingStrategies().addAll(sourceActivity.getTeachingStrategies());
-                                newActivity.getLearningResources().addAll(sourceActivity.getLearningResources());
-                                
-                                newContent.getActivities().add(newActivity);
-                            }
-                            
-                            newWeekly.getProgrammaticContents().add(newContent);
-                        }
-                    }
-                }
-                
-                course.getWeeklyPlannings().add(newWeekly);
+                log.debug("Copied {} programmatic contents and {} activities from previous course {}",
+                    copied.contents(), copied.activities(), sourceCourseId);
             }
             
             log.info("Added {} new week(s) to course", newWeekCount - currentWeekCount);
@@ -586,6 +866,7 @@ public class CourseServiceImpl implements CourseService {
         
         // Validate update access (ANALYST/COORDINATOR in campus OR teacher of the course)
         accessControlService.validateCourseUpdateAccess(id);
+        courseResponseCache.invalidate(id);
 
         Course course = courseRepository.findByIdWithWeeklyPlannings(id)
             .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found")));
@@ -696,6 +977,11 @@ public class CourseServiceImpl implements CourseService {
         course.getTeachers().clear();
         course.getTeachers().addAll(teachers);
         
+        // A teacher-only change just updates the join table and fires no @PostUpdate
+        if (!currentTeacherIds.equals(newTeacherIds)) {
+            coursePeriodCache.invalidateAll();
+        }
+
         // Update collections
         course.getHoursPerDeliveryFormat().clear();
         if (request.getHoursPerDeliveryFormat() != null) {
@@ -737,6 +1023,7 @@ public class CourseServiceImpl implements CourseService {
         
         // Validate delete access (only ANALYST/COORDINATOR can delete courses)
         accessControlService.validateCourseDeleteAccess(id);
+        courseResponseCache.invalidate(id);
 
         Course course = courseRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(
@@ -771,9 +1058,22 @@ public class CourseServiceImpl implements CourseService {
             userId, campusId, period, searchText, pageable.getPageNumber(), pageable.getPageSize()
         );
 
-        Page<Course> coursesPage = courseRepository.findAll(
-            CourseSpecification.withFilters(userId, campusId, period, searchText),
-            pageable
+        // El texto se resuelve con el índice de búsqueda a unidades curriculares ordenadas por relevancia
+        List<Long> curricularUnitMatches = List.of();
+        if (searchText != null && !searchText.isBlank()) {
+            curricularUnitMatches = curricularUnitSearch.search(searchText, Integer.MAX_VALUE);
+
+            if (curricularUnitMatches.isEmpty()) {
+                log.debug("No curricular units match searchText: {}", searchText);
+                return Page.empty(pageable);
+            }
+        }
+
+        // Filas planas + una sola query para los docentes de toda la página
+        Page<CourseListingView> coursesPage = courseRepository.findListing(
+            CourseSpecification.withFilters(userId, campusId, period, curricularUnitMatches.isEmpty() ? null : curricularUnitMatches),
+            pageable,
+            rankedMatches(curricularUnitMatches)
         );
 
         log.debug("Found {} courses (page {} of {})", 
@@ -781,21 +1081,118 @@ public class CourseServiceImpl implements CourseService {
             coursesPage.getNumber() + 1, 
             coursesPage.getTotalPages());
 
-        return coursesPage.map(courseMapper::toBasicResponse);
+        if (coursesPage.isEmpty()) {
+            return coursesPage.map(course -> courseMapper.toBasicResponse(course, List.of()));
+        }
+
+        Map<Long, List<UserBasicResponse>> teachersByCourse = findTeachersByCourse(coursesPage.getContent());
+
+        return coursesPage.map(course -> courseMapper.toBasicResponse(
+            course,
+            teachersByCourse.getOrDefault(course.id(), List.of())
+        ));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public CursorPageResponse<CourseBasicResponse> getCourses(
+        Long userId, Long campusId, String period, String searchText,
+        CourseSortField sortBy, String cursor, int size, boolean includeCount
+    ) {
+        log.debug("Getting courses by cursor - userId: {}, campusId: {}, period: {}, searchText: {}, sortBy: {}, size: {}, includeCount: {}",
+            userId, campusId, period, searchText, sortBy, size, includeCount
+        );
+
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        List<Long> curricularUnitMatches = List.of();
+        if (searchText != null && !searchText.isBlank()) {
+            curricularUnitMatches = curricularUnitSearch.search(searchText, Integer.MAX_VALUE);
+
+            if (curricularUnitMatches.isEmpty()) {
+                log.debug("No curricular units match searchText: {}", searchText);
+                return CursorPageResponse.<CourseBasicResponse>builder()
+                    .content(List.of())
+                    .size(size)
+                    .totalElements(includeCount ? 0L : null)
+                    .build();
+            }
+        }
+
+        Specification<Course> specification = CourseSpecification.withFilters(
+            userId, campusId, period, curricularUnitMatches.isEmpty() ? null : curricularUnitMatches
+        );
+        List<Long> curricularUnitRanking = rankedMatches(curricularUnitMatches);
+
+        // Una fila de más indica si hay página siguiente; el conteo solo se hace si se pide
+        List<CourseListingView> courses = courseRepository.findListingAfter(
+            specification, sortBy, curricularUnitRanking, after, size + 1
+        );
+
+        boolean hasNext = courses.size() > size;
+        List<CourseListingView> page = hasNext ? courses.subList(0, size) : courses;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CourseListingView last = page.get(page.size() - 1);
+            Integer rank = curricularUnitRanking.isEmpty() ? null : rankOf(curricularUnitRanking, last.curricularUnitId());
+            Object sortKey = switch (sortBy) {
+                case START_DATE -> last.startDate();
+                case LAST_MODIFIED_AT -> last.lastModificationDate();
+            };
+            nextCursor = KeysetCursor.of(rank, sortKey, last.id()).encode();
+        }
+
+        Map<Long, List<UserBasicResponse>> teachersByCourse = page.isEmpty() ? Map.of() : findTeachersByCourse(page);
+
+        return CursorPageResponse.<CourseBasicResponse>builder()
+            .content(page.stream()
+                .map(course -> courseMapper.toBasicResponse(course, teachersByCourse.getOrDefault(course.id(), List.of())))
+                .toList())
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .totalElements(includeCount ? courseRepository.countListing(specification) : null)
+            .build();
+    }
+
+    // Todas las coincidencias filtran el listado; solo las primeras se ordenan por relevancia
+    private List<Long> rankedMatches(List<Long> curricularUnitMatches) {
+        return curricularUnitMatches.subList(0, Math.min(curricularUnitMatches.size(), Math.max(searchRankedMatches, 0)));
+    }
+
+    // Las coincidencias fuera del ranking comparten la última posición, igual que en el ORDER BY
+    private static int rankOf(List<Long> curricularUnitRanking, Long curricularUnitId) {
+        int rank = curricularUnitRanking.indexOf(curricularUnitId);
+        return rank >= 0 ? rank : curricularUnitRanking.size();
+    }
+
+    // Una sola query para los docentes de todas las filas
+    private Map<Long, List<UserBasicResponse>> findTeachersByCourse(List<CourseListingView> courses) {
+        return courseRepository
+            .findTeachersByCourseIdIn(courses.stream().map(CourseListingView::id).toList())
+            .stream()
+            .collect(Collectors.groupingBy(
+                CourseTeacherView::getCourseId,
+                Collectors.mapping(userMapper::toTeacherBasicResponse, Collectors.toList())
+            ));
+    }
+
+    // Sin @Transactional: un acierto de cache no debe tomar una conexión del pool
+    @Override
     public List<PeriodResponse> getPeriods(Long campusId, Long userId) {
-        List<Course> courses = courseRepository.findAll(
-            CourseSpecification.withFilters(userId, campusId, null, null)
+        // DISTINCT sobre la clave indexada, sin cargar entidades; el resultado queda cacheado por filtro
+        List<String> periodLabels = coursePeriodCache.get(campusId, userId, () ->
+            courseRepository.findDistinctAcademicPeriods(campusId, userId).stream()
+                .map(AcademicPeriodUtils::toPeriod)
+                .toList()
         );
 
-        List<PeriodResponse> periods = courses.stream()
-            .map(Course::getPeriod)
-            .filter(Objects::nonNull)
-            .distinct()
-            .sorted(Comparator.reverseOrder())
+        List<PeriodResponse> periods = periodLabels.stream()
             .map(period -> PeriodResponse.builder().period(period).build())
             .toList();
 
@@ -811,7 +1208,7 @@ public class CourseServiceImpl implements CourseService {
         accessControlService.validateCampusAccess(campusId);
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User currentUser = (User) authentication.getPrincipal();
+        AuthenticatedUser currentUser = (AuthenticatedUser) authentication.getPrincipal();
 
         List<Course> courses = courseRepository.findAll(
             CourseSpecification.withFilters(currentUser.getId(), campusId, null, null)
@@ -857,6 +1254,7 @@ public class CourseServiceImpl implements CourseService {
         
         // Validate planning management access to course
         accessControlService.validateCoursePlanningManagement(courseId);
+        courseResponseCache.invalidate(courseId);
 
         Course course = courseRepository.findByIdWithWeeklyPlannings(courseId)
             .orElseThrow(() -> new ResourceNotFoundException(
@@ -878,6 +1276,7 @@ public class CourseServiceImpl implements CourseService {
         
         // Validate planning management access to course
         accessControlService.validateCoursePlanningManagement(courseId);
+        courseResponseCache.invalidate(courseId);
 
         Course course = courseRepository.findById(courseId)
             .orElseThrow(() -> new ResourceNotFoundException(
@@ -906,6 +1305,7 @@ public class CourseServiceImpl implements CourseService {
         
         // Validate planning management access to course
         accessControlService.validateCoursePlanningManagement(courseId);
+        courseResponseCache.invalidate(courseId);
 
         Course course = courseRepository.findByIdWithWeeklyPlannings(courseId)
             .orElseThrow(() -> new ResourceNotFoundException(
@@ -927,6 +1327,7 @@ public class CourseServiceImpl implements CourseService {
         
         // Validate planning management access to course
         accessControlService.validateCoursePlanningManagement(courseId);
+        courseResponseCache.invalidate(courseId);
 
         Course course = courseRepository.findById(courseId)
             .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found")));
@@ -951,7 +1352,8 @@ public class CourseServiceImpl implements CourseService {
     public CoursePdfDataResponse getCoursePdfData(Long courseId) {
         log.debug("Getting PDF data for course {}", courseId);
 
-        Course course = courseRepository.findById(courseId)
+        // Con horas por formato; el resto de las relaciones se carga en lotes al recorrerlas
+        Course course = courseRepository.findWithValueCollectionsById(courseId)
             .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found")));
 
         // Build teacher info list
@@ -991,7 +1393,7 @@ public class CourseServiceImpl implements CourseService {
                     .startDate(weeklyPlanning.getStartDate())
                     .endDate(weeklyPlanning.getEndDate())
                     .contentTitles(contentTitles)
-                    .bibliographicReferences(weeklyPlanning.getBibliographicReferences())
+                    .bibliographicReferences(new ArrayList<>(weeklyPlanning.getBibliographicReferences()))
                     .build();
             })
             .toList();
@@ -1011,7 +1413,7 @@ public class CourseServiceImpl implements CourseService {
             .involvesActivitiesWithProductiveSector(course.getInvolvesActivitiesWithProductiveSector())
             .partialGradingSystem(course.getPartialGradingSystem())
             .isRelatedToInvestigation(course.getIsRelatedToInvestigation())
-            .hoursPerDeliveryFormat(course.getHoursPerDeliveryFormat())
+            .hoursPerDeliveryFormat(new HashMap<>(course.getHoursPerDeliveryFormat()))
             .teachers(teacherInfoList)
             .programName(programName)
             .curricularUnit(curricularUnitInfo)
@@ -1031,7 +1433,7 @@ public class CourseServiceImpl implements CourseService {
 
         accessControlService.validateCourseAccess(courseId);
         
-        Course course = courseRepository.findById(courseId)
+        Course course = courseRepository.findWithValueCollectionsById(courseId)
             .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found")));
         
         CourseStatisticsDto statistics = courseStatisticsMapper.calculateStatistics(course);
@@ -1063,12 +1465,20 @@ public class CourseServiceImpl implements CourseService {
         }
 
         // Get all courses where this teacher is assigned AND the curricular unit matches
-        List<Course> courses = courseRepository.findAll(
+        List<Course> teacherCourses = courseRepository.findAll(
             CourseSpecification.withFilters(teacherId, null, null, null)
         ).stream()
             .filter(course -> course.getCurricularUnit().getId().equals(curricularUnitId))
             .toList();
 
+        // Keep only the courses the current user can access (single query for the whole list)
+        Set<Long> accessibleCourseIds = accessControlService.filterAccessibleCourseIds(
+            teacherCourses.stream().map(Course::getId).toList()
+        );
+        List<Course> courses = teacherCourses.stream()
+            .filter(course -> accessibleCourseIds.contains(course.getId()))
+            .toList();
+
         // Build response with formatted display names using the course's specific campus
         List<TeacherCourseResponse> response = courses.stream()
             .map(course -> {
@@ -1104,8 +1514,9 @@ public class CourseServiceImpl implements CourseService {
         Course course = courseRepository.findById(courseId)
             .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found", courseId)));
 
-        // Get curricular unit
-        CurricularUnit curricularUnit = course.getCurricularUnit();
+        // Get curricular unit (with its domain areas and professional competencies)
+        CurricularUnit curricularUnit = curricularUnitRepository.findWithValueCollectionsById(course.getCurricularUnit().getId())
+            .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.curricular-unit.not-found")));
         
         // Get term and program
         String programName = curricularUnit.getTerm() != null && curricularUnit.getTerm().getProgram() != null
@@ -1168,13 +1579,14 @@ public class CourseServiceImpl implements CourseService {
                 messageService.getMessage("error.course.not-found")
             ));
         
-        Course sourceCourse = courseRepository.findByIdWithWeeklyPlannings(sourceCourseId)
+        Course sourceCourse = courseRepository.findById(sourceCourseId)
             .orElseThrow(() -> new ResourceNotFoundException(
                 messageService.getMessage("error.course.not-found")
             ));
         
         // Validate that the current user is a teacher of the target course
         accessControlService.validateCourseAccess(targetCourseId);
+        courseResponseCache.invalidate(targetCourseId);
         
         // Validate that the target course has not finished
         accessControlService.validateCourseNotExpired(targetCourseId);
@@ -1203,88 +1615,19 @@ public class CourseServiceImpl implements CourseService {
             );
         }
         
-        // Load programmatic contents and activities for source course
-        courseRepository.loadProgrammaticContents(sourceCourseId);
-        courseRepository.loadProgrammaticContentActivities(sourceCourseId);
-        
-        // Refresh source course to get loaded collections
-        sourceCourse = courseRepository.findByIdWithWeeklyPlannings(sourceCourseId)
-            .orElseThrow(() -> new ResourceNotFoundException(
-                messageService.getMessage("error.course.not-found")
-            ));
-        
-        // Clear existing planning from target course
+        // Replace the target planning with set-based INSERT ... SELECT statements keyed by week number
         log.debug("Clearing existing planning from target course {}", targetCourseId);
-        for (WeeklyPlanning targetWeekly : targetCourse.getWeeklyPlannings()) {
-            targetWeekly.getBibliographicReferences().clear();
-            targetWeekly.getProgrammaticContents().clear(); // orphanRemoval will delete activities too
-        }
-        
-        // Map source weekly plannings by week number
-        java.util.Map<Integer, WeeklyPlanning> sourceWeeklyPlanningMap = sourceCourse.getWeeklyPlannings().stream()
-            .collect(java.util.stream.Collectors.toMap(
-                WeeklyPlanning::getWeekNumber,
-                wp -> wp
-            ));
+        courseRepository.clearPlanning(targetCourseId);
         
-        int copiedWeeks = 0;
-        int copiedContents = 0;
-        int copiedActivities = 0;
-        
-        // Copy planning to target course
-        for (WeeklyPlanning targetWeekly : targetCourse.getWeeklyPlannings()) {
-            Integer weekNumber = targetWeekly.getWeekNumber();
-            WeeklyPlanning sourceWeekly = sourceWeeklyPlanningMap.get(weekNumber);
-            
-            if (sourceWeekly == null) {
-                log.debug("No source planning found for week {} in source course, skipping", weekNumber);
-                continue;
-            }
-            
-            // Copy bibliographic references
-            targetWeekly.getBibliographicReferences().addAll(
-                sourceWeekly.getBibliographicReferences()
-            );
-            
-            // Copy ProgrammaticContents
-            for (ProgrammaticContent sourceContent : sourceWeekly.getProgrammaticContents()) {
-                ProgrammaticContent targetContent = new ProgrammaticContent(
-                    sourceContent.getTitle(),
-                    sourceContent.getContent(),
-                    targetWeekly
-                );
-                targetContent.setColor(sourceContent.getColor());
-                targetWeekly.getProgrammaticContents().add(targetContent);
-                copiedContents++;
-                
-                // Copy Activities
-                for (Activity sourceActivity : sourceContent.getActivities()) {
-                    Activity targetActivity = new Activity(
-                        sourceActivity.getDescription(),
-                        sourceActivity.getDurationInMinutes(),
-                        sourceActivity.getLearningModality(),
-                        targetContent
-                    );
-                    targetActivity.setTitle(sourceActivity.getTitle());
-                    targetActivity.setColor(sourceActivity.getColor());
-                    targetActivity.getCognitiveProcesses().addAll(sourceActivity.getCognitiveProcesses());
-                    targetActivity.getTransversalCompetencies().addAll(sourceActivity.getTransversalCompetencies());
-                    targetActivity.getTeachingStrategies().addAll(sourceActivity.getTeachingStrategies());
-                    targetActivity.getLearningResources().addAll(sourceActivity.getLearningResources());
-                    
-                    targetContent.getActivities().add(targetActivity);
-                    copiedActivities++;
-                }
-            }
-            
-            copiedWeeks++;
-        }
+        PlanningCopyRepository.CopiedPlanning copied = courseRepository.copyPlanning(
+            sourceCourseId, targetCourseId, Constants.MIN_WEEK_NUMBER, Constants.MAX_WEEK_NUMBER
+        );
         
         // Save target course with copied planning
         Course updatedCourse = courseRepository.save(targetCourse);
         
-        log.info("Planning copy completed successfully: {} weeks, {} programmatic contents, {} activities copied from course {} to course {}",
-            copiedWeeks, copiedContents, copiedActivities, sourceCourseId, targetCourseId);
+        log.info("Planning copy completed successfully: {} programmatic contents, {} activities copied from course {} to course {}",
+            copied.contents(), copied.activities(), sourceCourseId, targetCourseId);
         
         return courseMapper.toResponse(updatedCourse);
     }
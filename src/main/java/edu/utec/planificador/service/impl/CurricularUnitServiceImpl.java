@@ -43,7 +43,7 @@ public class CurricularUnitServiceImpl implements CurricularUnitService {
     public CurricularUnitResponse getCurricularUnitById(Long id) {
         log.debug("Getting curricular unit by id: {}", id);
 
-        CurricularUnit curricularUnit = curricularUnitRepository.findById(id)
+        CurricularUnit curricularUnit = curricularUnitRepository.findWithValueCollectionsById(id)
             .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.curricular-unit.not-found")));
 
         return curricularUnitMapper.toResponse(curricularUnit);
@@ -0,0 +1,233 @@
+package edu.utec.planificador.service.impl;
+
+import edu.utec.planificador.repository.CurricularUnitRepository;
+import edu.utec.planificador.repository.projection.CurricularUnitSearchView;
+import edu.utec.planificador.service.CurricularUnitSearch;
+import edu.utec.planificador.util.SearchTextUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CurricularUnitSearch} backed by an in-process trigram index of the normalized curricular unit
+ * and program names. The default engine, and the fallback of {@link PostgresCurricularUnitSearch} while its
+ * trigram indexes are not available.
+ * <p>
+ * The index is built on the first search and rebuilt lazily after curricular units or programs change.
+ * Candidates are the names sharing at least {@value #SIMILARITY_THRESHOLD} of the query trigrams
+ * (every substring match shares all of them), so a search only visits the posting lists of the query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "course.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCurricularUnitSearch implements CurricularUnitSearch {
+
+    // Same default as pg_trgm's word_similarity_threshold
+    static final double SIMILARITY_THRESHOLD = 0.6;
+
+    private static final int GRAM_SIZE = 3;
+
+    private final CurricularUnitRepository curricularUnitRepository;
+
+    private final AtomicLong changes = new AtomicLong();
+
+    private volatile Index index;
+
+    @Override
+    public List<Long> search(String text, int limit) {
+        String query = SearchTextUtils.normalize(text);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        return currentIndex().search(query, limit);
+    }
+
+    /**
+     * Marks the index as stale. Inside a transaction it is marked again when the transaction
+     * completes, so an index rebuilt concurrently from the old data is not kept.
+     */
+    @Override
+    public void invalidate() {
+        changes.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    changes.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private Index currentIndex() {
+        Index current = index;
+        if (current != null && current.generation == changes.get()) {
+            return current;
+        }
+
+        synchronized (this) {
+            long generation = changes.get();
+            if (index != null && index.generation == generation) {
+                return index;
+            }
+
+            List<CurricularUnitSearchView> rows = curricularUnitRepository.findAllForSearch();
+            index = new Index(rows, generation);
+            log.debug("Curricular unit search index built with {} entries", rows.size());
+            return index;
+        }
+    }
+
+    static Set<String> trigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static final class Index {
+
+        private final long generation;
+        private final long[] ids;
+        private final String[] unitNames;
+        private final String[] programNames;
+        private final Map<String, int[]> unitPostings;
+        private final Map<String, int[]> programPostings;
+
+        private Index(List<CurricularUnitSearchView> rows, long generation) {
+            this.generation = generation;
+            this.ids = new long[rows.size()];
+            this.unitNames = new String[rows.size()];
+            this.programNames = new String[rows.size()];
+
+            for (int i = 0; i < rows.size(); i++) {
+                CurricularUnitSearchView row = rows.get(i);
+                ids[i] = row.getId();
+                unitNames[i] = SearchTextUtils.normalize(row.getName());
+                programNames[i] = SearchTextUtils.normalize(row.getProgramName());
+            }
+
+            this.unitPostings = postings(unitNames);
+            this.programPostings = postings(programNames);
+        }
+
+        private List<Long> search(String query, int limit) {
+            Set<String> queryGrams = trigrams(query);
+            TopMatches top = new TopMatches(limit);
+
+            if (queryGrams.isEmpty()) {
+                // Shorter than a trigram: only literal matches, checked on every entry
+                for (int i = 0; i < ids.length; i++) {
+                    double literal = literalScore(i, query);
+                    if (literal > 0) {
+                        top.offer(new Match(ids[i], literal + 1));
+                    }
+                }
+                return top.ids();
+            }
+
+            int required = (int) Math.ceil(SIMILARITY_THRESHOLD * queryGrams.size());
+            int[] unitShared = new int[ids.length];
+            int[] programShared = new int[ids.length];
+            List<Integer> candidates = new ArrayList<>();
+            collectCandidates(unitPostings, queryGrams, unitShared, programShared, required, candidates);
+            collectCandidates(programPostings, queryGrams, programShared, unitShared, required, candidates);
+
+            for (int i : candidates) {
+                double similarity = (double) Math.max(unitShared[i], programShared[i]) / queryGrams.size();
+                top.offer(new Match(ids[i], literalScore(i, query) + similarity));
+            }
+
+            return top.ids();
+        }
+
+        // Counts shared trigrams; an entry becomes a candidate once either of its names reaches the threshold
+        private static void collectCandidates(Map<String, int[]> postings, Set<String> queryGrams, int[] shared,
+                                              int[] otherShared, int required, List<Integer> candidates) {
+            for (String gram : queryGrams) {
+                int[] entries = postings.get(gram);
+                if (entries == null) {
+                    continue;
+                }
+
+                for (int entry : entries) {
+                    if (++shared[entry] == required && otherShared[entry] < required) {
+                        candidates.add(entry);
+                    }
+                }
+            }
+        }
+
+        // 3: unit name starts with the text, 2: unit name contains it, 1: program name contains it
+        private double literalScore(int i, String query) {
+            if (unitNames[i].startsWith(query)) {
+                return 3;
+            }
+            if (unitNames[i].contains(query)) {
+                return 2;
+            }
+            return programNames[i].contains(query) ? 1 : 0;
+        }
+
+        private static Map<String, int[]> postings(String[] names) {
+            Map<String, List<Integer>> lists = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                for (String gram : trigrams(names[i])) {
+                    lists.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+                }
+            }
+
+            Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((gram, entries) -> postings.put(gram, entries.stream().mapToInt(Integer::intValue).toArray()));
+            return postings;
+        }
+    }
+
+    private record Match(long id, double score) {
+    }
+
+    // Keeps the best matches only: highest score first, lowest ID on ties
+    private static final class TopMatches {
+
+        private static final Comparator<Match> BEST_FIRST =
+            Comparator.comparingDouble(Match::score).reversed().thenComparingLong(Match::id);
+
+        private final int limit;
+        private final PriorityQueue<Match> worstFirst;
+
+        private TopMatches(int limit) {
+            this.limit = limit;
+            this.worstFirst = new PriorityQueue<>(BEST_FIRST.reversed());
+        }
+
+        private void offer(Match match) {
+            if (worstFirst.size() < limit) {
+                worstFirst.add(match);
+            } else if (BEST_FIRST.compare(match, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(match);
+            }
+        }
+
+        private List<Long> ids() {
+            return worstFirst.stream().sorted(BEST_FIRST).map(Match::id).toList();
+        }
+    }
+}
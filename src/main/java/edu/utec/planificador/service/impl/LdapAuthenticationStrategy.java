@@ -4,6 +4,7 @@ import edu.utec.planificador.entity.User;
 import edu.utec.planificador.enumeration.AuthProvider;
 import edu.utec.planificador.exception.InvalidCredentialsException;
 import edu.utec.planificador.repository.UserRepository;
+import edu.utec.planificador.security.LdapBindCache;
 import edu.utec.planificador.service.AuthenticationStrategy;
 import edu.utec.planificador.service.MessageService;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ public class LdapAuthenticationStrategy implements AuthenticationStrategy {
     private final UserRepository userRepository;
     private final LdapTemplate ldapTemplate;
     private final MessageService messageService;
+    private final LdapBindCache bindCache;
 
     @Value("${security.ldap.user-base:ou=people}")
     private String userBase;
@@ -33,10 +35,12 @@ public class LdapAuthenticationStrategy implements AuthenticationStrategy {
     public LdapAuthenticationStrategy(
         UserRepository userRepository,
         MessageService messageService,
+        LdapBindCache bindCache,
         @Autowired(required = false) LdapTemplate ldapTemplate
     ) {
         this.userRepository = userRepository;
         this.messageService = messageService;
+        this.bindCache = bindCache;
         this.ldapTemplate = ldapTemplate;
     }
 
@@ -104,6 +108,12 @@ public class LdapAuthenticationStrategy implements AuthenticationStrategy {
                 : sanitizedEmail;
 
             log.debug("Attempting LDAP authentication for username: {}", username);
+
+            // Same credentials bound successfully a moment ago: skip the directory round trips
+            if (bindCache.contains(username, password)) {
+                log.debug("LDAP authentication served from bind cache for user: {}", username);
+                return true;
+            }
             
             // Create filter to search for user by uid
             Filter filter = new EqualsFilter("uid", username);
@@ -114,6 +124,7 @@ public class LdapAuthenticationStrategy implements AuthenticationStrategy {
             
             if (authenticated) {
                 log.info("LDAP authentication successful for user: {}", username);
+                bindCache.put(username, password);
             } else {
                 log.warn("LDAP authentication failed for user: {}", username);
             }
@@ -141,7 +152,7 @@ public class LdapAuthenticationStrategy implements AuthenticationStrategy {
     }
 
     private User findAndValidateLdapUser(String email) {
-        Optional<User> existingUser = userRepository.findByUtecEmail(email);
+        Optional<User> existingUser = userRepository.findByUtecEmailWithPositions(email);
 
         if (existingUser.isEmpty()) {
             log.warn("LDAP authentication failed for {}: user not found in local database", email);
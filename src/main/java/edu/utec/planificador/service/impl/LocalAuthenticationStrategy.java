@@ -3,28 +3,31 @@ package edu.utec.planificador.service.impl;
 import edu.utec.planificador.entity.User;
 import edu.utec.planificador.enumeration.AuthProvider;
 import edu.utec.planificador.exception.InvalidCredentialsException;
+import edu.utec.planificador.exception.ServiceUnavailableException;
 import edu.utec.planificador.repository.UserRepository;
+import edu.utec.planificador.security.PasswordVerificationExecutor;
 import edu.utec.planificador.service.AuthenticationStrategy;
 import edu.utec.planificador.service.MessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LocalAuthenticationStrategy implements AuthenticationStrategy {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationExecutor passwordVerifier;
     private final MessageService messageService;
 
     @Override
     public User authenticate(String email, String password) {
         log.debug("Attempting LOCAL authentication for user: {}", email);
 
-        User user = userRepository.findByUtecEmail(email)
+        User user = userRepository.findByUtecEmailWithPositions(email)
             .orElseThrow(() -> {
                 log.warn("LOCAL authentication failed for {}: user not found", email);
 
@@ -56,7 +59,7 @@ public class LocalAuthenticationStrategy implements AuthenticationStrategy {
             );
         }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!verifyPassword(email, password, user.getPassword())) {
             log.warn("LOCAL authentication failed for {}: invalid password", email);
 
             throw new InvalidCredentialsException(
@@ -68,6 +71,20 @@ public class LocalAuthenticationStrategy implements AuthenticationStrategy {
         return user;
     }
 
+    private boolean verifyPassword(String email, String password, String encodedPassword) {
+        try {
+            return passwordVerifier.matches(password, encodedPassword);
+        } catch (RejectedExecutionException e) {
+            long retryAfter = passwordVerifier.getRetryAfterSeconds();
+            log.warn("LOCAL authentication rejected for {}: password verification queue is full", email);
+
+            throw new ServiceUnavailableException(
+                messageService.getMessage("auth.error.login-busy", retryAfter),
+                retryAfter
+            );
+        }
+    }
+
     @Override
     public boolean supports(String providerName) {
         return AuthProvider.LOCAL.name().equalsIgnoreCase(providerName);
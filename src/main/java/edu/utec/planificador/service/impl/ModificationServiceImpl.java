@@ -1,5 +1,6 @@
 package edu.utec.planificador.service.impl;
 
+import edu.utec.planificador.dto.response.CursorPageResponse;
 import edu.utec.planificador.dto.response.ModificationResponse;
 import edu.utec.planificador.entity.Activity;
 import edu.utec.planificador.entity.Course;
@@ -12,11 +13,14 @@ import edu.utec.planificador.enumeration.ModificationType;
 import edu.utec.planificador.repository.CourseRepository;
 import edu.utec.planificador.repository.ModificationRepository;
 import edu.utec.planificador.repository.UserRepository;
+import edu.utec.planificador.security.AuthenticatedUser;
 import edu.utec.planificador.service.AccessControlService;
 import edu.utec.planificador.service.MessageService;
 import edu.utec.planificador.service.ModificationService;
+import edu.utec.planificador.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -24,6 +28,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
@@ -50,6 +57,58 @@ public class ModificationServiceImpl implements ModificationService {
         return modifications.map(this::mapToResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ModificationResponse> getModificationsByCourse(Long courseId, String cursor, int size, boolean includeCount) {
+        log.debug("Getting modifications for courseId={} by cursor, size={}, includeCount={}", courseId, size, includeCount);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+
+        accessControlService.validateCourseAccess(courseId);
+
+        // Se pide una fila de más para saber si hay página siguiente sin contar
+        Limit limit = Limit.of(size + 1);
+        List<Modification> modifications;
+
+        if (cursor == null || cursor.isBlank()) {
+            modifications = modificationRepository.findFirstByCourseId(courseId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            modifications = modificationRepository.findByCourseIdAfter(courseId, parseModificationDate(after), after.id(), limit);
+        }
+
+        boolean hasNext = modifications.size() > size;
+        List<Modification> page = hasNext ? modifications.subList(0, size) : modifications;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Modification last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getModificationDate(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<ModificationResponse>builder()
+            .content(page.stream().map(this::mapToResponse).toList())
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .totalElements(includeCount ? modificationRepository.countByCourseId(courseId) : null)
+            .build();
+    }
+
+    private LocalDateTime parseModificationDate(KeysetCursor cursor) {
+        if (cursor.sortKey() == null) {
+            throw new IllegalArgumentException("Invalid cursor: missing modification date");
+        }
+
+        try {
+            return LocalDateTime.parse(cursor.sortKey());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: malformed modification date " + cursor.sortKey(), e);
+        }
+    }
+
     @Override
     @Transactional
     public void logProgrammaticContentCreation(ProgrammaticContent content, Teacher teacher, Course course) {
@@ -176,6 +235,11 @@ public class ModificationServiceImpl implements ModificationService {
     private void saveModification(String description, ModificationType type, Teacher teacher, Course course) {
         Modification modification = new Modification(description, type, teacher, course);
         modificationRepository.save(modification);
+
+        // Desnormalizado en el curso para que los listados no recorran el historial
+        if (course.getLastModifiedAt() == null || modification.getModificationDate().isAfter(course.getLastModifiedAt())) {
+            course.setLastModifiedAt(modification.getModificationDate());
+        }
         log.info("Created modification: {}", description);
     }
 
@@ -197,7 +261,7 @@ public class ModificationServiceImpl implements ModificationService {
 
     public Teacher getCurrentTeacher() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
         User fullUser = userRepository.findByIdWithPositions(user.getId())
             .orElseThrow(() -> new RuntimeException(messageService.getMessage("error.user.not-found")));
 
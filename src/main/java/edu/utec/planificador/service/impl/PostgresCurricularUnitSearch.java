@@ -0,0 +1,105 @@
+package edu.utec.planificador.service.impl;
+
+import edu.utec.planificador.repository.CurricularUnitRepository;
+import edu.utec.planificador.service.CurricularUnitSearch;
+import edu.utec.planificador.util.SearchTextUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link CurricularUnitSearch} on PostgreSQL trigram indexes (pg_trgm + unaccent).
+ * <p>
+ * Both names are compared through {@code search_normalize} (lower + unaccent), which backs the GIN
+ * indexes created by {@code CourseSearchIndexSetup}. Each table is matched on its own branch of the
+ * UNION so each branch can use its index: {@code LIKE '%text%'} for substrings and {@code <%}
+ * (word similarity) for typos. Ranking follows {@link CurricularUnitSearch}.
+ * <p>
+ * Until {@code CourseSearchIndexSetup} reports the indexes as ready (and for good if they cannot be
+ * created, e.g. the database role may not create the extensions) it answers with an
+ * {@link InMemoryCurricularUnitSearch}.
+ */
+@Component
+@ConditionalOnProperty(name = "course.search.engine", havingValue = "postgres")
+public class PostgresCurricularUnitSearch implements CurricularUnitSearch {
+
+    private static final String SEARCH = """
+        WITH matches AS (
+            SELECT cu.id FROM curricular_unit cu
+            WHERE search_normalize(cu.name) LIKE :contains OR :text <% search_normalize(cu.name)
+            UNION
+            SELECT cu.id FROM program p
+            JOIN term t ON t.program_id = p.id
+            JOIN curricular_unit cu ON cu.term_id = t.id
+            WHERE search_normalize(p.name) LIKE :contains OR :text <% search_normalize(p.name)
+        )
+        SELECT cu.id FROM matches m
+        JOIN curricular_unit cu ON cu.id = m.id
+        JOIN term t ON t.id = cu.term_id
+        JOIN program p ON p.id = t.program_id
+        ORDER BY
+            CASE
+                WHEN search_normalize(cu.name) LIKE :prefix THEN 3
+                WHEN search_normalize(cu.name) LIKE :contains THEN 2
+                WHEN search_normalize(p.name) LIKE :contains THEN 1
+                ELSE 0
+            END DESC,
+            GREATEST(word_similarity(:text, search_normalize(cu.name)), word_similarity(:text, search_normalize(p.name))) DESC,
+            cu.id
+        LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final InMemoryCurricularUnitSearch fallback;
+
+    private volatile boolean indexesReady;
+
+    public PostgresCurricularUnitSearch(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        CurricularUnitRepository curricularUnitRepository
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fallback = new InMemoryCurricularUnitSearch(curricularUnitRepository);
+    }
+
+    /**
+     * Called once the trigram indexes and {@code search_normalize} exist; from then on searches run in PostgreSQL.
+     */
+    public void markIndexesReady() {
+        indexesReady = true;
+    }
+
+    @Override
+    public List<Long> search(String text, int limit) {
+        if (!indexesReady) {
+            return fallback.search(text, limit);
+        }
+
+        String query = SearchTextUtils.normalize(text);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String literal = escapeLike(query);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("text", query)
+            .addValue("contains", "%" + literal + "%")
+            .addValue("prefix", literal + "%")
+            .addValue("limit", limit);
+
+        return jdbcTemplate.queryForList(SEARCH, parameters, Long.class);
+    }
+
+    @Override
+    public void invalidate() {
+        fallback.invalidate();
+    }
+
+    // Backslash is PostgreSQL's default LIKE escape character
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
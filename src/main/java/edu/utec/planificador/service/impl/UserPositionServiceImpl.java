@@ -7,6 +7,7 @@ import edu.utec.planificador.enumeration.Role;
 import edu.utec.planificador.mapper.PositionMapper;
 import edu.utec.planificador.mapper.UserMapper;
 import edu.utec.planificador.repository.UserRepository;
+import edu.utec.planificador.security.AuthenticatedUser;
 import edu.utec.planificador.service.MessageService;
 import edu.utec.planificador.service.UserPositionService;
 import edu.utec.planificador.specification.UserSpecification;
@@ -34,7 +35,7 @@ public class UserPositionServiceImpl implements UserPositionService {
     @Transactional(readOnly = true)
     public UserPositionsResponse getCurrentUserPositions() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User currentUser = (User) authentication.getPrincipal();
+        AuthenticatedUser currentUser = (AuthenticatedUser) authentication.getPrincipal();
 
         log.debug("Getting positions for user: {}", currentUser.getUtecEmail());
 
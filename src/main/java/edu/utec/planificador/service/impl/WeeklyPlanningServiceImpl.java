@@ -1,12 +1,21 @@
 package edu.utec.planificador.service.impl;
 
 import edu.utec.planificador.dto.request.WeeklyPlanningRequest;
+import edu.utec.planificador.dto.response.ActivityResponse;
+import edu.utec.planificador.dto.response.CoursePlanningTreeResponse;
 import edu.utec.planificador.dto.response.WeeklyPlanningResponse;
 import edu.utec.planificador.entity.Course;
 import edu.utec.planificador.entity.WeeklyPlanning;
 import edu.utec.planificador.exception.ResourceNotFoundException;
+import edu.utec.planificador.repository.ActivityRepository;
 import edu.utec.planificador.repository.CourseRepository;
+import edu.utec.planificador.repository.ProgrammaticContentRepository;
 import edu.utec.planificador.repository.WeeklyPlanningRepository;
+import edu.utec.planificador.repository.projection.ActivityEnumValueView;
+import edu.utec.planificador.repository.projection.ActivityTreeView;
+import edu.utec.planificador.repository.projection.BibliographicReferenceView;
+import edu.utec.planificador.repository.projection.CoursePlanningHeaderView;
+import edu.utec.planificador.repository.projection.ProgrammaticContentTreeView;
 import edu.utec.planificador.service.AccessControlService;
 import edu.utec.planificador.service.MessageService;
 import edu.utec.planificador.service.WeeklyPlanningService;
@@ -16,7 +25,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +38,8 @@ public class WeeklyPlanningServiceImpl implements WeeklyPlanningService {
 
     private final WeeklyPlanningRepository weeklyPlanningRepository;
     private final CourseRepository courseRepository;
+    private final ProgrammaticContentRepository programmaticContentRepository;
+    private final ActivityRepository activityRepository;
     private final AccessControlService accessControlService;
     private final MessageService messageService;
 
@@ -93,6 +107,85 @@ public class WeeklyPlanningServiceImpl implements WeeklyPlanningService {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CoursePlanningTreeResponse getPlanningTreeByCourseId(Long courseId) {
+        log.debug("Getting planning tree for courseId={}", courseId);
+
+        // Una sola validación para todo el árbol
+        accessControlService.validateCourseAccess(courseId);
+
+        CoursePlanningHeaderView course = courseRepository.findPlanningHeaderById(courseId)
+            .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.course.not-found")));
+
+        // Cada nivel es una query plana por curso; el árbol se arma en memoria agrupando por ID del padre
+        Map<Long, List<String>> referencesByWeek = weeklyPlanningRepository.findBibliographicReferencesByCourseId(courseId)
+            .stream()
+            .collect(Collectors.groupingBy(
+                BibliographicReferenceView::getWeeklyPlanningId,
+                Collectors.mapping(BibliographicReferenceView::getReference, Collectors.toList())
+            ));
+
+        Map<Long, Map<String, Set<String>>> enumValuesByActivity = activityRepository.findEnumValuesByCourseId(courseId)
+            .stream()
+            .collect(Collectors.groupingBy(
+                ActivityEnumValueView::getActivityId,
+                Collectors.groupingBy(
+                    ActivityEnumValueView::getKind,
+                    Collectors.mapping(ActivityEnumValueView::getEnumName, Collectors.toSet())
+                )
+            ));
+
+        Map<Long, List<ActivityResponse>> activitiesByContent = activityRepository.findTreeRowsByCourseId(courseId)
+            .stream()
+            .collect(Collectors.groupingBy(
+                ActivityTreeView::getProgrammaticContentId,
+                Collectors.mapping(
+                    activity -> mapToActivityResponse(activity, enumValuesByActivity.getOrDefault(activity.getId(), Map.of())),
+                    Collectors.toList()
+                )
+            ));
+
+        Map<Long, List<CoursePlanningTreeResponse.ProgrammaticContentNode>> contentsByWeek = programmaticContentRepository
+            .findTreeRowsByCourseId(courseId)
+            .stream()
+            .collect(Collectors.groupingBy(
+                ProgrammaticContentTreeView::getWeeklyPlanningId,
+                Collectors.mapping(
+                    content -> CoursePlanningTreeResponse.ProgrammaticContentNode.builder()
+                        .id(content.getId())
+                        .title(content.getTitle())
+                        .content(content.getContent())
+                        .color(content.getColor())
+                        .weeklyPlanningId(content.getWeeklyPlanningId())
+                        .activities(activitiesByContent.getOrDefault(content.getId(), List.of()))
+                        .build(),
+                    Collectors.toList()
+                )
+            ));
+
+        List<CoursePlanningTreeResponse.WeeklyPlanningNode> weeks = weeklyPlanningRepository.findTreeRowsByCourseId(courseId)
+            .stream()
+            .map(week -> CoursePlanningTreeResponse.WeeklyPlanningNode.builder()
+                .id(week.getId())
+                .weekNumber(week.getWeekNumber())
+                .startDate(week.getStartDate())
+                .endDate(week.getEndDate())
+                .bibliographicReferences(referencesByWeek.getOrDefault(week.getId(), List.of()))
+                .programmaticContents(contentsByWeek.getOrDefault(week.getId(), List.of()))
+                .build())
+            .toList();
+
+        return CoursePlanningTreeResponse.builder()
+            .courseId(course.getId())
+            .description(course.getDescription())
+            .curricularUnitName(course.getCurricularUnitName())
+            .startDate(course.getStartDate())
+            .endDate(course.getEndDate())
+            .weeklyPlannings(weeks)
+            .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public WeeklyPlanningResponse getWeeklyPlanningByCourseIdAndWeekNumber(Long courseId, Integer weekNumber) {
@@ -215,7 +308,7 @@ public class WeeklyPlanningServiceImpl implements WeeklyPlanningService {
         WeeklyPlanning weeklyPlanning = weeklyPlanningRepository.findById(weeklyPlanningId)
             .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessage("error.weekly-planning.not-found")));
 
-        return weeklyPlanning.getBibliographicReferences();
+        return new ArrayList<>(weeklyPlanning.getBibliographicReferences());
     }
 
     @Override
@@ -250,11 +343,27 @@ public class WeeklyPlanningServiceImpl implements WeeklyPlanningService {
             .weekNumber(weeklyPlanning.getWeekNumber())
             .startDate(weeklyPlanning.getStartDate())
             .endDate(weeklyPlanning.getEndDate())
-            .bibliographicReferences(weeklyPlanning.getBibliographicReferences())
+            .bibliographicReferences(new ArrayList<>(weeklyPlanning.getBibliographicReferences()))
             .programmaticContentIds(weeklyPlanning.getProgrammaticContents().stream()
                 .map(pc -> pc.getId())
                 .collect(Collectors.toList()))
             .build();
     }
-}
 
+    // Mismo formato que ActivityServiceImpl, a partir de la fila plana y sus valores de enums agrupados por tipo
+    private ActivityResponse mapToActivityResponse(ActivityTreeView activity, Map<String, Set<String>> enumValues) {
+        return ActivityResponse.builder()
+            .id(activity.getId())
+            .title(activity.getTitle())
+            .description(activity.getDescription())
+            .color(activity.getColor())
+            .durationInMinutes(activity.getDurationInMinutes())
+            .learningModality(activity.getLearningModality())
+            .programmaticContentId(activity.getProgrammaticContentId())
+            .cognitiveProcesses(enumValues.getOrDefault(ActivityRepository.KIND_COGNITIVE_PROCESS, Set.of()))
+            .transversalCompetencies(enumValues.getOrDefault(ActivityRepository.KIND_TRANSVERSAL_COMPETENCY, Set.of()))
+            .teachingStrategies(enumValues.getOrDefault(ActivityRepository.KIND_TEACHING_STRATEGY, Set.of()))
+            .learningResources(enumValues.getOrDefault(ActivityRepository.KIND_LEARNING_RESOURCE, Set.of()))
+            .build();
+    }
+}
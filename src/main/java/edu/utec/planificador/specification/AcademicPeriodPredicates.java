@@ -0,0 +1,33 @@
+package edu.utec.planificador.specification;
+
+import edu.utec.planificador.util.AcademicPeriodUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.Optional;
+
+/**
+ * Period filter shared by the specifications: compares the indexed {@code Course.academicPeriod}
+ * key instead of extracting year and month from {@code startDate}, so it can use the index.
+ */
+final class AcademicPeriodPredicates {
+
+    private AcademicPeriodPredicates() {
+    }
+
+    /**
+     * @param course path to the Course whose period is filtered
+     * @param period period in "YYYY-1S" / "YYYY-2S" format
+     * @return the predicate, or empty if the period format is invalid (the filter is ignored)
+     */
+    static Optional<Predicate> inPeriod(CriteriaBuilder criteriaBuilder, Path<?> course, String period) {
+        return AcademicPeriodUtils.parseRange(period).map(range -> {
+            Path<Integer> academicPeriod = course.get("academicPeriod");
+
+            return range.isSingle()
+                ? criteriaBuilder.equal(academicPeriod, range.from())
+                : criteriaBuilder.between(academicPeriod, range.from(), range.to());
+        });
+    }
+}
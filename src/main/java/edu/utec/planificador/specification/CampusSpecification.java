@@ -66,39 +66,8 @@ public class CampusSpecification {
                 subqueryPredicates.add(criteriaBuilder.equal(campusSubqueryRoot.get("id"), root.get("id")));
                 subqueryPredicates.add(criteriaBuilder.equal(campusProgramsJoin.get("id"), programRoot.get("id")));
                 
-                // Parse period format (YYYY-1S or YYYY-2S) and filter by startDate
-                try {
-                    String[] parts = period.split("-");
-                    if (parts.length == 2) {
-                        int year = Integer.parseInt(parts[0]);
-                        int semester = Integer.parseInt(parts[1].replace("S", ""));
-                        
-                        subqueryPredicates.add(criteriaBuilder.equal(
-                            criteriaBuilder.function("date_part", Integer.class, 
-                                criteriaBuilder.literal("year"), 
-                                courseJoin.get("startDate")),
-                            year
-                        ));
-                        
-                        if (semester == 1) {
-                            subqueryPredicates.add(criteriaBuilder.between(
-                                criteriaBuilder.function("date_part", Integer.class,
-                                    criteriaBuilder.literal("month"), 
-                                    courseJoin.get("startDate")),
-                                1, 7
-                            ));
-                        } else if (semester == 2) {
-                            subqueryPredicates.add(criteriaBuilder.between(
-                                criteriaBuilder.function("date_part", Integer.class,
-                                    criteriaBuilder.literal("month"), 
-                                    courseJoin.get("startDate")),
-                                8, 12
-                            ));
-                        }
-                    }
-                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
-                    // Invalid period format, ignore the filter
-                }
+                // Period format YYYY-1S or YYYY-2S, matched on the indexed academic period key
+                AcademicPeriodPredicates.inPeriod(criteriaBuilder, courseJoin, period).ifPresent(subqueryPredicates::add);
                 
                 subquery.select(criteriaBuilder.literal(1L));
                 subquery.where(criteriaBuilder.and(subqueryPredicates.toArray(new Predicate[0])));
@@ -2,18 +2,20 @@ package edu.utec.planificador.specification;
 
 import edu.utec.planificador.entity.Course;
 import edu.utec.planificador.entity.Teacher;
-import edu.utec.planificador.entity.User;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * JPA Specifications for building dynamic queries on Course entity.
- * This allows filtering courses by user (teacher), campus, and period without creating multiple repository methods.
+ * This allows filtering courses by user (teacher), campus, period and curricular units without creating multiple repository methods.
  */
 public class CourseSpecification {
 
@@ -23,10 +25,11 @@ public class CourseSpecification {
      * @param userId Optional user ID to filter courses by teacher
      * @param campusId Optional campus ID to filter courses directly by their campus relationship
      * @param period Optional period to filter courses (format: "YYYY-1S" or "YYYY-2S")
-     * @param searchText Optional text to search in curricular unit name or program name
+     * @param curricularUnitIds Optional curricular units to restrict to, usually the matches of a
+     *                          {@code CurricularUnitSearch} (null = no filter)
      * @return Specification that can be used with CourseRepository
      */
-    public static Specification<Course> withFilters(Long userId, Long campusId, String period, String searchText) {
+    public static Specification<Course> withFilters(Long userId, Long campusId, String period, Collection<Long> curricularUnitIds) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -35,72 +38,46 @@ public class CourseSpecification {
                 predicates.add(criteriaBuilder.equal(root.get("campus").get("id"), campusId));
             }
 
-            // Filter by user (teacher) - only join teachers if needed
-            if (userId != null) {
-                Join<Course, Teacher> teacherJoin = root.join("teachers", JoinType.INNER);
-                Join<Teacher, User> userJoin = teacherJoin.join("user", JoinType.INNER);
-                predicates.add(criteriaBuilder.equal(userJoin.get("id"), userId));
-                predicates.add(criteriaBuilder.isTrue(teacherJoin.get("isActive")));
+            // Filter by user (teacher) with EXISTS, so a course is never duplicated and no DISTINCT is needed
+            if (userId != null && query != null) {
+                Subquery<Long> teacherSubquery = query.subquery(Long.class);
+                Root<Course> courseRoot = teacherSubquery.correlate(root);
+                Join<Course, Teacher> teacherJoin = courseRoot.join("teachers", JoinType.INNER);
+                teacherSubquery.select(criteriaBuilder.literal(1L));
+                teacherSubquery.where(
+                    criteriaBuilder.equal(teacherJoin.get("user").get("id"), userId),
+                    criteriaBuilder.isTrue(teacherJoin.get("isActive"))
+                );
+                predicates.add(criteriaBuilder.exists(teacherSubquery));
             }
 
-            if (period != null && !period.isBlank()) {                
-                try {
-                    String[] parts = period.split("-");
-                    if (parts.length == 2) {
-                        int year = Integer.parseInt(parts[0]);
-                        int semester = Integer.parseInt(parts[1].replace("S", ""));
-                        
-                        predicates.add(criteriaBuilder.equal(
-                            criteriaBuilder.function("date_part", Integer.class, 
-                                criteriaBuilder.literal("year"), 
-                                root.get("startDate")),
-                            year
-                        ));
-                        
-                        if (semester == 1) {
-                            predicates.add(criteriaBuilder.between(
-                                criteriaBuilder.function("date_part", Integer.class,
-                                    criteriaBuilder.literal("month"), 
-                                    root.get("startDate")),
-                                1, 7
-                            ));
-                        } else if (semester == 2) {
-                            predicates.add(criteriaBuilder.between(
-                                criteriaBuilder.function("date_part", Integer.class,
-                                    criteriaBuilder.literal("month"), 
-                                    root.get("startDate")),
-                                8, 12
-                            ));
-                        }
-                    }
-                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
-                    // Invalid period format, ignore the filter
-                }
+            if (period != null && !period.isBlank()) {
+                // Invalid period format: the filter is ignored
+                AcademicPeriodPredicates.inPeriod(criteriaBuilder, root, period).ifPresent(predicates::add);
             }
 
-            if (searchText != null && !searchText.isBlank()) {
-                String searchPattern = "%" + searchText.toLowerCase() + "%";
-                
-                Predicate curricularUnitNamePredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("curricularUnit").get("name")),
-                    searchPattern
-                );
-                
-                Predicate programNamePredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("curricularUnit").get("term").get("program").get("name")),
-                    searchPattern
-                );
-                
-                predicates.add(criteriaBuilder.or(curricularUnitNamePredicate, programNamePredicate));
+            if (curricularUnitIds != null) {
+                predicates.add(curricularUnitIds.isEmpty()
+                    ? criteriaBuilder.disjunction()
+                    : root.get("curricularUnit").get("id").in(curricularUnitIds));
             }
 
             if (query != null) {
-                query.distinct(true);
-                
                 query.orderBy(criteriaBuilder.desc(root.get("startDate")));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Courses offered at any campus of a regional technological institute.
+     *
+     * @param rtiId Optional RTI ID (null = no filter)
+     */
+    public static Specification<Course> inRegionalTechnologicalInstitute(Long rtiId) {
+        return (root, query, criteriaBuilder) -> rtiId == null
+            ? null
+            : criteriaBuilder.equal(root.get("campus").get("regionalTechnologicalInstitute").get("id"), rtiId);
+    }
 }
@@ -0,0 +1,80 @@
+package edu.utec.planificador.util;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Clave numérica del período académico de un curso: {@code año * 10 + semestre}
+ * (p. ej. 2024-1S -> 20241). Se persiste indexada en {@code course.academic_period}
+ * para que el filtro por período sea una búsqueda por rango en el índice.
+ */
+public final class AcademicPeriodUtils {
+
+    private static final int FIRST_SEMESTER_LAST_MONTH = 7;
+
+    private AcademicPeriodUtils() {
+        throw new UnsupportedOperationException(
+            "Esta es una clase de utilidad y no puede ser instanciada"
+        );
+    }
+
+    /**
+     * Misma semántica que {@code Course.getPeriod()}: enero a julio es el primer semestre.
+     */
+    public static Integer keyOf(LocalDate startDate) {
+        if (startDate == null) {
+            return null;
+        }
+
+        int semester = startDate.getMonthValue() <= FIRST_SEMESTER_LAST_MONTH ? 1 : 2;
+        return startDate.getYear() * 10 + semester;
+    }
+
+    /**
+     * Etiqueta "YYYY-1S" / "YYYY-2S" de una clave, igual a la de {@code Course.getPeriod()}.
+     */
+    public static String toPeriod(Integer key) {
+        if (key == null) {
+            return null;
+        }
+
+        return String.format("%d-%dS", key / 10, key % 10);
+    }
+
+    /**
+     * Convierte un período con formato "YYYY-1S" o "YYYY-2S" en el rango de claves a filtrar.
+     * Un semestre distinto de 1 o 2 filtra solo por año (ambos semestres); un formato inválido
+     * devuelve vacío y el filtro se ignora.
+     */
+    public static Optional<KeyRange> parseRange(String period) {
+        if (period == null || period.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String[] parts = period.split("-");
+            if (parts.length != 2) {
+                return Optional.empty();
+            }
+
+            int year = Integer.parseInt(parts[0]);
+            int semester = Integer.parseInt(parts[1].replace("S", ""));
+
+            if (semester == 1 || semester == 2) {
+                int key = year * 10 + semester;
+                return Optional.of(new KeyRange(key, key));
+            }
+
+            return Optional.of(new KeyRange(year * 10 + 1, year * 10 + 2));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public record KeyRange(int from, int to) {
+
+        public boolean isSingle() {
+            return from == to;
+        }
+    }
+}
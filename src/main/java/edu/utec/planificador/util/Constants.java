@@ -46,6 +46,15 @@ public final class Constants {
     public static final int MIN_WEEK_NUMBER = 1;
     public static final int MAX_WEEK_NUMBER = 52;
 
+    // Persistence constants
+    // IDs reservados por cada llamada a la secuencia (optimizador pooled); debe coincidir con el
+    // INCREMENT BY de las secuencias <tabla>_seq
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Fetch plan constants
+    // Colecciones lazy que se inicializan juntas, en lotes, al recorrer un listado de entidades
+    public static final int BATCH_FETCH_SIZE = 50;
+
     private Constants() {
         throw new UnsupportedOperationException(
             "Esta es una clase de utilidad y no puede ser instanciada"
@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -19,8 +21,17 @@ public class CookieUtil {
     @Value("${security.cookie.domain:}")
     private String cookieDomain;
 
+    @Value("${security.cookie.decryption-cache.ttl-seconds:60}")
+    private long decryptionCacheTtlSeconds;
+
+    @Value("${security.cookie.decryption-cache.max-entries:10000}")
+    private int decryptionCacheMaxEntries;
+
     private final EncryptionUtil encryptionUtil;
 
+    // Short-lived cache of decrypted cookie values, so repeated requests with the same cookie skip AES
+    private final ConcurrentHashMap<String, DecryptedValue> decryptedValues = new ConcurrentHashMap<>();
+
     public CookieUtil(EncryptionUtil encryptionUtil) {
         this.encryptionUtil = encryptionUtil;
     }
@@ -72,8 +83,7 @@ public class CookieUtil {
             for (Cookie cookie : request.getCookies()) {
                 if (cookieName.equals(cookie.getName())) {
                     try {
-                        String decryptedValue = encryptionUtil.decrypt(cookie.getValue());
-                        return Optional.of(decryptedValue);
+                        return Optional.of(decryptCookieValue(cookie.getValue()));
                     } catch (Exception e) {
                         log.error("Error decrypting cookie value for: {}", cookieName, e);
                         return Optional.empty();
@@ -84,11 +94,42 @@ public class CookieUtil {
         return Optional.empty();
     }
 
+    private String decryptCookieValue(String encryptedValue) {
+        if (decryptionCacheTtlSeconds <= 0 || decryptionCacheMaxEntries <= 0) {
+            return encryptionUtil.decrypt(encryptedValue);
+        }
+
+        long now = System.nanoTime();
+
+        DecryptedValue cached = decryptedValues.get(encryptedValue);
+        if (cached != null && now < cached.expiresAt()) {
+            return cached.value();
+        }
+
+        String decryptedValue = encryptionUtil.decrypt(encryptedValue);
+
+        if (decryptedValues.size() >= decryptionCacheMaxEntries) {
+            decryptedValues.values().removeIf(entry -> entry.expiresAt() <= now);
+
+            if (decryptedValues.size() >= decryptionCacheMaxEntries) {
+                decryptedValues.clear();
+            }
+        }
+
+        decryptedValues.put(
+            encryptedValue,
+            new DecryptedValue(decryptedValue, now + TimeUnit.SECONDS.toNanos(decryptionCacheTtlSeconds))
+        );
+        return decryptedValue;
+    }
+
     private void addSameSiteAttribute(HttpServletResponse response, String sameSiteValue) {
         String setCookieHeader = response.getHeader("Set-Cookie");
         if (setCookieHeader != null && !setCookieHeader.contains("SameSite=")) {
             response.setHeader("Set-Cookie", setCookieHeader + "; SameSite=" + sameSiteValue);
         }
     }
-}
 
+    private record DecryptedValue(String value, long expiresAt) {
+    }
+}
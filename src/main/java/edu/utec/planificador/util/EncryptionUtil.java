@@ -9,9 +9,10 @@ import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
 
 @Slf4j
@@ -21,6 +22,14 @@ public class EncryptionUtil {
     private static final String ALGORITHM = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 128;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder URL_DECODER = Base64.getUrlDecoder();
+
+    // Cipher instances are not thread-safe, but can be re-initialized, so each thread keeps its own
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(EncryptionUtil::newCipher);
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
 
     private final SecretKey secretKey;
     private final SecureRandom secureRandom;
@@ -43,20 +52,21 @@ public class EncryptionUtil {
 
     public String encrypt(String plainText) {
         try {
+            byte[] input = plainText.getBytes(StandardCharsets.UTF_8);
+            Cipher cipher = CIPHERS.get();
+
             byte[] iv = new byte[GCM_IV_LENGTH];
             secureRandom.nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
-
-            byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(cipherText);
+            // IV and ciphertext are written into a single array instead of being concatenated afterwards
+            byte[] output = new byte[GCM_IV_LENGTH + cipher.getOutputSize(input.length)];
+            System.arraycopy(iv, 0, output, 0, GCM_IV_LENGTH);
+            int length = cipher.doFinal(input, 0, input.length, output, GCM_IV_LENGTH);
 
-            String encrypted = Base64.getUrlEncoder().withoutPadding().encodeToString(byteBuffer.array());
+            String encrypted = URL_ENCODER.encodeToString(
+                length + GCM_IV_LENGTH == output.length ? output : Arrays.copyOf(output, GCM_IV_LENGTH + length)
+            );
 
             log.debug("Data encrypted successfully");
             return encrypted;
@@ -71,22 +81,30 @@ public class EncryptionUtil {
 
     public String decrypt(String encryptedText) {
         try {
-            byte[] decoded = Base64.getUrlDecoder().decode(encryptedText);
-
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-            byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
-
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+            byte[] encoded = encryptedText.getBytes(StandardCharsets.ISO_8859_1);
+            Buffers buffers = BUFFERS.get();
+
+            // Base64 is decoded straight into a per-thread buffer that is reused across requests
+            byte[] decoded = buffers.decoded(encoded.length);
+            int decodedLength = URL_DECODER.decode(encoded, decoded);
+
+            if (decodedLength <= GCM_IV_LENGTH) {
+                throw new IllegalArgumentException("Encrypted data is too short");
+            }
+
+            Cipher cipher = CIPHERS.get();
+            cipher.init(
+                Cipher.DECRYPT_MODE,
+                secretKey,
+                new GCMParameterSpec(GCM_TAG_LENGTH, decoded, 0, GCM_IV_LENGTH)
+            );
 
-            byte[] plainText = cipher.doFinal(cipherText);
+            int cipherTextLength = decodedLength - GCM_IV_LENGTH;
+            byte[] plainText = buffers.plain(cipher.getOutputSize(cipherTextLength));
+            int plainTextLength = cipher.doFinal(decoded, GCM_IV_LENGTH, cipherTextLength, plainText, 0);
 
             log.debug("Data decrypted successfully");
-            return new String(plainText, StandardCharsets.UTF_8);
+            return new String(plainText, 0, plainTextLength, StandardCharsets.UTF_8);
 
         } catch (Exception e) {
             log.error("Error decrypting data", e);
@@ -104,5 +122,38 @@ public class EncryptionUtil {
             return false;
         }
     }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " cipher not available", e);
+        }
+    }
+
+    /**
+     * Per-thread scratch buffers for decryption. They only grow, so after the first few requests
+     * decrypting a cookie does not allocate intermediate arrays.
+     */
+    private static final class Buffers {
+
+        private byte[] decoded = new byte[INITIAL_BUFFER_SIZE];
+        private byte[] plain = new byte[INITIAL_BUFFER_SIZE];
+
+        byte[] decoded(int encodedLength) {
+            int required = (encodedLength * 3) / 4 + 3;
+            if (decoded.length < required) {
+                decoded = new byte[required];
+            }
+            return decoded;
+        }
+
+        byte[] plain(int required) {
+            if (plain.length < required) {
+                plain = new byte[required];
+            }
+            return plain;
+        }
+    }
 }
 
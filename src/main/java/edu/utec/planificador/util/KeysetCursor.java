@@ -0,0 +1,59 @@
+package edu.utec.planificador.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Continuation token for keyset (cursor) pagination: the sort key and the ID of the last row
+ * of a page, plus its relevance rank when the listing is ordered by a search ranking.
+ * <p>
+ * The token sent to clients is opaque (Base64 URL-safe); the next page seeks to the rows
+ * strictly after this position instead of skipping an OFFSET.
+ *
+ * @param rank    Position in the search ranking, or null when there is no ranking
+ * @param sortKey Sort key of the last row in ISO format, or null when the row has none
+ * @param id      ID of the last row, used as tie-breaker
+ */
+public record KeysetCursor(Integer rank, String sortKey, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(Object sortKey, long id) {
+        return of(null, sortKey, id);
+    }
+
+    public static KeysetCursor of(Integer rank, Object sortKey, long id) {
+        return new KeysetCursor(rank, sortKey != null ? sortKey.toString() : null, id);
+    }
+
+    public String encode() {
+        String raw = (rank != null ? rank.toString() : "") + SEPARATOR
+            + (sortKey != null ? sortKey : "") + SEPARATOR
+            + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+
+            return new KeysetCursor(
+                parts[0].isEmpty() ? null : Integer.valueOf(parts[0]),
+                parts[1].isEmpty() ? null : parts[1],
+                Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException incluida
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package edu.utec.planificador.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de texto para búsquedas: minúsculas y sin tildes ni diéresis
+ * ("Programación" y "programacion" se comparan igual). Equivale a la función
+ * {@code search_normalize} usada por los índices de PostgreSQL.
+ */
+public final class SearchTextUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchTextUtils() {
+        throw new UnsupportedOperationException(
+            "Esta es una clase de utilidad y no puede ser instanciada"
+        );
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,17 @@
+package edu.utec.planificador.config;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.NullOrdering;
+
+/**
+ * Dialecto H2 para tests que coincide con DEFAULT_NULL_ORDERING=HIGH de la URL de test.
+ * Con el H2Dialect estándar Hibernate asume nulls "bajos" y omite un NULLS LAST explícito
+ * en un orden descendente, que H2 en modo PostgreSQL sí necesita.
+ */
+public class PostgreSQLModeH2Dialect extends H2Dialect {
+
+    @Override
+    public NullOrdering getNullOrdering() {
+        return NullOrdering.GREATEST;
+    }
+}
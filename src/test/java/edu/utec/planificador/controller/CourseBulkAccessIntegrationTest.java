@@ -0,0 +1,213 @@
+package edu.utec.planificador.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.dto.request.CourseBulkRequest;
+import edu.utec.planificador.dto.request.CourseRequest;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Coordinator;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.Shift;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración de la creación masiva con el control de acceso real y sin transacción de test:
+ * una unidad curricular sin acceso debe fallar solo en sus ítems, sin abortar la solicitud.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Course Bulk Creation Access Integration Tests")
+class CourseBulkAccessIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private RegionalTechnologicalInstitute rti;
+    private RegionalTechnologicalInstitute otherRti;
+    private Campus campus;
+    private Campus otherCampus;
+    private Program program;
+    private Program otherProgram;
+    private CurricularUnit curricularUnit;
+    private CurricularUnit forbiddenCurricularUnit;
+    private User coordinatorUser;
+    private User teacherUser;
+    private User otherTeacherUser;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            rti = new RegionalTechnologicalInstitute();
+            rti.setName("ITR Acceso Masivo");
+            entityManager.persist(rti);
+
+            otherRti = new RegionalTechnologicalInstitute();
+            otherRti.setName("ITR Sin Acceso Masivo");
+            entityManager.persist(otherRti);
+
+            program = new Program("Ingeniería con Acceso", 8, 240);
+            entityManager.persist(program);
+
+            otherProgram = new Program("Ingeniería sin Acceso", 8, 240);
+            entityManager.persist(otherProgram);
+
+            campus = new Campus();
+            campus.setName("Campus Acceso Masivo");
+            campus.setRegionalTechnologicalInstitute(rti);
+            campus.getPrograms().add(program);
+            entityManager.persist(campus);
+
+            // Sede de otro ITR: la única donde se ofrece la carrera sin acceso
+            otherCampus = new Campus();
+            otherCampus.setName("Campus Sin Acceso Masivo");
+            otherCampus.setRegionalTechnologicalInstitute(otherRti);
+            otherCampus.getPrograms().add(otherProgram);
+            entityManager.persist(otherCampus);
+
+            Term term = new Term(1, program);
+            entityManager.persist(term);
+            Term otherTerm = new Term(1, otherProgram);
+            entityManager.persist(otherTerm);
+
+            curricularUnit = new CurricularUnit("Álgebra", 8, term);
+            entityManager.persist(curricularUnit);
+            forbiddenCurricularUnit = new CurricularUnit("Química", 8, otherTerm);
+            entityManager.persist(forbiddenCurricularUnit);
+
+            coordinatorUser = createUser("coordinador.masivo@utec.edu.uy");
+            Coordinator coordinator = new Coordinator(coordinatorUser);
+            coordinator.addCampus(campus);
+            coordinatorUser.addPosition(coordinator);
+            entityManager.persist(coordinatorUser);
+
+            teacherUser = createTeacher("docente.acceso@utec.edu.uy", campus);
+            otherTeacherUser = createTeacher("docente.externo@utec.edu.uy", otherCampus);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            for (User user : List.of(coordinatorUser, teacherUser, otherTeacherUser)) {
+                entityManager.remove(entityManager.find(User.class, user.getId()));
+            }
+            // Las carreras eliminan en cascada sus semestres, unidades curriculares y cursos
+            for (Program removed : List.of(program, otherProgram)) {
+                entityManager.remove(entityManager.find(Program.class, removed.getId()));
+            }
+            for (Campus removed : List.of(campus, otherCampus)) {
+                entityManager.remove(entityManager.find(Campus.class, removed.getId()));
+            }
+            for (RegionalTechnologicalInstitute removed : List.of(rti, otherRti)) {
+                entityManager.remove(entityManager.find(RegionalTechnologicalInstitute.class, removed.getId()));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("POST /courses/bulk - Should fail only the courses of a forbidden curricular unit and create the others")
+    void createCourses_ForbiddenCurricularUnit_FailsOnlyItsCourses() throws Exception {
+        LocalDate start = LocalDate.of(2025, 3, 3);
+        List<CourseRequest> courses = List.of(
+            course(start, curricularUnit, campus, teacherUser),
+            course(start, forbiddenCurricularUnit, otherCampus, otherTeacherUser),
+            course(start.plusWeeks(1), curricularUnit, campus, teacherUser),
+            course(start.plusWeeks(1), forbiddenCurricularUnit, otherCampus, otherTeacherUser)
+        );
+
+        CourseBulkRequest request = CourseBulkRequest.builder()
+            .courses(courses)
+            .atomic(false)
+            .build();
+
+        mockMvc.perform(post("/courses/bulk")
+                .with(csrf())
+                .with(user(coordinatorUser))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requested").value(4))
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.failed").value(2))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+            .andExpect(jsonPath("$.results[1].error").value("No tienes acceso a esta unidad curricular"))
+            .andExpect(jsonPath("$.results[2].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[3].status").value("FAILED"));
+
+        Long created = transaction.execute(status -> entityManager.createQuery(
+                "SELECT COUNT(c) FROM Course c WHERE c.curricularUnit.id IN :ids", Long.class)
+            .setParameter("ids", List.of(curricularUnit.getId(), forbiddenCurricularUnit.getId()))
+            .getSingleResult());
+        assertThat(created).isEqualTo(2);
+    }
+
+    private CourseRequest course(LocalDate startDate, CurricularUnit curricularUnit, Campus campus, User teacher) {
+        return CourseRequest.builder()
+            .shift(Shift.MORNING)
+            .startDate(startDate)
+            .endDate(startDate.plusWeeks(16).minusDays(1))
+            .curricularUnitId(curricularUnit.getId())
+            .campusId(campus.getId())
+            .userIds(List.of(teacher.getId()))
+            .build();
+    }
+
+    private User createTeacher(String email, Campus campus) {
+        User user = createUser(email);
+        Teacher teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private User createUser(String email) {
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Docente");
+        personalData.setLastName("Acceso");
+        return new User(email, null, personalData);
+    }
+}
@@ -0,0 +1,301 @@
+package edu.utec.planificador.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.dto.request.CourseBulkRequest;
+import edu.utec.planificador.dto.request.CourseRequest;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.exception.ForbiddenException;
+import edu.utec.planificador.service.AccessControlService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración de la creación masiva de cursos (POST /courses/bulk) contra la base H2.
+ * Verifica el reporte por ítem, los modos atómico y por bloques, y que la cantidad de sentencias
+ * depende de la cantidad de bloques y no de la cantidad de cursos.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "course.bulk.max-items=20",
+    "course.bulk.chunk-size=5"
+})
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(username = "analista.bulk@utec.edu.uy", authorities = "COURSE_WRITE")
+@DisplayName("Course Bulk Creation Integration Tests")
+class CourseBulkIntegrationTest {
+
+    private static final int WEEKS = 16;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Campus campus;
+    private Campus otherCampus;
+    private CurricularUnit curricularUnit;
+    private CurricularUnit otherCurricularUnit;
+    private Teacher teacher;
+    private Teacher otherCampusTeacher;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Masivo");
+        entityManager.persist(rti);
+
+        Program program = new Program("Ingeniería Masiva", 8, 240);
+        entityManager.persist(program);
+
+        campus = new Campus();
+        campus.setName("Campus Masivo");
+        campus.setRegionalTechnologicalInstitute(rti);
+        campus.getPrograms().add(program);
+        entityManager.persist(campus);
+
+        // Sede donde la carrera no se ofrece
+        otherCampus = new Campus();
+        otherCampus.setName("Campus Sin Carrera");
+        otherCampus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(otherCampus);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        curricularUnit = new CurricularUnit("Cálculo I", 8, term);
+        entityManager.persist(curricularUnit);
+
+        otherCurricularUnit = new CurricularUnit("Física I", 8, term);
+        entityManager.persist(otherCurricularUnit);
+
+        teacher = createTeacher("docente.masivo@utec.edu.uy", campus);
+        otherCampusTeacher = createTeacher("docente.otrasede@utec.edu.uy", otherCampus);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("POST /courses/bulk - Should create every course with its weeks in a fixed number of statements per chunk")
+    void createCourses_AllValid_CreatesAllInChunks() throws Exception {
+        List<CourseRequest> courses = IntStream.range(0, 12)
+            .mapToObj(i -> course(LocalDate.of(2025, 3, 3).plusWeeks(i), curricularUnit, campus, teacher))
+            .toList();
+
+        statistics.clear();
+        bulk(courses, false)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requested").value(12))
+            .andExpect(jsonPath("$.created").value(12))
+            .andExpect(jsonPath("$.failed").value(0))
+            .andExpect(jsonPath("$.results[11].index").value(11))
+            .andExpect(jsonPath("$.results[11].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[11].error").value(nullValue()));
+
+        long statements = statistics.getPrepareStatementCount();
+        long inserts = statistics.getEntityInsertCount();
+
+        assertThat(countCourses()).isEqualTo(12);
+        assertThat(entityManager.createQuery("SELECT COUNT(wp) FROM WeeklyPlanning wp", Long.class).getSingleResult())
+            .isGreaterThanOrEqualTo(12L * WEEKS);
+        assertThat(entityManager.createQuery(
+                "SELECT COUNT(c) FROM Course c JOIN c.teachers t WHERE t.id = :teacherId", Long.class)
+            .setParameter("teacherId", teacher.getId())
+            .getSingleResult()).isEqualTo(12);
+
+        // 4 queries de validación + un batch de INSERT por tabla en cada uno de los 3 bloques
+        assertThat(statements).as("statements for %d entity inserts", inserts).isLessThan(4 + 3 * 10);
+
+        // El acceso se valida una vez por unidad curricular
+        verify(accessControlService, times(1)).validateCurricularUnitAccess(curricularUnit.getId());
+    }
+
+    @Test
+    @DisplayName("POST /courses/bulk - Should create the valid courses and report why each invalid one failed")
+    void createCourses_Mixed_ReportsEachItem() throws Exception {
+        doThrow(new ForbiddenException("Sin acceso a la unidad curricular"))
+            .when(accessControlService).validateCurricularUnitAccess(otherCurricularUnit.getId());
+
+        LocalDate start = LocalDate.of(2025, 3, 3);
+        List<CourseRequest> courses = new ArrayList<>();
+        courses.add(course(start, curricularUnit, campus, teacher));
+        courses.add(course(start, curricularUnit, otherCampus, otherCampusTeacher));
+        courses.add(course(start, curricularUnit, campus, otherCampusTeacher));
+        CourseRequest invertedDates = course(start, curricularUnit, campus, teacher);
+        invertedDates.setEndDate(start.minusDays(1));
+        courses.add(invertedDates);
+        CourseRequest missingShift = course(start, curricularUnit, campus, teacher);
+        missingShift.setShift(null);
+        courses.add(missingShift);
+        courses.add(course(start, otherCurricularUnit, campus, teacher));
+        courses.add(course(start, otherCurricularUnit, campus, teacher));
+        courses.add(course(start.plusWeeks(1), curricularUnit, campus, teacher));
+
+        bulk(courses, false)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requested").value(8))
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.failed").value(6))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+            .andExpect(jsonPath("$.results[1].error").value("La carrera no se ofrece en la sede seleccionada"))
+            .andExpect(jsonPath("$.results[2].error").value("El docente seleccionado no pertenece a la sede especificada para este curso"))
+            .andExpect(jsonPath("$.results[3].error").value("La fecha de inicio no puede ser posterior a la fecha de fin"))
+            .andExpect(jsonPath("$.results[4].error").value("El turno del curso es obligatorio"))
+            .andExpect(jsonPath("$.results[5].error").value("Sin acceso a la unidad curricular"))
+            .andExpect(jsonPath("$.results[6].error").value("Sin acceso a la unidad curricular"))
+            .andExpect(jsonPath("$.results[7].index").value(7))
+            .andExpect(jsonPath("$.results[7].status").value("CREATED"));
+
+        assertThat(countCourses()).isEqualTo(2);
+        verify(accessControlService, times(1)).validateCurricularUnitAccess(otherCurricularUnit.getId());
+    }
+
+    @Test
+    @DisplayName("POST /courses/bulk - Atomic request with an invalid course should create nothing")
+    void createCourses_AtomicWithInvalid_CreatesNothing() throws Exception {
+        LocalDate start = LocalDate.of(2025, 3, 3);
+        List<CourseRequest> courses = List.of(
+            course(start, curricularUnit, campus, teacher),
+            course(start, curricularUnit, otherCampus, teacher),
+            course(start.plusWeeks(1), curricularUnit, campus, teacher)
+        );
+
+        bulk(courses, true)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(0))
+            .andExpect(jsonPath("$.failed").value(3))
+            .andExpect(jsonPath("$.results[0].status").value("SKIPPED"))
+            .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+            .andExpect(jsonPath("$.results[2].status").value("SKIPPED"))
+            .andExpect(jsonPath("$.results[2].courseId").value(nullValue()));
+
+        assertThat(countCourses()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /courses/bulk - Atomic request with valid courses should create all of them")
+    void createCourses_AtomicAllValid_CreatesAll() throws Exception {
+        List<CourseRequest> courses = IntStream.range(0, 7)
+            .mapToObj(i -> course(LocalDate.of(2025, 8, 4).plusWeeks(i), curricularUnit, campus, teacher))
+            .toList();
+
+        bulk(courses, true)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(7))
+            .andExpect(jsonPath("$.results[6].status").value("CREATED"));
+
+        assertThat(countCourses()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("POST /courses/bulk - Should reject more courses than the configured maximum")
+    void createCourses_TooMany_ReturnsBadRequest() throws Exception {
+        List<CourseRequest> courses = IntStream.range(0, 21)
+            .mapToObj(i -> course(LocalDate.of(2025, 3, 3), curricularUnit, campus, teacher))
+            .toList();
+
+        bulk(courses, false)
+            .andExpect(status().isBadRequest());
+
+        assertThat(countCourses()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /courses/bulk - Should reject an empty course list")
+    void createCourses_Empty_ReturnsBadRequest() throws Exception {
+        bulk(List.of(), false)
+            .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions bulk(List<CourseRequest> courses, boolean atomic) throws Exception {
+        CourseBulkRequest request = CourseBulkRequest.builder()
+            .courses(courses)
+            .atomic(atomic)
+            .build();
+
+        return mockMvc.perform(post("/courses/bulk")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private CourseRequest course(LocalDate startDate, CurricularUnit curricularUnit, Campus campus, Teacher teacher) {
+        return CourseRequest.builder()
+            .shift(Shift.MORNING)
+            .startDate(startDate)
+            .endDate(startDate.plusWeeks(WEEKS).minusDays(1))
+            .curricularUnitId(curricularUnit.getId())
+            .campusId(campus.getId())
+            .userIds(List.of(teacher.getUser().getId()))
+            .build();
+    }
+
+    private long countCourses() {
+        return entityManager.createQuery("SELECT COUNT(c) FROM Course c", Long.class).getSingleResult();
+    }
+
+    private Teacher createTeacher(String email, Campus campus) {
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Docente");
+        personalData.setLastName("Masivo");
+        User user = new User(email, null, personalData);
+        Teacher newTeacher = new Teacher(user);
+        newTeacher.addCampus(campus);
+        user.addPosition(newTeacher);
+        entityManager.persist(user);
+        return newTeacher;
+    }
+}
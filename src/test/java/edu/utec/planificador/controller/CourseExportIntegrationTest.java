@@ -0,0 +1,168 @@
+package edu.utec.planificador.controller;
+
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.CourseExportFormat;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.service.AccessControlService;
+import edu.utec.planificador.service.CourseExportService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Tests de integración de GET /courses/export: alcance por sede o ITR, filtro por período, escape
+ * del CSV y timeout propio del request asíncrono de la exportación.
+ */
+@SpringBootTest(properties = "course.export.timeout-seconds=42")
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(authorities = "COURSE_READ")
+@DisplayName("Course Export Integration Tests")
+class CourseExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CourseExportService courseExportService;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private RegionalTechnologicalInstitute rti;
+    private RegionalTechnologicalInstitute otherRti;
+    private Campus campus;
+    private CurricularUnit curricularUnit;
+    private Teacher teacher;
+
+    @BeforeEach
+    void setUp() {
+        rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Exportación");
+        entityManager.persist(rti);
+
+        otherRti = new RegionalTechnologicalInstitute();
+        otherRti.setName("ITR Exportación 2");
+        entityManager.persist(otherRti);
+
+        campus = new Campus();
+        campus.setName("Campus Exportación");
+        campus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(campus);
+
+        Program program = new Program("Ingeniería en Exportaciones", 8, 240);
+        entityManager.persist(program);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        curricularUnit = new CurricularUnit("Bases de Datos", 8, term);
+        entityManager.persist(curricularUnit);
+
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Ana");
+        personalData.setLastName("Suárez");
+        User user = new User("docente.exportacion@utec.edu.uy", null, personalData);
+        teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+
+        createCourse("Curso exportado", LocalDate.of(2025, 3, 1));
+        createCourse("Taller, \"avanzado\"", LocalDate.of(2025, 3, 15));
+        createCourse("=SUM(A1)", LocalDate.of(2025, 4, 1));
+        createCourse("Curso anterior", LocalDate.of(2024, 8, 1));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should export the campus and ignore an RTI given along with it")
+    void exportCourses_CampusAndOtherRti_ExportsCampus() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        courseExportService.exportCourses(campus.getId(), otherRti.getId(), null, CourseExportFormat.JSONL).writeTo(output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n"))
+            .hasSize(4)
+            .anyMatch(line -> line.contains("\"description\":\"Curso exportado\""));
+        verify(accessControlService).validateCampusAccess(campus.getId());
+    }
+
+    @Test
+    @DisplayName("Should export the courses of an RTI and period as escaped CSV")
+    void exportCourses_RtiAndPeriodAsCsv_WritesEscapedRows() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        courseExportService.exportCourses(null, rti.getId(), "2025-1S", CourseExportFormat.CSV).writeTo(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).isEqualTo("id,description,shift,period,startDate,endDate,curricularUnit,term,program,campus,teachers,lastModificationDate");
+        assertThat(lines).hasSize(4);
+        assertThat(lines).allMatch(line -> line.startsWith("id,") || line.contains(",2025-1S,"));
+        assertThat(lines).anyMatch(line -> line.contains(",\"Taller, \"\"avanzado\"\"\","));
+        assertThat(lines).anyMatch(line -> line.contains(",'=SUM(A1),"));
+        assertThat(lines[1]).contains("Ana Suárez <docente.exportacion@utec.edu.uy>");
+        verify(accessControlService).validateRtiAccess(rti.getId());
+    }
+
+    @Test
+    @DisplayName("Should require a campus or RTI before streaming")
+    void exportCourses_NoScope_ThrowsIllegalArgument() {
+        assertThatThrownBy(() -> courseExportService.exportCourses(null, null, "2025-1S", CourseExportFormat.CSV))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("GET /courses/export - Should stream with the export timeout instead of the default async timeout")
+    void exportCourses_Streamed_UsesExportTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/courses/export").param("campusId", campus.getId().toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(42_000);
+        result.getAsyncResult();
+    }
+
+    private void createCourse(String description, LocalDate startDate) {
+        Course course = new Course(
+            Shift.MORNING, description, startDate, startDate.plusMonths(4),
+            PartialGradingSystem.PGS_1, curricularUnit, campus
+        );
+        course.getTeachers().add(teacher);
+        entityManager.persist(course);
+    }
+}
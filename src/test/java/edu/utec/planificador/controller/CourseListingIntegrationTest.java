@@ -0,0 +1,394 @@
+package edu.utec.planificador.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.utec.planificador.config.CourseBackfill;
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Modification;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.ModificationType;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.Shift;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración del listado de cursos (GET /courses) contra la base H2.
+ * Verifica que la cantidad de queries por página es fija, sin importar el tamaño de la página.
+ */
+// Solo la unidad más relevante se ordena por ranking; el resto de las coincidencias igual se listan
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "course.search.ranked-matches=1"
+})
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Course Listing Integration Tests")
+class CourseListingIntegrationTest {
+
+    // Page query + count query + teachers of the page
+    private static final long QUERY_BUDGET = 3;
+
+    // Cursor page query + teachers of the page
+    private static final long SCROLL_QUERY_BUDGET = 2;
+
+    private static final int COURSES = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CourseBackfill courseBackfill;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private CurricularUnit curricularUnit;
+    private Campus campus;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Listado");
+        entityManager.persist(rti);
+
+        campus = new Campus();
+        campus.setName("Campus Listado");
+        campus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(campus);
+
+        Program program = new Program("Ingeniería en Listados", 8, 240);
+        entityManager.persist(program);
+
+        Term term = new Term(3, program);
+        entityManager.persist(term);
+
+        curricularUnit = new CurricularUnit("Programación Avanzada", 8, term);
+        entityManager.persist(curricularUnit);
+
+        Teacher firstTeacher = createTeacher("docente.uno@utec.edu.uy", "Ana", "Suárez", campus);
+        Teacher secondTeacher = createTeacher("docente.dos@utec.edu.uy", "Luis", "Pereira", campus);
+
+        for (int i = 0; i < COURSES; i++) {
+            Course course = new Course(
+                Shift.MORNING,
+                "Curso " + i,
+                LocalDate.of(2024, 3, 1).plusDays(i),
+                LocalDate.of(2024, 7, 1).plusDays(i),
+                PartialGradingSystem.PGS_1,
+                curricularUnit,
+                campus
+            );
+            course.getTeachers().add(firstTeacher);
+            course.getTeachers().add(secondTeacher);
+            entityManager.persist(course);
+
+            // Odd courses have no history; even courses were last edited in reverse creation order
+            if (i % 2 == 0) {
+                for (int day = 1; day <= 3; day++) {
+                    Modification modification = new Modification("Cambio " + day, ModificationType.UPDATE, firstTeacher, course);
+                    modification.setModificationDate(LocalDateTime.of(2024, 4, day, 10, 0).minusHours(i));
+                    entityManager.persist(modification);
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Courses created outside ModificationService get their last modification date from the backfill
+        courseBackfill.run();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("GET /courses - Should build the page from flat rows with its teachers and last modification")
+    void getCourses_Page_ReturnsRowsWithTeachers() throws Exception {
+        mockMvc.perform(get("/courses").param("page", "0").param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(10))
+            .andExpect(jsonPath("$.totalElements").value(COURSES))
+            .andExpect(jsonPath("$.content[0].description").value("Curso " + (COURSES - 1)))
+            .andExpect(jsonPath("$.content[0].lastModificationDate").doesNotExist())
+            .andExpect(jsonPath("$.content[1].description").value("Curso " + (COURSES - 2)))
+            .andExpect(jsonPath("$.content[0].shift").value(Shift.MORNING.getDisplayValue()))
+            .andExpect(jsonPath("$.content[0].curricularUnitName").value("Programación Avanzada"))
+            .andExpect(jsonPath("$.content[0].termName").value("Semestre 3"))
+            .andExpect(jsonPath("$.content[0].programName").value("Ingeniería en Listados"))
+            .andExpect(jsonPath("$.content[0].campusName").value("Campus Listado"))
+            .andExpect(jsonPath("$.content[0].teachers.length()").value(2))
+            .andExpect(jsonPath("$.content[0].teachers[0].fullName").value("Ana Suárez"))
+            .andExpect(jsonPath("$.content[0].teachers[1].email").value("docente.dos@utec.edu.uy"))
+            .andExpect(jsonPath("$.content[1].lastModificationDate").value("2024-04-02T06:00:00"));
+    }
+
+    @Test
+    @DisplayName("GET /courses - Should sort by last modification with never-modified courses last")
+    void getCourses_SortedByLastModification_RecentlyEditedFirst() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/courses").param("sortBy", "LAST_MODIFIED_AT").param("size", String.valueOf(COURSES)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].description").value("Curso 0"))
+            .andExpect(jsonPath("$.content[0].lastModificationDate").value("2024-04-03T10:00:00"))
+            .andExpect(jsonPath("$.content[1].description").value("Curso 2"))
+            .andExpect(jsonPath("$.content[14].description").value("Curso 28"))
+            .andExpect(jsonPath("$.content[15].description").value("Curso 29"))
+            .andExpect(jsonPath("$.content[15].lastModificationDate").doesNotExist())
+            .andExpect(jsonPath("$.content[29].description").value("Curso 1"));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /courses - Should issue the same fixed number of queries for any page size")
+    void getCourses_AnyPageSize_StaysWithinQueryBudget() throws Exception {
+        for (int size : new int[] {1, 10, 25}) {
+            statistics.clear();
+
+            mockMvc.perform(get("/courses").param("page", "0").param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(size));
+
+            assertThat(statistics.getPrepareStatementCount())
+                .as("queries for a page of %d courses", size)
+                .isLessThanOrEqualTo(QUERY_BUDGET);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /courses - Should stay within the query budget when filtering by teacher")
+    void getCourses_FilteredByTeacher_StaysWithinQueryBudget() throws Exception {
+        Long userId = entityManager
+            .createQuery("SELECT u.id FROM User u WHERE u.utecEmail = :email", Long.class)
+            .setParameter("email", "docente.uno@utec.edu.uy")
+            .getSingleResult();
+        statistics.clear();
+
+        mockMvc.perform(get("/courses").param("userId", userId.toString()).param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(20))
+            .andExpect(jsonPath("$.totalElements").value(COURSES))
+            .andExpect(jsonPath("$.content[0].teachers.length()").value(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /courses - Should search accent-insensitively and rank unit prefix matches first")
+    void getCourses_SearchText_RankedByRelevance() throws Exception {
+        CurricularUnit introduction = new CurricularUnit("Introducción a la Programación", 6, entityManager.merge(curricularUnit).getTerm());
+        entityManager.persist(introduction);
+        entityManager.persist(new Course(
+            Shift.EVENING, "Curso introductorio", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 7, 1),
+            PartialGradingSystem.PGS_1, introduction, entityManager.merge(campus)
+        ));
+        entityManager.flush();
+
+        // Warm the search index, then the page stays within the usual budget
+        mockMvc.perform(get("/courses").param("searchText", "PROGRAMACION")).andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/courses").param("searchText", "PROGRAMACION").param("size", String.valueOf(COURSES + 1)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(COURSES + 1))
+            .andExpect(jsonPath("$.content[0].curricularUnitName").value("Programación Avanzada"))
+            .andExpect(jsonPath("$.content[0].description").value("Curso " + (COURSES - 1)))
+            .andExpect(jsonPath("$.content[" + COURSES + "].curricularUnitName").value("Introducción a la Programación"));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(QUERY_BUDGET);
+
+        mockMvc.perform(get("/courses").param("searchText", "introduccion"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1));
+
+        // Program name, with a typo
+        mockMvc.perform(get("/courses").param("searchText", "listdos"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(COURSES + 1));
+
+        mockMvc.perform(get("/courses").param("searchText", "química"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /courses/scroll - Should walk every course once by cursor without counting")
+    void scrollCourses_ByStartDate_VisitsEveryCourseInOrder() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = COURSES - 1; i >= 0; i--) {
+            expected.add("Curso " + i);
+        }
+
+        statistics.clear();
+        List<String> visited = scrollAll(7, "START_DATE", null);
+
+        assertThat(visited).containsExactlyElementsOf(expected);
+        // Page query + teachers per page, never a count: 5 pages of 7, 7, 7, 7, 2
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5 * SCROLL_QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /courses/scroll - Should keep never-modified courses last and break ties by ID")
+    void scrollCourses_ByLastModification_NullsLastWithoutGapsOrRepeats() throws Exception {
+        List<String> visited = scrollAll(4, "LAST_MODIFIED_AT", null);
+
+        assertThat(visited).hasSize(COURSES).doesNotHaveDuplicates();
+        assertThat(visited.subList(0, COURSES / 2)).allMatch(description -> courseNumber(description) % 2 == 0);
+        assertThat(visited.get(0)).isEqualTo("Curso 0");
+        assertThat(visited.get(COURSES / 2 - 1)).isEqualTo("Curso " + (COURSES - 2));
+        // Never modified: same (null) key, newest ID first
+        assertThat(visited.subList(COURSES / 2, COURSES)).allMatch(description -> courseNumber(description) % 2 == 1);
+        assertThat(visited.get(COURSES / 2)).isEqualTo("Curso " + (COURSES - 1));
+        assertThat(visited.get(COURSES - 1)).isEqualTo("Curso 1");
+    }
+
+    @Test
+    @DisplayName("GET /courses/scroll - Should keep the search ranking across pages")
+    void scrollCourses_SearchText_KeepsRankingAcrossPages() throws Exception {
+        CurricularUnit introduction = new CurricularUnit("Introducción a la Programación", 6, entityManager.merge(curricularUnit).getTerm());
+        entityManager.persist(introduction);
+        entityManager.persist(new Course(
+            Shift.EVENING, "Curso introductorio", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 7, 1),
+            PartialGradingSystem.PGS_1, introduction, entityManager.merge(campus)
+        ));
+        entityManager.flush();
+
+        List<String> visited = scrollAll(8, "START_DATE", "PROGRAMACION");
+
+        assertThat(visited).hasSize(COURSES + 1).doesNotHaveDuplicates();
+        assertThat(visited.get(0)).isEqualTo("Curso " + (COURSES - 1));
+        assertThat(visited.get(COURSES)).isEqualTo("Curso introductorio");
+    }
+
+    @Test
+    @DisplayName("GET /courses/scroll - Should list matches beyond the ranked ones after them, without gaps or repeats")
+    void scrollCourses_SearchBeyondRankedMatches_ListsEveryMatch() throws Exception {
+        CurricularUnit introduction = new CurricularUnit("Introducción a la Programación", 6, entityManager.merge(curricularUnit).getTerm());
+        entityManager.persist(introduction);
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(new Course(
+                Shift.EVENING, "Curso introductorio " + i, LocalDate.of(2025, 3, 1).plusDays(i), LocalDate.of(2025, 7, 1),
+                PartialGradingSystem.PGS_1, introduction, entityManager.merge(campus)
+            ));
+        }
+        entityManager.flush();
+
+        // The first page ends on an unranked match, so the cursor carries the shared last rank
+        List<String> visited = scrollAll(COURSES + 1, "START_DATE", "PROGRAMACION");
+
+        assertThat(visited).hasSize(COURSES + 3).doesNotHaveDuplicates();
+        assertThat(visited.get(COURSES - 1)).isEqualTo("Curso 0");
+        assertThat(visited.subList(COURSES, COURSES + 3))
+            .containsExactly("Curso introductorio 2", "Curso introductorio 1", "Curso introductorio 0");
+
+        mockMvc.perform(get("/courses").param("searchText", "PROGRAMACION"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(COURSES + 3));
+    }
+
+    @Test
+    @DisplayName("GET /courses/scroll - Should only count when asked to")
+    void scrollCourses_IncludeCount_ReturnsTotal() throws Exception {
+        mockMvc.perform(get("/courses/scroll").param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(5))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get("/courses/scroll").param("size", "5").param("includeCount", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(COURSES));
+    }
+
+    @Test
+    @DisplayName("GET /courses/scroll - Should reject a malformed cursor")
+    void scrollCourses_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/courses/scroll").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private List<String> scrollAll(int size, String sortBy, String searchText) throws Exception {
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            MockHttpServletRequestBuilder request = get("/courses/scroll")
+                .param("size", String.valueOf(size))
+                .param("sortBy", sortBy);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            if (searchText != null) {
+                request.param("searchText", searchText);
+            }
+
+            String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(course -> visited.add(course.get("description").asText()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            // A cursor that does not advance would repeat rows forever
+            assertThat(visited).hasSizeLessThanOrEqualTo(2 * COURSES);
+        } while (cursor != null);
+
+        return visited;
+    }
+
+    private int courseNumber(String description) {
+        return Integer.parseInt(description.substring("Curso ".length()));
+    }
+
+    private Teacher createTeacher(String email, String name, String lastName, Campus campus) {
+        PersonalData personalData = new PersonalData();
+        personalData.setName(name);
+        personalData.setLastName(lastName);
+
+        User user = new User(email, null, personalData);
+        Teacher teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+
+        return teacher;
+    }
+}
@@ -0,0 +1,221 @@
+package edu.utec.planificador.controller;
+
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.dto.request.CourseRequest;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Coordinator;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.service.AccessControlService;
+import edu.utec.planificador.service.CourseService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración de GET /courses/periods: agregado DISTINCT, cache por filtro e invalidación
+ * al crear o modificar cursos.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Course Periods Integration Tests")
+class CoursePeriodsIntegrationTest {
+
+    private static final String COORDINATOR_EMAIL = "coordinador.periodos@utec.edu.uy";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CourseService courseService;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Campus campus;
+    private Campus otherCampus;
+    private CurricularUnit curricularUnit;
+    private Teacher teacher;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Períodos");
+        entityManager.persist(rti);
+
+        campus = createCampus("Campus Períodos", rti);
+        otherCampus = createCampus("Campus Períodos 2", rti);
+
+        Program program = new Program("Ingeniería en Períodos", 8, 240);
+        entityManager.persist(program);
+        otherCampus.getPrograms().add(program);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        curricularUnit = new CurricularUnit("Cálculo", 8, term);
+        entityManager.persist(curricularUnit);
+
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Ana");
+        personalData.setLastName("Suárez");
+        User user = new User("docente.periodos@utec.edu.uy", null, personalData);
+        teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        teacher.addCampus(otherCampus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+
+        PersonalData coordinatorData = new PersonalData();
+        coordinatorData.setName("Luis");
+        coordinatorData.setLastName("Pereira");
+        User coordinatorUser = new User(COORDINATOR_EMAIL, null, coordinatorData);
+        Coordinator coordinator = new Coordinator(coordinatorUser);
+        coordinator.addCampus(otherCampus);
+        coordinatorUser.addPosition(coordinator);
+        entityManager.persist(coordinatorUser);
+
+        createCourse(LocalDate.of(2024, 3, 1), campus, teacher);
+        createCourse(LocalDate.of(2024, 6, 15), campus, null);
+        createCourse(LocalDate.of(2024, 8, 1), campus, null);
+        createCourse(LocalDate.of(2023, 9, 1), otherCampus, teacher);
+        createCourse(LocalDate.of(2025, 2, 1), otherCampus, null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("GET /courses/periods - Should return distinct periods, most recent first, per filter")
+    void getPeriods_Filters_ReturnsDistinctSortedPeriods() throws Exception {
+        mockMvc.perform(get("/courses/periods").param("campusId", campus.getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].period").value(contains("2024-2S", "2024-1S")));
+
+        mockMvc.perform(get("/courses/periods").param("userId", teacher.getUser().getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].period").value(contains("2024-1S", "2023-2S")));
+
+        mockMvc.perform(get("/courses/periods")
+                .param("campusId", otherCampus.getId().toString())
+                .param("userId", teacher.getUser().getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].period").value(contains("2023-2S")));
+    }
+
+    @Test
+    @DisplayName("GET /courses/periods - Should answer a warm filter without touching the database")
+    void getPeriods_Warm_ServedFromCache() {
+        courseService.getPeriods(campus.getId(), null);
+        statistics.clear();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(courseService.getPeriods(campus.getId(), null)).extracting("period")
+                .containsExactly("2024-2S", "2024-1S");
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = COORDINATOR_EMAIL)
+    @DisplayName("GET /courses/periods - Should reflect a new course and a new teacher assignment")
+    void getPeriods_CourseChanges_InvalidateCache() {
+        Long userId = teacher.getUser().getId();
+        assertThat(courseService.getPeriods(campus.getId(), null)).extracting("period")
+            .containsExactly("2024-2S", "2024-1S");
+        assertThat(courseService.getPeriods(null, userId)).extracting("period")
+            .containsExactly("2024-1S", "2023-2S");
+
+        // Create: new period for the campus
+        createCourse(LocalDate.of(2026, 3, 1), entityManager.merge(campus), null);
+        entityManager.flush();
+
+        assertThat(courseService.getPeriods(campus.getId(), null)).extracting("period")
+            .containsExactly("2026-1S", "2024-2S", "2024-1S");
+
+        // Update: assigning the teacher to the 2025 course only changes the join table
+        Course course2025 = entityManager
+            .createQuery("SELECT c FROM Course c WHERE c.academicPeriod = 20251", Course.class)
+            .getSingleResult();
+        assertThat(courseService.getPeriods(null, userId)).extracting("period")
+            .containsExactly("2024-1S", "2023-2S");
+
+        courseService.updateCourse(course2025.getId(), CourseRequest.builder()
+            .shift(course2025.getShift())
+            .description(course2025.getDescription())
+            .startDate(course2025.getStartDate())
+            .endDate(course2025.getEndDate())
+            .partialGradingSystem(course2025.getPartialGradingSystem())
+            .curricularUnitId(curricularUnit.getId())
+            .campusId(otherCampus.getId())
+            .userIds(List.of(userId))
+            .build());
+        entityManager.flush();
+
+        assertThat(courseService.getPeriods(null, userId)).extracting("period")
+            .containsExactly("2025-1S", "2024-1S", "2023-2S");
+    }
+
+    private Campus createCampus(String name, RegionalTechnologicalInstitute rti) {
+        Campus newCampus = new Campus();
+        newCampus.setName(name);
+        newCampus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(newCampus);
+        return newCampus;
+    }
+
+    private void createCourse(LocalDate startDate, Campus courseCampus, Teacher courseTeacher) {
+        Course course = new Course(
+            Shift.MORNING,
+            "Curso " + startDate,
+            startDate,
+            startDate.plusMonths(4),
+            PartialGradingSystem.PGS_1,
+            entityManager.merge(curricularUnit),
+            courseCampus
+        );
+        if (courseTeacher != null) {
+            course.getTeachers().add(courseTeacher);
+        }
+        entityManager.persist(course);
+    }
+}
@@ -0,0 +1,189 @@
+package edu.utec.planificador.controller;
+
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.entity.Activity;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.ProgrammaticContent;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.WeeklyPlanning;
+import edu.utec.planificador.enumeration.CognitiveProcess;
+import edu.utec.planificador.enumeration.LearningModality;
+import edu.utec.planificador.enumeration.LearningResource;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.enumeration.TeachingStrategy;
+import edu.utec.planificador.enumeration.TransversalCompetency;
+import edu.utec.planificador.service.AccessControlService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración del árbol de planificación de un curso (GET /weekly-plannings/course/{id}/tree)
+ * contra la base H2. Verifica que el árbol completo se arma con un número fijo de queries.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Course Planning Tree Integration Tests")
+class CoursePlanningTreeIntegrationTest {
+
+    // Header + weeks + references + contents + activities + enum values (authorization is mocked)
+    private static final long QUERY_BUDGET = 6;
+
+    private static final int WEEKS = 16;
+    private static final int CONTENTS_PER_WEEK = 3;
+    private static final int ACTIVITIES_PER_CONTENT = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Planificación");
+        entityManager.persist(rti);
+
+        Campus campus = new Campus();
+        campus.setName("Campus Planificación");
+        campus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(campus);
+
+        Program program = new Program("Ingeniería en Planificación", 8, 240);
+        entityManager.persist(program);
+
+        Term term = new Term(2, program);
+        entityManager.persist(term);
+
+        CurricularUnit curricularUnit = new CurricularUnit("Sistemas Operativos", 8, term);
+        entityManager.persist(curricularUnit);
+
+        LocalDate start = LocalDate.of(2024, 3, 4);
+        Course course = new Course(
+            Shift.MORNING, "Curso de 16 semanas", start, start.plusWeeks(WEEKS).minusDays(1),
+            PartialGradingSystem.PGS_1, curricularUnit, campus
+        );
+
+        for (int week = 1; week <= WEEKS; week++) {
+            WeeklyPlanning weeklyPlanning = new WeeklyPlanning(week, start.plusWeeks(week - 1));
+            weeklyPlanning.getBibliographicReferences().add("Referencia " + week + ".a");
+            weeklyPlanning.getBibliographicReferences().add("Referencia " + week + ".b");
+
+            for (int c = 1; c <= CONTENTS_PER_WEEK; c++) {
+                ProgrammaticContent content = new ProgrammaticContent("Tema " + week + "." + c, "Contenido", weeklyPlanning);
+                weeklyPlanning.getProgrammaticContents().add(content);
+
+                for (int a = 1; a <= ACTIVITIES_PER_CONTENT; a++) {
+                    Activity activity = new Activity("Actividad " + week + "." + c + "." + a, 45, LearningModality.IN_PERSON, content);
+                    activity.getCognitiveProcesses().add(CognitiveProcess.REMEMBER);
+                    activity.getCognitiveProcesses().add(CognitiveProcess.APPLY);
+                    activity.getTransversalCompetencies().add(TransversalCompetency.TEAMWORK);
+                    activity.getTeachingStrategies().add(TeachingStrategy.DEBATE);
+                    activity.getLearningResources().add(LearningResource.BOOK_DOCUMENT);
+                    content.getActivities().add(activity);
+                }
+            }
+
+            course.getWeeklyPlannings().add(weeklyPlanning);
+        }
+
+        entityManager.persist(course);
+        courseId = course.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @WithMockUser(authorities = "PLANNING_READ")
+    @DisplayName("GET /weekly-plannings/course/{id}/tree - Should return the whole planning with a fixed number of queries")
+    void getPlanningTree_SixteenWeekCourse_ReturnsFullTreeWithinQueryBudget() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/weekly-plannings/course/{courseId}/tree", courseId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.courseId").value(courseId))
+            .andExpect(jsonPath("$.curricularUnitName").value("Sistemas Operativos"))
+            .andExpect(jsonPath("$.weeklyPlannings.length()").value(WEEKS))
+            .andExpect(jsonPath("$.weeklyPlannings[0].weekNumber").value(1))
+            .andExpect(jsonPath("$.weeklyPlannings[15].weekNumber").value(16))
+            .andExpect(jsonPath("$.weeklyPlannings[15].startDate").value("2024-06-17"))
+            .andExpect(jsonPath("$.weeklyPlannings[2].bibliographicReferences", containsInAnyOrder("Referencia 3.a", "Referencia 3.b")))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents.length()").value(CONTENTS_PER_WEEK))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].title").value("Tema 3.2"))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].activities.length()").value(ACTIVITIES_PER_CONTENT))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].activities[1].description").value("Actividad 3.2.2"))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].activities[1].learningModality").value("IN_PERSON"))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].activities[1].cognitiveProcesses", containsInAnyOrder("REMEMBER", "APPLY")))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].activities[1].transversalCompetencies", containsInAnyOrder("TEAMWORK")))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].activities[1].teachingStrategies", containsInAnyOrder("DEBATE")))
+            .andExpect(jsonPath("$.weeklyPlannings[2].programmaticContents[1].activities[1].learningResources", containsInAnyOrder("BOOK_DOCUMENT")));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(QUERY_BUDGET);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        verify(accessControlService, times(1)).validateCourseAccess(courseId);
+    }
+
+    @Test
+    @WithMockUser(authorities = "PLANNING_READ")
+    @DisplayName("GET /weekly-plannings/course/{id}/tree - Should return empty collections for weeks without content")
+    void getPlanningTree_EmptyWeek_ReturnsEmptyCollections() throws Exception {
+        Course course = entityManager.find(Course.class, courseId);
+        course.getWeeklyPlannings().add(new WeeklyPlanning(WEEKS + 1, LocalDate.of(2024, 6, 24)));
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/weekly-plannings/course/{courseId}/tree", courseId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.weeklyPlannings.length()").value(WEEKS + 1))
+            .andExpect(jsonPath("$.weeklyPlannings[16].bibliographicReferences.length()").value(0))
+            .andExpect(jsonPath("$.weeklyPlannings[16].programmaticContents.length()").value(0));
+    }
+
+    @Test
+    @WithMockUser(authorities = "PLANNING_READ")
+    @DisplayName("GET /weekly-plannings/course/{id}/tree - Should return 404 for an unknown course")
+    void getPlanningTree_UnknownCourse_ReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/weekly-plannings/course/{courseId}/tree", 999_999L))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,184 @@
+package edu.utec.planificador.controller;
+
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.enumeration.SustainableDevelopmentGoal;
+import edu.utec.planificador.exception.ForbiddenException;
+import edu.utec.planificador.service.AccessControlService;
+import edu.utec.planificador.service.CourseService;
+import edu.utec.planificador.service.impl.CourseResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración de la cache versionada de CourseResponse (GET /courses/{id}): aciertos sin
+ * queries, control de acceso por llamada, invalidación al modificar el curso y métricas.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Course Response Cache Integration Tests")
+class CourseResponseCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseResponseCache courseResponseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Cache");
+        entityManager.persist(rti);
+
+        Campus campus = new Campus();
+        campus.setName("Campus Cache");
+        campus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(campus);
+
+        Program program = new Program("Ingeniería en Cache", 8, 240);
+        entityManager.persist(program);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        CurricularUnit curricularUnit = new CurricularUnit("Sistemas Operativos", 8, term);
+        entityManager.persist(curricularUnit);
+
+        Course course = new Course(
+            Shift.EVENING,
+            "Curso cacheado",
+            LocalDate.of(2025, 3, 1),
+            LocalDate.of(2025, 7, 15),
+            PartialGradingSystem.PGS_1,
+            curricularUnit,
+            campus
+        );
+        course.getSustainableDevelopmentGoals().add(SustainableDevelopmentGoal.SDG_4);
+        entityManager.persist(course);
+        courseId = course.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /courses/{id} - Should serve a warm course without queries, still checking access")
+    void getCourseById_Warm_ServedFromCache() throws Exception {
+        mockMvc.perform(get("/courses/{id}", courseId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("Curso cacheado"));
+
+        entityManager.clear();
+        statistics.clear();
+
+        mockMvc.perform(get("/courses/{id}", courseId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("Curso cacheado"))
+            .andExpect(jsonPath("$.curricularUnit.name").value("Sistemas Operativos"))
+            .andExpect(jsonPath("$.sustainableDevelopmentGoals").value(contains("SDG_4")));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        verify(accessControlService, times(2)).validateCourseAccess(courseId);
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /courses/{id} - Should deny a cached course to a caller without access")
+    void getCourseById_Cached_AccessStillChecked() throws Exception {
+        courseService.getCourseById(courseId);
+
+        doThrow(new ForbiddenException("Sin acceso"))
+            .when(accessControlService).validateCourseAccess(courseId);
+
+        mockMvc.perform(get("/courses/{id}", courseId))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(authorities = {"COURSE_READ", "PLANNING_WRITE"})
+    @DisplayName("GET /courses/{id} - Should reflect a mutation through a new version")
+    void getCourseById_AfterMutation_ReturnsNewVersion() throws Exception {
+        courseService.getCourseById(courseId);
+        long version = courseResponseCache.currentVersion(courseId);
+
+        mockMvc.perform(post("/courses/{id}/sustainable-development-goals/{goal}", courseId, "SDG_13"))
+            .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(courseResponseCache.currentVersion(courseId)).isGreaterThan(version);
+
+        mockMvc.perform(get("/courses/{id}", courseId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sustainableDevelopmentGoals.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("Should publish hit ratio and memory footprint metrics")
+    void cacheMetrics_Published() {
+        courseService.getCourseById(courseId);
+        courseService.getCourseById(courseId);
+
+        String cache = CourseResponseCache.CACHE_NAME;
+        assertThat(meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit")
+            .functionCounter().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", cache).gauge().value()).isGreaterThan(0);
+        assertThat(meterRegistry.get("cache.memory.estimated").tag("cache", cache).gauge().value()).isGreaterThan(0);
+    }
+}
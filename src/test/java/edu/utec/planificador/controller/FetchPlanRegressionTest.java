@@ -0,0 +1,236 @@
+package edu.utec.planificador.controller;
+
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.ProgrammaticContent;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.entity.WeeklyPlanning;
+import edu.utec.planificador.enumeration.DeliveryFormat;
+import edu.utec.planificador.enumeration.DomainArea;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.ProfessionalCompetency;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.enumeration.SustainableDevelopmentGoal;
+import edu.utec.planificador.enumeration.UniversalDesignLearningPrinciple;
+import edu.utec.planificador.service.AccessControlService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Regresión de la cantidad de sentencias SQL por endpoint (el control de acceso está mockeado, así
+ * que solo se cuenta la carga de datos). Junto a cada presupuesto se registra cuántas sentencias
+ * ejecutaba el endpoint con las colecciones de valores EAGER, para el mismo conjunto de datos.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Fetch Plan Regression Tests")
+class FetchPlanRegressionTest {
+
+    private static final int CURRICULAR_UNITS = 3;
+    private static final int COURSES_PER_UNIT = 4;
+    private static final int WEEKS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Campus campus;
+    private CurricularUnit curricularUnit;
+    private Teacher teacher;
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Fetch");
+        entityManager.persist(rti);
+
+        Program program = new Program("Ingeniería en Fetch", 8, 240);
+        entityManager.persist(program);
+
+        campus = new Campus();
+        campus.setName("Campus Fetch");
+        campus.setRegionalTechnologicalInstitute(rti);
+        campus.getPrograms().add(program);
+        entityManager.persist(campus);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Laura");
+        personalData.setLastName("Fetch");
+        User user = new User("docente.fetch@utec.edu.uy", null, personalData);
+        teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+
+        List<Course> courses = new ArrayList<>();
+        for (int u = 1; u <= CURRICULAR_UNITS; u++) {
+            CurricularUnit unit = new CurricularUnit("Unidad Fetch " + u, 8, term);
+            unit.getDomainAreas().add(DomainArea.RDI_PROJECTS);
+            unit.getDomainAreas().add(DomainArea.INSTALLATION_DESIGN);
+            unit.getProfessionalCompetencies().add(ProfessionalCompetency.PROJECT_DESIGN_MANAGEMENT);
+            unit.getProfessionalCompetencies().add(ProfessionalCompetency.TECHNICAL_ASSISTANCE);
+            entityManager.persist(unit);
+
+            if (curricularUnit == null) {
+                curricularUnit = unit;
+            }
+
+            for (int c = 0; c < COURSES_PER_UNIT; c++) {
+                LocalDate start = LocalDate.of(2024, 3, 4).plusYears(c);
+                Course course = new Course(
+                    Shift.MORNING, "Curso Fetch " + u + "." + c, start, start.plusWeeks(WEEKS).minusDays(1),
+                    PartialGradingSystem.PGS_1, unit, campus
+                );
+                course.getHoursPerDeliveryFormat().put(DeliveryFormat.IN_PERSON, 40);
+                course.getHoursPerDeliveryFormat().put(DeliveryFormat.VIRTUAL, 20);
+                course.getSustainableDevelopmentGoals().add(SustainableDevelopmentGoal.SDG_4);
+                course.getSustainableDevelopmentGoals().add(SustainableDevelopmentGoal.SDG_9);
+                course.getUniversalDesignLearningPrinciples().add(UniversalDesignLearningPrinciple.MEANS_OF_REPRESENTATION);
+                course.getUniversalDesignLearningPrinciples().add(UniversalDesignLearningPrinciple.MEANS_OF_ENGAGEMENT);
+                course.getTeachers().add(teacher);
+
+                for (int week = 1; week <= WEEKS; week++) {
+                    WeeklyPlanning weeklyPlanning = new WeeklyPlanning(week, start.plusWeeks(week - 1));
+                    weeklyPlanning.getBibliographicReferences().add("Referencia " + week + ".a");
+                    weeklyPlanning.getBibliographicReferences().add("Referencia " + week + ".b");
+                    weeklyPlanning.getProgrammaticContents().add(
+                        new ProgrammaticContent("Tema " + week, "Contenido", weeklyPlanning)
+                    );
+                    course.getWeeklyPlannings().add(weeklyPlanning);
+                }
+
+                entityManager.persist(course);
+                courses.add(course);
+            }
+        }
+        courseId = courses.get(0).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /courses/{id} - Statement budget")
+    void getCourseById_StatementBudget() throws Exception {
+        assertStatements("GET /courses/{id}", get("/courses/{id}", courseId), 5, 12);
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /courses/{id}/pdf-data - Statement budget")
+    void getCoursePdfData_StatementBudget() throws Exception {
+        assertStatements("GET /courses/{id}/pdf-data", get("/courses/{id}/pdf-data", courseId), 8, 14);
+    }
+
+    @Test
+    @WithMockUser(authorities = "PLANNING_READ")
+    @DisplayName("GET /courses/{id}/statistics - Statement budget")
+    void getCourseStatistics_StatementBudget() throws Exception {
+        assertStatements("GET /courses/{id}/statistics", get("/courses/{id}/statistics", courseId), 4, 14);
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /courses/{id}/detailed-info - Statement budget")
+    void getCourseDetailedInfo_StatementBudget() throws Exception {
+        assertStatements("GET /courses/{id}/detailed-info", get("/courses/{id}/detailed-info", courseId), 5, 5);
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("GET /courses/teacher/{teacherId}/curricular-unit/{id} - Statement budget")
+    void getTeacherCourses_StatementBudget() throws Exception {
+        assertStatements(
+            "GET /courses/teacher/{teacherId}/curricular-unit/{id}",
+            get("/courses/teacher/{teacherId}/curricular-unit/{curricularUnitId}",
+                teacher.getUser().getId(), curricularUnit.getId()),
+            4, 40
+        );
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /curricular-units - Statement budget")
+    void getCurricularUnits_StatementBudget() throws Exception {
+        assertStatements(
+            "GET /curricular-units?campusId",
+            get("/curricular-units").param("campusId", campus.getId().toString()),
+            5, 9
+        );
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /curricular-units/{id} - Statement budget")
+    void getCurricularUnitById_StatementBudget() throws Exception {
+        assertStatements("GET /curricular-units/{id}", get("/curricular-units/{id}", curricularUnit.getId()), 3, 3);
+    }
+
+    @Test
+    @WithMockUser(authorities = "PLANNING_READ")
+    @DisplayName("GET /weekly-plannings/course/{courseId} - Statement budget")
+    void getWeeklyPlanningsByCourse_StatementBudget() throws Exception {
+        assertStatements(
+            "GET /weekly-plannings/course/{courseId}",
+            get("/weekly-plannings/course/{courseId}", courseId),
+            4, 10
+        );
+    }
+
+    private void assertStatements(String endpoint, RequestBuilder request, long budget, long eagerStatements)
+        throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(statements)
+            .as("%s SQL statements (%d with EAGER collections)", endpoint, eagerStatements)
+            .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,183 @@
+package edu.utec.planificador.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Modification;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.ModificationType;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.service.AccessControlService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración del historial de modificaciones paginado por cursor
+ * (GET /modifications/courses/{courseId}/scroll) contra la base H2.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Modification Scroll Integration Tests")
+class ModificationScrollIntegrationTest {
+
+    private static final int MODIFICATIONS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Historial");
+        entityManager.persist(rti);
+
+        Campus campus = new Campus();
+        campus.setName("Campus Historial");
+        campus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(campus);
+
+        Program program = new Program("Ingeniería en Historiales", 8, 240);
+        entityManager.persist(program);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        CurricularUnit curricularUnit = new CurricularUnit("Bases de Datos", 8, term);
+        entityManager.persist(curricularUnit);
+
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Ana");
+        personalData.setLastName("Suárez");
+        User user = new User("docente.historial@utec.edu.uy", null, personalData);
+        Teacher teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+
+        Course course = new Course(
+            Shift.MORNING, "Curso con historial", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 7, 1),
+            PartialGradingSystem.PGS_1, curricularUnit, campus
+        );
+        entityManager.persist(course);
+        courseId = course.getId();
+
+        // Groups of three modifications share the same date, so pages must break ties by ID
+        for (int i = 0; i < MODIFICATIONS; i++) {
+            Modification modification = new Modification("Cambio " + i, ModificationType.UPDATE, teacher, course);
+            modification.setModificationDate(LocalDateTime.of(2024, 4, 1, 10, 0).plusHours(i / 3));
+            entityManager.persist(modification);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /modifications/courses/{id}/scroll - Should walk the history newest first without gaps or repeats")
+    void scrollModifications_AllPages_VisitsEveryModificationOnce() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = MODIFICATIONS - 1; i >= 0; i--) {
+            expected.add("Cambio " + i);
+        }
+
+        statistics.clear();
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            MockHttpServletRequestBuilder request = get("/modifications/courses/{courseId}/scroll", courseId).param("size", "4");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(modification -> visited.add(modification.get("description").asText()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(visited).containsExactlyElementsOf(expected);
+        // One query per page: the teacher is fetched with the modifications and nothing is counted
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /modifications/courses/{id}/scroll - Should return the teacher and count only when asked to")
+    void scrollModifications_IncludeCount_ReturnsTotal() throws Exception {
+        mockMvc.perform(get("/modifications/courses/{courseId}/scroll", courseId)
+                .param("size", "30")
+                .param("includeCount", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(MODIFICATIONS))
+            .andExpect(jsonPath("$.content[0].teacherName").value("Ana Suárez"))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist())
+            .andExpect(jsonPath("$.totalElements").value(MODIFICATIONS));
+    }
+
+    @Test
+    @WithMockUser(authorities = "COURSE_READ")
+    @DisplayName("GET /modifications/courses/{id}/scroll - Should reject a malformed cursor")
+    void scrollModifications_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/modifications/courses/{courseId}/scroll", courseId).param("cursor", "bm90LWEtY3Vyc29y"))
+            .andExpect(status().isBadRequest());
+    }
+}
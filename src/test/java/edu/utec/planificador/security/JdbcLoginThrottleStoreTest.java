@@ -0,0 +1,200 @@
+package edu.utec.planificador.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JdbcLoginThrottleStore Unit Tests")
+class JdbcLoginThrottleStoreTest {
+
+    private static final String EMAIL = "docente@utec.edu.uy";
+    private static final String EMAIL_KEY = "EMAIL:" + EMAIL;
+    private static final long LOCKOUT_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcLoginThrottleStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JdbcLoginThrottleStore(jdbcTemplate);
+        ReflectionTestUtils.setField(store, "maxAttempts", 5);
+        ReflectionTestUtils.setField(store, "lockoutMinutes", 15);
+        ReflectionTestUtils.setField(store, "localCacheTtlSeconds", 60L);
+        ReflectionTestUtils.setField(store, "localCacheMaxEntries", 1000);
+    }
+
+    @Test
+    @DisplayName("Should return the attempts of the upsert, prefixing the key with its type")
+    void recordFailure_Upsert_ReturnsAttempts() {
+        when(jdbcTemplate.queryForObject(contains("ON CONFLICT"), eq(Integer.class), eq(EMAIL_KEY), eq(LOCKOUT_MILLIS)))
+            .thenReturn(3);
+        when(jdbcTemplate.queryForObject(contains("ON CONFLICT"), eq(Integer.class), eq("IP:10.0.0.1"), eq(LOCKOUT_MILLIS)))
+            .thenReturn(null);
+
+        assertThat(store.recordFailure(EMAIL, true)).isEqualTo(3);
+        assertThat(store.recordFailure("10.0.0.1", false)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should answer from the local cache once a failure blocks the key")
+    void remainingLockoutMillis_BlockedByLocalFailure_SkipsQuery() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(EMAIL_KEY), anyLong())).thenReturn(5);
+
+        store.recordFailure(EMAIL, true);
+
+        assertThat(store.remainingLockoutMillis(EMAIL, true))
+            .isPositive()
+            .isLessThanOrEqualTo(LOCKOUT_MILLIS);
+        verifyNoStatusQuery();
+    }
+
+    @Test
+    @DisplayName("Should query the table once and reuse a fresh \"not blocked\" result")
+    void remainingLockoutMillis_NotBlocked_CachedWithinTtl() {
+        stubStatus(EMAIL_KEY, List.of());
+
+        assertThat(store.remainingLockoutMillis(EMAIL, true)).isZero();
+        assertThat(store.remainingLockoutMillis(EMAIL, true)).isZero();
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(EMAIL_KEY));
+    }
+
+    @Test
+    @DisplayName("Should query the table again once the cached result is older than the TTL")
+    void remainingLockoutMillis_StaleCache_QueriesAgain() {
+        ReflectionTestUtils.setField(store, "localCacheTtlSeconds", 0L);
+        stubStatus(EMAIL_KEY, List.of());
+
+        store.remainingLockoutMillis(EMAIL, true);
+        store.remainingLockoutMillis(EMAIL, true);
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), eq(EMAIL_KEY));
+    }
+
+    @Test
+    @DisplayName("Should return the lockout recorded by another node and cache it until it ends")
+    void remainingLockoutMillis_BlockedRow_ReturnsRemainingAndCaches() {
+        stubStatus(EMAIL_KEY, List.of(new long[] {5, 60_000}));
+
+        long remaining = store.remainingLockoutMillis(EMAIL, true);
+
+        assertThat(remaining).isPositive().isLessThanOrEqualTo(60_000);
+        assertThat(store.remainingLockoutMillis(EMAIL, true)).isPositive().isLessThanOrEqualTo(remaining);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(EMAIL_KEY));
+    }
+
+    @Test
+    @DisplayName("Should not block a key whose row has fewer failures than the maximum")
+    void remainingLockoutMillis_BelowMaxAttempts_ReturnsZero() {
+        stubStatus(EMAIL_KEY, List.of(new long[] {4, 60_000}));
+
+        assertThat(store.remainingLockoutMillis(EMAIL, true)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete the row on reset even if the key was just seen without failures")
+    void reset_CachedWithoutFailures_StillDeletes() {
+        stubStatus(EMAIL_KEY, List.of());
+        store.remainingLockoutMillis(EMAIL, true);
+
+        // Another node may have recorded failures after the check
+        store.reset(EMAIL, true);
+
+        verify(jdbcTemplate).update(contains("DELETE FROM login_throttle WHERE throttle_key"), eq(EMAIL_KEY));
+    }
+
+    @Test
+    @DisplayName("Should drop the local block on reset")
+    void reset_BlockedKey_ClearsLocalCache() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(EMAIL_KEY), anyLong())).thenReturn(5);
+        store.recordFailure(EMAIL, true);
+        stubStatus(EMAIL_KEY, List.of());
+
+        store.reset(EMAIL, true);
+
+        assertThat(store.remainingLockoutMillis(EMAIL, true)).isZero();
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(EMAIL_KEY));
+    }
+
+    @Test
+    @DisplayName("Should delete expired rows and forget stale local results")
+    void expire_DeletesExpiredRowsAndStaleCache() {
+        ReflectionTestUtils.setField(store, "localCacheTtlSeconds", 0L);
+        stubStatus(EMAIL_KEY, List.of());
+        store.remainingLockoutMillis(EMAIL, true);
+
+        store.expire();
+
+        verify(jdbcTemplate).update(contains("expires_at <= CURRENT_TIMESTAMP"));
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(store, "localCache")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep blocked keys in the local cache when expiring")
+    void expire_BlockedKey_KeepsLocalBlock() {
+        ReflectionTestUtils.setField(store, "localCacheTtlSeconds", 0L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(EMAIL_KEY), anyLong())).thenReturn(5);
+        store.recordFailure(EMAIL, true);
+
+        store.expire();
+
+        assertThat(store.remainingLockoutMillis(EMAIL, true)).isPositive();
+        verifyNoStatusQuery();
+    }
+
+    /**
+     * Stubs the status query of the key; each row is {attempts, remaining_millis}.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubStatus(String throttleKey, List<long[]> rows) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(throttleKey))).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                mapped.add(mapper.mapRow(resultSet(rows.get(i)), i));
+            }
+            return mapped;
+        });
+    }
+
+    private static ResultSet resultSet(long[] row) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        lenient().when(resultSet.getInt("attempts")).thenReturn((int) row[0]);
+        lenient().when(resultSet.getLong("remaining_millis")).thenReturn(row[1]);
+        return resultSet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyNoStatusQuery() {
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), eq(EMAIL_KEY));
+    }
+}
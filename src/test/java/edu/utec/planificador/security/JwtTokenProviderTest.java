@@ -0,0 +1,143 @@
+package edu.utec.planificador.security;
+
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.AuthProvider;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwtTokenProvider Unit Tests")
+class JwtTokenProviderTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProviderTest.class);
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-in-tests-only-not-for-production";
+
+    private JwtTokenProvider tokenProvider;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = createProvider(3600000L);
+
+        testUser = mock(User.class);
+        when(testUser.getId()).thenReturn(1L);
+        when(testUser.getUsername()).thenReturn("teacher@utec.edu.uy");
+        when(testUser.getUtecEmail()).thenReturn("teacher@utec.edu.uy");
+        when(testUser.getAuthProvider()).thenReturn(AuthProvider.LOCAL);
+        when(testUser.getSecurityVersion()).thenReturn(3L);
+        doReturn(List.of(
+            new SimpleGrantedAuthority("ROLE_TEACHER"),
+            new SimpleGrantedAuthority("COURSE_READ")
+        )).when(testUser).getAuthorities();
+    }
+
+    @Test
+    @DisplayName("Should verify token and return its claims in a single call")
+    void verifyToken_ValidToken_ReturnsClaims() {
+        String token = tokenProvider.generateTokenFromUser(testUser);
+
+        Optional<Claims> claims = tokenProvider.verifyToken(token);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("teacher@utec.edu.uy");
+        assertThat(claims.get().get("userId", Long.class)).isEqualTo(1L);
+        assertThat(claims.get().get("securityVersion", Long.class)).isEqualTo(3L);
+        assertThat(claims.get().get("roles", String.class)).contains("ROLE_TEACHER");
+    }
+
+    @Test
+    @DisplayName("Should serve already verified tokens from cache")
+    void verifyToken_SameTokenTwice_ReturnsCachedClaims() {
+        String token = tokenProvider.generateTokenFromUser(testUser);
+
+        Claims first = tokenProvider.verifyToken(token).orElseThrow();
+        Claims second = tokenProvider.verifyToken(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered token")
+    void verifyToken_TamperedToken_ReturnsEmpty() {
+        String token = tokenProvider.generateTokenFromUser(testUser);
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        assertThat(tokenProvider.verifyToken(tampered)).isEmpty();
+        assertThat(tokenProvider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject expired token")
+    void verifyToken_ExpiredToken_ReturnsEmpty() {
+        JwtTokenProvider expiredProvider = createProvider(-1000L);
+        String token = expiredProvider.generateTokenFromUser(testUser);
+
+        assertThat(expiredProvider.verifyToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject empty token")
+    void verifyToken_EmptyToken_ReturnsEmpty() {
+        assertThat(tokenProvider.verifyToken("")).isEmpty();
+        assertThat(tokenProvider.verifyToken(null)).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should verify a repeated token faster from cache than with the HMAC check")
+    void verifyToken_RepeatedToken_CachedFasterThanCold() {
+        int iterations = 200_000;
+        JwtTokenProvider coldProvider = createProvider(3600000L, 0);
+        String token = tokenProvider.generateTokenFromUser(testUser);
+
+        // Calentamiento del JIT de ambos caminos
+        measureVerifications(coldProvider, token, iterations);
+        measureVerifications(tokenProvider, token, iterations);
+
+        double coldOpsPerSecond = measureVerifications(coldProvider, token, iterations);
+        double cachedOpsPerSecond = measureVerifications(tokenProvider, token, iterations);
+
+        log.info("JwtTokenProvider.verifyToken: cold {} ops/s, cached {} ops/s ({}x)",
+            Math.round(coldOpsPerSecond), Math.round(cachedOpsPerSecond),
+            String.format("%.1f", cachedOpsPerSecond / coldOpsPerSecond));
+
+        assertThat(cachedOpsPerSecond).isGreaterThan(coldOpsPerSecond);
+    }
+
+    private static double measureVerifications(JwtTokenProvider provider, String token, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            provider.verifyToken(token).orElseThrow();
+        }
+        return iterations * 1_000_000_000.0 / (System.nanoTime() - start);
+    }
+
+    private JwtTokenProvider createProvider(long expirationMs) {
+        return createProvider(expirationMs, 100);
+    }
+
+    private JwtTokenProvider createProvider(long expirationMs, int verificationCacheMaxEntries) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(provider, "jwtIssuer", "UTEC-Planificador");
+        ReflectionTestUtils.setField(provider, "verificationCacheMaxEntries", verificationCacheMaxEntries);
+        provider.init();
+        return provider;
+    }
+}
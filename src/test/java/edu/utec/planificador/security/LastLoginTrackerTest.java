@@ -0,0 +1,99 @@
+package edu.utec.planificador.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastLoginTracker Unit Tests")
+class LastLoginTrackerTest {
+
+    private static final LocalDateTime STORED = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LastLoginTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LastLoginTracker(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should read the pending login through the buffer until it is flushed")
+    void resolve_PendingLogin_ReturnsMostRecent() {
+        tracker.record(1L, STORED.plusHours(2));
+        tracker.record(1L, STORED.plusHours(1));
+
+        assertThat(tracker.resolve(1L, STORED)).isEqualTo(STORED.plusHours(2));
+        assertThat(tracker.resolve(1L, STORED.plusHours(3))).isEqualTo(STORED.plusHours(3));
+        assertThat(tracker.resolve(2L, STORED)).isEqualTo(STORED);
+        assertThat(tracker.resolve(2L, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should write every pending login in one batch and clear the buffer")
+    @SuppressWarnings("unchecked")
+    void flush_PendingLogins_WritesSingleBatch() {
+        tracker.record(1L, STORED);
+        tracker.record(2L, STORED);
+        tracker.record(3L, STORED);
+
+        tracker.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(
+            anyString(),
+            argThat((Collection<Object> batch) -> batch.size() == 3),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class)
+        );
+        assertThat(tracker.pendingCount()).isZero();
+        assertThat(tracker.resolve(1L, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep pending logins when the batch fails")
+    @SuppressWarnings("unchecked")
+    void flush_BatchFails_KeepsPendingLogins() {
+        tracker.record(1L, STORED);
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenThrow(new DataAccessResourceFailureException("Database unavailable"));
+
+        assertThatThrownBy(() -> tracker.flush()).isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(tracker.pendingCount()).isEqualTo(1);
+        assertThat(tracker.resolve(1L, null)).isEqualTo(STORED);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nothing is pending")
+    @SuppressWarnings("unchecked")
+    void flush_NothingPending_SkipsBatch() {
+        tracker.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(
+            anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)
+        );
+    }
+}
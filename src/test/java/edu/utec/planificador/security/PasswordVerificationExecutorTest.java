@@ -0,0 +1,172 @@
+package edu.utec.planificador.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordVerificationExecutor Unit Tests")
+class PasswordVerificationExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordVerificationExecutor verifier;
+
+    @AfterEach
+    void tearDown() {
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should verify passwords on the verification pool and record hash time")
+    void matches_ValidAndInvalidPassword_ReturnsResult() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        verifier = createVerifier(encoder, 2, 10);
+        String encoded = encoder.encode("password123");
+
+        assertThat(verifier.matches("password123", encoded)).isTrue();
+        assertThat(verifier.matches("wrong", encoded)).isFalse();
+
+        assertThat(meterRegistry.get("security.password.verification.hash").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("security.password.verification.queue.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject checks immediately once the queue is full")
+    void matches_QueueFull_RejectsImmediately() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        verifier = createVerifier(blockingEncoder(started, release), 1, 1);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // One check running and one queued
+            Future<Boolean> running = callers.submit(() -> verifier.matches("a", "a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> queued = callers.submit(() -> verifier.matches("b", "b"));
+            waitForQueueSize(1);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> verifier.matches("c", "c"))
+                .isInstanceOf(RejectedExecutionException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(meterRegistry.get("security.password.verification.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should never hash more passwords at once than the pool size during a login storm")
+    void matches_LoginStorm_BoundsConcurrentHashing() throws Exception {
+        AtomicInteger concurrentHashes = new AtomicInteger();
+        AtomicInteger maxConcurrentHashes = new AtomicInteger();
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                maxConcurrentHashes.accumulateAndGet(concurrentHashes.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    concurrentHashes.decrementAndGet();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        verifier = createVerifier(slowEncoder, 2, 20);
+
+        int logins = 300;
+        ExecutorService callers = Executors.newFixedThreadPool(50);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < logins; i++) {
+                results.add(callers.submit(() -> {
+                    try {
+                        verifier.matches("secret", "secret");
+                        accepted.incrementAndGet();
+                    } catch (RejectedExecutionException e) {
+                        rejected.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(accepted.get() + rejected.get()).isEqualTo(logins);
+        assertThat(rejected.get()).isPositive();
+        assertThat(maxConcurrentHashes.get()).isLessThanOrEqualTo(2);
+    }
+
+    private PasswordVerificationExecutor createVerifier(PasswordEncoder encoder, int threads, int queueCapacity) {
+        meterRegistry = new SimpleMeterRegistry();
+        PasswordVerificationExecutor executor = new PasswordVerificationExecutor(encoder, meterRegistry);
+        ReflectionTestUtils.setField(executor, "threads", threads);
+        ReflectionTestUtils.setField(executor, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(executor, "retryAfterSeconds", 2L);
+        executor.init();
+        return executor;
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private void waitForQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("security.password.verification.queue.size").gauge().value() < size
+            && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package edu.utec.planificador.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlidingWindowThrottle Unit Tests")
+class SlidingWindowThrottleTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SlidingWindowThrottleTest.class);
+
+    private static final Duration LOCKOUT = Duration.ofMinutes(15);
+
+    private AtomicLong clock;
+    private SlidingWindowThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        throttle = new SlidingWindowThrottle(5, LOCKOUT, 1000, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should block a key after the maximum number of failures")
+    void recordFailure_MaxAttemptsReached_BlocksKey() {
+        for (int i = 1; i <= 4; i++) {
+            assertThat(throttle.recordFailure("10.0.0.1")).isEqualTo(i);
+            assertThat(throttle.isBlocked("10.0.0.1")).isFalse();
+        }
+
+        throttle.recordFailure("10.0.0.1");
+
+        assertThat(throttle.isBlocked("10.0.0.1")).isTrue();
+        assertThat(throttle.remainingLockoutMillis("10.0.0.1")).isEqualTo(LOCKOUT.toMillis());
+        assertThat(throttle.isBlocked("10.0.0.2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should unblock a key once the lockout after its last failure has passed")
+    void isBlocked_LockoutExpired_ReturnsFalse() {
+        blockKey("10.0.0.1");
+
+        advance(LOCKOUT.minusSeconds(1));
+        assertThat(throttle.isBlocked("10.0.0.1")).isTrue();
+
+        advance(Duration.ofSeconds(1));
+        assertThat(throttle.isBlocked("10.0.0.1")).isFalse();
+        assertThat(throttle.recordFailure("10.0.0.1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should clear failures on reset")
+    void reset_BlockedKey_Unblocks() {
+        blockKey("10.0.0.1");
+
+        throttle.reset("10.0.0.1");
+
+        assertThat(throttle.isBlocked("10.0.0.1")).isFalse();
+        assertThat(throttle.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reclaim expired keys incrementally as time passes")
+    void expire_AfterLockout_ReclaimsKeys() {
+        for (int i = 0; i < 500; i++) {
+            throttle.recordFailure("10.0.0." + i);
+        }
+        advance(Duration.ofMinutes(10));
+        throttle.recordFailure("10.0.1.1");
+
+        advance(Duration.ofMinutes(7));
+        throttle.expire();
+
+        assertThat(throttle.size()).isEqualTo(1);
+        assertThat(throttle.recordFailure("10.0.1.1")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a lockout when the map is flooded with new keys")
+    void recordFailure_FullOfNewKeys_KeepsBlockedKeys() {
+        SlidingWindowThrottle small = new SlidingWindowThrottle(5, LOCKOUT, 10, clock::get);
+        for (int i = 0; i < 5; i++) {
+            small.recordFailure("victima@utec.edu.uy");
+        }
+
+        // Claves nuevas, cada una con un fallo: desalojan a las otras claves no bloqueadas
+        for (int i = 0; i < 100; i++) {
+            advance(Duration.ofSeconds(1));
+            small.recordFailure("spray" + i + "@utec.edu.uy");
+        }
+
+        assertThat(small.size()).isLessThanOrEqualTo(10);
+        assertThat(small.isBlocked("victima@utec.edu.uy")).isTrue();
+        assertThat(small.isBlocked("spray99@utec.edu.uy")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not track a new key when every tracked key is blocked")
+    void recordFailure_AllKeysBlocked_RefusesNewKey() {
+        SlidingWindowThrottle small = new SlidingWindowThrottle(5, LOCKOUT, 3, clock::get);
+        for (String key : new String[] {"10.0.0.1", "10.0.0.2", "10.0.0.3"}) {
+            for (int i = 0; i < 5; i++) {
+                small.recordFailure(key);
+            }
+        }
+
+        assertThat(small.recordFailure("10.0.0.4")).isZero();
+
+        assertThat(small.size()).isEqualTo(3);
+        assertThat(small.isBlocked("10.0.0.1")).isTrue();
+        assertThat(small.isBlocked("10.0.0.2")).isTrue();
+        assertThat(small.isBlocked("10.0.0.3")).isTrue();
+
+        // Once the lockouts expire there is room again
+        advance(LOCKOUT);
+        assertThat(small.recordFailure("10.0.0.4")).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should never track more keys than its capacity")
+    void recordFailure_MillionsOfDistinctKeys_StaysBounded() {
+        int capacity = 10_000;
+        int keys = 2_000_000;
+        SlidingWindowThrottle bounded = new SlidingWindowThrottle(5, LOCKOUT, capacity, clock::get);
+
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < keys; i++) {
+            String ip = (i >>> 24) + "." + ((i >>> 16) & 0xFF) + "." + ((i >>> 8) & 0xFF) + "." + (i & 0xFF);
+            bounded.isBlocked(ip);
+            bounded.recordFailure(ip);
+            clock.addAndGet(TimeUnit.MICROSECONDS.toNanos(500));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        log.info("SlidingWindowThrottle: {} distinct keys, {} tracked, {} ns per check+failure, heap delta {} KB",
+            keys, bounded.size(), elapsed / keys, (heapAfter - heapBefore) / 1024);
+
+        assertThat(bounded.size()).isLessThanOrEqualTo(capacity);
+    }
+
+    private void blockKey(String key) {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure(key);
+        }
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
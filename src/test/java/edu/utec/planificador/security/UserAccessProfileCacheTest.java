@@ -0,0 +1,83 @@
+package edu.utec.planificador.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserAccessProfileCache Unit Tests")
+class UserAccessProfileCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserAccessProfileCache cache;
+    private AtomicInteger loads;
+    private Function<Long, UserAccessProfile> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = createCache(300, 100);
+        loads = new AtomicInteger();
+        loader = userId -> {
+            loads.incrementAndGet();
+            return UserAccessProfile.of(userId, "user" + userId + "@utec.edu.uy", List.of());
+        };
+    }
+
+    @Test
+    @DisplayName("Should load a profile once and serve it from cache afterwards")
+    void get_WarmUser_DoesNotCallLoader() {
+        UserAccessProfile first = cache.get(1L, loader);
+        UserAccessProfile second = cache.get(1L, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reload the profile after invalidation")
+    void invalidate_CachedUser_ReloadsProfile() {
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        cache.invalidate(List.of(1L));
+
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should evict oldest entries when full")
+    void get_CacheFull_EvictsEntries() {
+        UserAccessProfileCache smallCache = createCache(300, 2);
+
+        smallCache.get(1L, loader);
+        smallCache.get(2L, loader);
+        smallCache.get(3L, loader);
+
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1.0);
+
+        smallCache.get(1L, loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    private UserAccessProfileCache createCache(long ttlSeconds, int maxEntries) {
+        meterRegistry = new SimpleMeterRegistry();
+        UserAccessProfileCache profileCache = new UserAccessProfileCache(meterRegistry);
+        ReflectionTestUtils.setField(profileCache, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(profileCache, "maxEntries", maxEntries);
+        profileCache.init();
+        return profileCache;
+    }
+}
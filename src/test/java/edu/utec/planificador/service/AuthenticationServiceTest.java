@@ -6,6 +6,7 @@ import edu.utec.planificador.entity.User;
 import edu.utec.planificador.exception.InvalidCredentialsException;
 import edu.utec.planificador.repository.UserRepository;
 import edu.utec.planificador.security.JwtTokenProvider;
+import edu.utec.planificador.security.LastLoginTracker;
 import edu.utec.planificador.security.LoginAttemptService;
 import edu.utec.planificador.service.impl.AuthenticationServiceImpl;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.MessageSource;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,6 +63,9 @@ class AuthenticationServiceTest {
     @Mock
     private MessageService messageService;
 
+    @Mock
+    private LastLoginTracker lastLoginTracker;
+
     @Mock
     private AuthenticationStrategy mockStrategy;
 
@@ -109,7 +114,8 @@ class AuthenticationServiceTest {
 
         verify(loginAttemptService, times(1)).loginSucceeded(anyString(), eq(false));
         verify(loginAttemptService, times(1)).loginSucceeded(eq(loginRequest.getEmail()), eq(true));
-        verify(userRepository, times(1)).save(testUser);
+        verify(lastLoginTracker, times(1)).record(eq(1L), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any());
     }
 
     @Test
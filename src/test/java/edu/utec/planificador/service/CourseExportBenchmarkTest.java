@@ -0,0 +1,219 @@
+package edu.utec.planificador.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.utec.planificador.config.CourseBackfill;
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.CourseExportFormat;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of the streaming course export over 50k seeded courses: time to first byte,
+ * total time and that rows are flushed to the client in chunks instead of buffered. Scope,
+ * filters and CSV escaping are covered by {@code CourseExportIntegrationTest}.
+ */
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@Tag("benchmark")
+@DisplayName("Course Export Benchmark")
+class CourseExportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseExportBenchmarkTest.class);
+
+    private static final int COURSES = 50_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private CourseExportService courseExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CourseBackfill courseBackfill;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private RegionalTechnologicalInstitute rti;
+    private Campus campus;
+
+    @BeforeEach
+    void setUp() {
+        rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Exportación");
+        entityManager.persist(rti);
+
+        campus = new Campus();
+        campus.setName("Campus Exportación");
+        campus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(campus);
+
+        Program program = new Program("Ingeniería en Exportaciones", 8, 240);
+        entityManager.persist(program);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        CurricularUnit curricularUnit = new CurricularUnit("Bases de Datos", 8, term);
+        entityManager.persist(curricularUnit);
+
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Ana");
+        personalData.setLastName("Suárez");
+        User user = new User("docente.exportacion@utec.edu.uy", null, personalData);
+        Teacher teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+        entityManager.flush();
+
+        // Cursos repartidos día a día desde 2000; academic_period lo completa el backfill
+        LocalDate firstStart = LocalDate.of(2000, 1, 1);
+        for (int from = 0; from < COURSES; from += BATCH_SIZE) {
+            int batchStart = from;
+            jdbcTemplate.batchUpdate("""
+                INSERT INTO course (id, shift, description, start_date, end_date, curricular_unit_id, campus_id,
+                    is_related_to_investigation, involves_activities_with_productive_sector)
+                VALUES (NEXT VALUE FOR course_seq, 'MORNING', ?, ?, ?, ?, ?, FALSE, FALSE)
+                """, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    LocalDate startDate = firstStart.plusDays((batchStart + i) / 10);
+                    statement.setString(1, "Curso " + (batchStart + i));
+                    statement.setDate(2, Date.valueOf(startDate));
+                    statement.setDate(3, Date.valueOf(startDate.plusMonths(4)));
+                    statement.setLong(4, curricularUnit.getId());
+                    statement.setLong(5, campus.getId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return BATCH_SIZE;
+                }
+            });
+        }
+
+        jdbcTemplate.update(
+            "INSERT INTO course_teacher (course_id, teacher_id) SELECT id, ? FROM course WHERE campus_id = ?",
+            teacher.getId(), campus.getId()
+        );
+        courseBackfill.run();
+    }
+
+    @Test
+    @DisplayName("Should stream 50k courses as JSON Lines, flushing chunks as they are read")
+    void exportCourses_50kCoursesAsJsonLines_StreamsEveryRow() throws Exception {
+        // Warm-up over a small campus (statements, JIT and serialization), so only the streaming is measured
+        Campus warmUpCampus = new Campus();
+        warmUpCampus.setName("Campus Warm-up");
+        warmUpCampus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(warmUpCampus);
+        entityManager.flush();
+        jdbcTemplate.update("""
+            INSERT INTO course (id, shift, description, start_date, end_date, curricular_unit_id, campus_id,
+                is_related_to_investigation, involves_activities_with_productive_sector)
+            SELECT NEXT VALUE FOR course_seq, shift, description, start_date, end_date, curricular_unit_id, ?, FALSE, FALSE
+            FROM course WHERE campus_id = ? ORDER BY id LIMIT 1000
+            """, warmUpCampus.getId(), campus.getId());
+        courseExportService.exportCourses(warmUpCampus.getId(), null, null, CourseExportFormat.JSONL).writeTo(new TimedOutputStream());
+
+        TimedOutputStream output = new TimedOutputStream();
+
+        long start = System.nanoTime();
+        courseExportService.exportCourses(campus.getId(), null, null, CourseExportFormat.JSONL).writeTo(output);
+        long totalMillis = (System.nanoTime() - start) / 1_000_000;
+        long firstByteMillis = (output.firstWriteAt - start) / 1_000_000;
+
+        String[] lines = output.content().split("\n");
+        assertThat(lines).hasSize(COURSES);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("description").asText()).isEqualTo("Curso 0");
+        assertThat(first.get("campusName").asText()).isEqualTo("Campus Exportación");
+        assertThat(first.get("teachers").get(0).get("fullName").asText()).isEqualTo("Ana Suárez");
+        assertThat(objectMapper.readTree(lines[COURSES - 1]).get("description").asText()).isEqualTo("Curso " + (COURSES - 1));
+
+        // Un flush por bloque: las filas nunca se acumulan en memoria
+        assertThat(output.flushes).isGreaterThanOrEqualTo(COURSES / 500);
+        assertThat(firstByteMillis).isLessThan(totalMillis);
+
+        log.info("Course export of {} rows (JSONL): first byte after {} ms, total {} ms",
+            COURSES, firstByteMillis, totalMillis);
+    }
+
+    private static class TimedOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private long firstWriteAt;
+        private int flushes;
+
+        @Override
+        public void write(int b) {
+            markFirstWrite();
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            markFirstWrite();
+            buffer.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushes++;
+        }
+
+        private void markFirstWrite() {
+            if (firstWriteAt == 0) {
+                firstWriteAt = System.nanoTime();
+            }
+        }
+
+        private String content() {
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
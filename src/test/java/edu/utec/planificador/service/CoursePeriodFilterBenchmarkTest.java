@@ -0,0 +1,153 @@
+package edu.utec.planificador.service;
+
+import edu.utec.planificador.config.CourseBackfill;
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.repository.CourseRepository;
+import edu.utec.planificador.specification.CourseSpecification;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of the period filter over 100k seeded courses: the old year/month extraction on
+ * startDate against the indexed academic period key used by the specifications.
+ */
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@Tag("benchmark")
+@DisplayName("Course Period Filter Benchmark")
+class CoursePeriodFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CoursePeriodFilterBenchmarkTest.class);
+
+    private static final int COURSES = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int RUNS = 20;
+
+    // Filtro anterior: no puede usar índices
+    private static final String DATE_PART_COUNT = """
+        SELECT COUNT(*) FROM course
+        WHERE EXTRACT(YEAR FROM start_date) = ? AND EXTRACT(MONTH FROM start_date) BETWEEN 1 AND 7
+        """;
+
+    private static final String ACADEMIC_PERIOD_COUNT = "SELECT COUNT(*) FROM course WHERE academic_period = ?";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseBackfill courseBackfill;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Benchmark");
+        entityManager.persist(rti);
+
+        Campus campus = new Campus();
+        campus.setName("Campus Benchmark");
+        campus.setRegionalTechnologicalInstitute(rti);
+        entityManager.persist(campus);
+
+        Program program = new Program("Ingeniería en Benchmarks", 8, 240);
+        entityManager.persist(program);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        CurricularUnit curricularUnit = new CurricularUnit("Bases de Datos", 8, term);
+        entityManager.persist(curricularUnit);
+        entityManager.flush();
+
+        // Cursos repartidos día a día entre 2000 y 2027; academic_period lo completa el backfill
+        LocalDate firstStart = LocalDate.of(2000, 1, 1);
+        for (int from = 0; from < COURSES; from += BATCH_SIZE) {
+            int batchStart = from;
+            jdbcTemplate.batchUpdate("""
+                INSERT INTO course (id, shift, start_date, end_date, curricular_unit_id, campus_id,
+                    is_related_to_investigation, involves_activities_with_productive_sector)
+                VALUES (NEXT VALUE FOR course_seq, 'MORNING', ?, ?, ?, ?, FALSE, FALSE)
+                """, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    LocalDate startDate = firstStart.plusDays((batchStart + i) / 10);
+                    statement.setDate(1, Date.valueOf(startDate));
+                    statement.setDate(2, Date.valueOf(startDate.plusMonths(4)));
+                    statement.setLong(3, curricularUnit.getId());
+                    statement.setLong(4, campus.getId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return BATCH_SIZE;
+                }
+            });
+        }
+
+        courseBackfill.run();
+    }
+
+    @Test
+    @DisplayName("Should match the old period filter and resolve it through the academic period index")
+    void periodFilter_100kCourses_UsesIndex() {
+        long expected = jdbcTemplate.queryForObject(DATE_PART_COUNT, Long.class, 2020);
+        long actual = courseRepository.count(CourseSpecification.withFilters(null, null, "2020-1S", null));
+
+        assertThat(actual).isEqualTo(expected).isPositive();
+
+        String plan = jdbcTemplate.queryForObject(
+            "EXPLAIN SELECT COUNT(*) FROM course WHERE academic_period = 20201", String.class);
+        assertThat(plan).containsIgnoringCase("idx_course_academic_period");
+
+        // Same statement shape for both filters; the year changes on every run so no result is reused
+        double datePartMillis = averageMillis(year -> jdbcTemplate.queryForObject(DATE_PART_COUNT, Long.class, year));
+        double keyMillis = averageMillis(year ->
+            jdbcTemplate.queryForObject(ACADEMIC_PERIOD_COUNT, Long.class, year * 10 + 1));
+
+        log.info("Period filter over {} courses: date_part {} ms, academic period key {} ms",
+            COURSES, "%.2f".formatted(datePartMillis), "%.2f".formatted(keyMillis));
+    }
+
+    private double averageMillis(IntToLongFunction countForYear) {
+        // Warm-up
+        countForYear.applyAsLong(2000);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            countForYear.applyAsLong(2001 + i);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+    }
+}
@@ -0,0 +1,159 @@
+package edu.utec.planificador.service;
+
+import edu.utec.planificador.repository.CurricularUnitRepository;
+import edu.utec.planificador.repository.projection.CurricularUnitSearchView;
+import edu.utec.planificador.service.impl.InMemoryCurricularUnitSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryCurricularUnitSearch Unit Tests")
+class InMemoryCurricularUnitSearchTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryCurricularUnitSearchTest.class);
+
+    @Mock
+    private CurricularUnitRepository curricularUnitRepository;
+
+    private InMemoryCurricularUnitSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = new InMemoryCurricularUnitSearch(curricularUnitRepository);
+    }
+
+    @Test
+    @DisplayName("Should rank unit prefix, then unit substring, then program substring")
+    void search_LiteralMatches_RankedByRelevance() {
+        when(curricularUnitRepository.findAllForSearch()).thenReturn(List.of(
+            row(1L, "Cálculo Diferencial", "Ingeniería en Programación"),
+            row(2L, "Introducción a la Programación", "Tecnólogo Informático"),
+            row(3L, "Programación Avanzada", "Tecnólogo Informático"),
+            row(4L, "Química", "Ingeniería Agroambiental")
+        ));
+
+        assertThat(search.search("PROGRAMACION", 10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should match regardless of accents and case")
+    void search_AccentInsensitive() {
+        when(curricularUnitRepository.findAllForSearch()).thenReturn(List.of(
+            row(1L, "Lingüística Aplicada", "Licenciatura en Lenguas"),
+            row(2L, "Química", "Ingeniería Agroambiental")
+        ));
+
+        assertThat(search.search("linguistica", 10)).containsExactly(1L);
+        assertThat(search.search("QUÍMICA", 10)).containsExactly(2L);
+        assertThat(search.search("agroambiental", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos and rank them after literal matches")
+    void search_Typo_FuzzyMatch() {
+        when(curricularUnitRepository.findAllForSearch()).thenReturn(List.of(
+            row(1L, "Programación Avanzada", "Tecnólogo Informático"),
+            row(2L, "Bases de Datos", "Tecnólogo Informático")
+        ));
+
+        assertThat(search.search("programacon", 10)).containsExactly(1L);
+        assertThat(search.search("zzzz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should handle queries shorter than a trigram and blank queries")
+    void search_ShortAndBlankQueries() {
+        when(curricularUnitRepository.findAllForSearch()).thenReturn(List.of(
+            row(1L, "IA Aplicada", "Tecnólogo Informático"),
+            row(2L, "Bases de Datos", "Tecnólogo Informático")
+        ));
+
+        assertThat(search.search("ia", 10)).containsExactly(1L);
+        assertThat(search.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index only after an invalidation")
+    void search_Invalidate_RebuildsIndex() {
+        when(curricularUnitRepository.findAllForSearch())
+            .thenReturn(List.of(row(1L, "Física I", "Ingeniería")))
+            .thenReturn(List.of(row(1L, "Física I", "Ingeniería"), row(2L, "Física II", "Ingeniería")));
+
+        assertThat(search.search("fisica", 10)).containsExactly(1L);
+        assertThat(search.search("fisica", 10)).containsExactly(1L);
+
+        search.invalidate();
+
+        assertThat(search.search("fisica", 10)).containsExactly(1L, 2L);
+        verify(curricularUnitRepository, times(2)).findAllForSearch();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should answer type-ahead queries in milliseconds as the catalog grows")
+    void search_GrowingCatalog_TypeAheadLatency() {
+        for (int units : new int[] {5_000, 50_000}) {
+            search = new InMemoryCurricularUnitSearch(curricularUnitRepository);
+            when(curricularUnitRepository.findAllForSearch()).thenReturn(catalog(units));
+
+            // Builds the index
+            assertThat(search.search("estadistica 7", 20)).hasSize(20);
+
+            String[] keystrokes = {"p", "pr", "pro", "prog", "progr", "progra", "program", "programa", "programac", "programaci"};
+            int rounds = 20;
+            long start = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                for (String keystroke : keystrokes) {
+                    assertThat(search.search(keystroke, 20)).hasSize(20);
+                }
+            }
+            double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / (rounds * keystrokes.length);
+
+            log.info("In-memory curricular unit search over {} units: {} ms per keystroke", units, "%.2f".formatted(averageMillis));
+        }
+    }
+
+    private List<CurricularUnitSearchView> catalog(int units) {
+        String[] subjects = {"Programación", "Cálculo", "Física", "Química", "Bases de Datos", "Redes", "Álgebra", "Estadística"};
+        String[] programs = {"Ingeniería en Computación", "Tecnólogo Informático", "Licenciatura en Análisis Alimentario"};
+        List<CurricularUnitSearchView> rows = new ArrayList<>();
+        for (int i = 0; i < units; i++) {
+            rows.add(row((long) i, subjects[i % subjects.length] + " " + i, programs[i % programs.length]));
+        }
+        return rows;
+    }
+
+    private CurricularUnitSearchView row(Long id, String name, String programName) {
+        return new CurricularUnitSearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getProgramName() {
+                return programName;
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package edu.utec.planificador.service;
+
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.dto.request.CourseRequest;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.Shift;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de throughput de INSERT al crear cursos. Con IDs de secuencia pooled Hibernate agrupa
+ * los INSERT en batches JDBC, así que se preparan muchas menos sentencias que filas insertadas (con
+ * IDENTITY cada INSERT se ejecutaba por separado). El copiado de planificación se mide en
+ * {@link PlanningCopyBenchmarkTest}.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@Tag("benchmark")
+@DisplayName("Insert Batching Benchmark")
+class InsertBatchingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InsertBatchingBenchmarkTest.class);
+
+    private static final String TEACHER_EMAIL = "docente.batch@utec.edu.uy";
+
+    private static final int COURSES_TO_CREATE = 25;
+    private static final int WEEKS = 16;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CourseService courseService;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Campus campus;
+    private CurricularUnit curricularUnit;
+    private Teacher teacher;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Batch");
+        entityManager.persist(rti);
+
+        Program program = new Program("Ingeniería en Batches", 8, 240);
+        entityManager.persist(program);
+
+        campus = new Campus();
+        campus.setName("Campus Batch");
+        campus.setRegionalTechnologicalInstitute(rti);
+        campus.getPrograms().add(program);
+        entityManager.persist(campus);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        curricularUnit = new CurricularUnit("Programación Avanzada", 8, term);
+        entityManager.persist(curricularUnit);
+
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Julia");
+        personalData.setLastName("Batch");
+        User user = new User(TEACHER_EMAIL, null, personalData);
+        teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should batch the weekly planning inserts of course creation")
+    void createCourse_InsertsWeeklyPlanningsInBatches() {
+        // Warm-up (JIT, statement cache)
+        createCourse(LocalDate.of(2023, 3, 6));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < COURSES_TO_CREATE; i++) {
+            createCourse(LocalDate.of(2024, 3, 4).plusWeeks(i));
+        }
+        entityManager.flush();
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+        long inserted = statistics.getEntityInsertCount();
+        long statements = statistics.getPrepareStatementCount();
+        log.info("Course creation: {} courses, {} entity inserts, {} statements in {} ms ({} inserts/s)",
+            COURSES_TO_CREATE, inserted, statements, Math.round(millis), Math.round(inserted / (millis / 1000)));
+
+        // Curso + 16-17 semanas por curso
+        assertThat(inserted).isGreaterThanOrEqualTo(COURSES_TO_CREATE * (WEEKS + 1L));
+        assertThat(statements).isLessThan(inserted / 2);
+    }
+
+    private Long createCourse(LocalDate startDate) {
+        CourseRequest request = CourseRequest.builder()
+            .shift(Shift.MORNING)
+            .startDate(startDate)
+            .endDate(startDate.plusWeeks(WEEKS).minusDays(1))
+            .curricularUnitId(curricularUnit.getId())
+            .campusId(campus.getId())
+            .userIds(List.of(teacher.getUser().getId()))
+            .build();
+
+        return courseService.createCourse(request).getId();
+    }
+}
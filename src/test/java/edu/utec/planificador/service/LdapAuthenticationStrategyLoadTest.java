@@ -0,0 +1,175 @@
+package edu.utec.planificador.service;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import edu.utec.planificador.config.LdapSeeder;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.enumeration.AuthProvider;
+import edu.utec.planificador.exception.InvalidCredentialsException;
+import edu.utec.planificador.repository.UserRepository;
+import edu.utec.planificador.security.LdapBindCache;
+import edu.utec.planificador.security.LdapConfig;
+import edu.utec.planificador.service.impl.LdapAuthenticationStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load harness for LDAP logins against an in-memory UnboundID directory seeded by {@link LdapSeeder}.
+ * Reports logins/sec with pooled connections, with and without the bind cache.
+ */
+@DisplayName("LdapAuthenticationStrategy Load Tests")
+class LdapAuthenticationStrategyLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LdapAuthenticationStrategyLoadTest.class);
+
+    private static final String BASE = "dc=utec,dc=edu,dc=uy";
+    private static final String MANAGER_DN = "cn=admin," + BASE;
+    private static final String MANAGER_PASSWORD = "admin";
+
+    // Users created by LdapSeeder
+    private static final Map<String, String> CREDENTIALS = Map.of(
+        "maria.gonzalez@utec.edu.uy", "ldap123",
+        "test.ldap@utec.edu.uy", "testldap123",
+        "docente.ldap@utec.edu.uy", "docente123"
+    );
+
+    private static final int THREADS = 8;
+    private static final int LOGINS = 600;
+
+    private static InMemoryDirectoryServer directoryServer;
+    private static LdapTemplate ldapTemplate;
+
+    @BeforeAll
+    static void startDirectory() throws Exception {
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE);
+        config.addAdditionalBindCredentials(MANAGER_DN, MANAGER_PASSWORD);
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+
+        directoryServer = new InMemoryDirectoryServer(config);
+        directoryServer.add("dn: " + BASE, "objectClass: top", "objectClass: domain", "dc: utec");
+        directoryServer.startListening();
+
+        LdapConfig ldapConfig = new LdapConfig();
+        ReflectionTestUtils.setField(ldapConfig, "ldapUrl", "ldap://localhost:" + directoryServer.getListenPort());
+        ReflectionTestUtils.setField(ldapConfig, "ldapBase", BASE);
+        ReflectionTestUtils.setField(ldapConfig, "managerDn", MANAGER_DN);
+        ReflectionTestUtils.setField(ldapConfig, "managerPassword", MANAGER_PASSWORD);
+        ReflectionTestUtils.setField(ldapConfig, "poolEnabled", true);
+        ReflectionTestUtils.setField(ldapConfig, "poolMaxSize", THREADS);
+        ReflectionTestUtils.setField(ldapConfig, "poolPrefSize", 2);
+        ReflectionTestUtils.setField(ldapConfig, "poolIdleTimeoutMs", 60000L);
+
+        LdapContextSource contextSource = ldapConfig.ldapContextSource();
+        ldapTemplate = ldapConfig.ldapTemplate(contextSource);
+
+        LdapSeeder seeder = new LdapSeeder(ldapTemplate);
+        ReflectionTestUtils.setField(seeder, "userBase", "ou=people");
+        seeder.run();
+    }
+
+    @AfterAll
+    static void stopDirectory() {
+        directoryServer.shutDown(true);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should authenticate concurrent logins with pooled connections")
+    void authenticate_PooledConnections_ReportsThroughput() throws Exception {
+        LdapAuthenticationStrategy strategy = createStrategy(0);
+
+        double loginsPerSecond = runLogins(strategy);
+
+        log.info("LDAP logins (pooled, no bind cache): {} logins/sec", Math.round(loginsPerSecond));
+        assertThat(loginsPerSecond).isPositive();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should serve repeated logins from the bind cache")
+    void authenticate_BindCacheEnabled_ReportsThroughput() throws Exception {
+        LdapAuthenticationStrategy strategy = createStrategy(60);
+
+        double loginsPerSecond = runLogins(strategy);
+
+        log.info("LDAP logins (pooled, bind cache): {} logins/sec", Math.round(loginsPerSecond));
+        assertThat(loginsPerSecond).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong password even after a cached successful bind")
+    void authenticate_WrongPasswordAfterCachedBind_Throws() {
+        LdapAuthenticationStrategy strategy = createStrategy(60);
+
+        strategy.authenticate("maria.gonzalez@utec.edu.uy", "ldap123");
+
+        assertThatThrownBy(() -> strategy.authenticate("maria.gonzalez@utec.edu.uy", "wrong"))
+            .isInstanceOf(InvalidCredentialsException.class);
+    }
+
+    private double runLogins(LdapAuthenticationStrategy strategy) throws Exception {
+        List<Map.Entry<String, String>> credentials = new ArrayList<>(CREDENTIALS.entrySet());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            long start = System.nanoTime();
+            List<Future<User>> results = new ArrayList<>();
+
+            for (int i = 0; i < LOGINS; i++) {
+                Map.Entry<String, String> credential = credentials.get(i % credentials.size());
+                results.add(executor.submit(() -> strategy.authenticate(credential.getKey(), credential.getValue())));
+            }
+
+            for (Future<User> result : results) {
+                assertThat(result.get()).isNotNull();
+            }
+
+            return LOGINS / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private LdapAuthenticationStrategy createStrategy(long bindCacheTtlSeconds) {
+        User user = mock(User.class);
+        when(user.isEnabled()).thenReturn(true);
+        when(user.getAuthProvider()).thenReturn(AuthProvider.LDAP);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUtecEmailWithPositions(anyString())).thenReturn(Optional.of(user));
+
+        MessageService messageService = mock(MessageService.class);
+        when(messageService.getMessage(anyString())).thenReturn("Error message");
+
+        LdapBindCache bindCache = new LdapBindCache();
+        ReflectionTestUtils.setField(bindCache, "ttlSeconds", bindCacheTtlSeconds);
+        ReflectionTestUtils.setField(bindCache, "maxEntries", 100);
+
+        LdapAuthenticationStrategy strategy = new LdapAuthenticationStrategy(userRepository, messageService, bindCache, ldapTemplate);
+        ReflectionTestUtils.setField(strategy, "userBase", "ou=people");
+        return strategy;
+    }
+}
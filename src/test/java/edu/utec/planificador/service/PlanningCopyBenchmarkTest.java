@@ -0,0 +1,311 @@
+package edu.utec.planificador.service;
+
+import edu.utec.planificador.config.TestSecurityConfig;
+import edu.utec.planificador.datatype.PersonalData;
+import edu.utec.planificador.dto.request.CourseRequest;
+import edu.utec.planificador.entity.Activity;
+import edu.utec.planificador.entity.Campus;
+import edu.utec.planificador.entity.Course;
+import edu.utec.planificador.entity.CurricularUnit;
+import edu.utec.planificador.entity.Program;
+import edu.utec.planificador.entity.ProgrammaticContent;
+import edu.utec.planificador.entity.RegionalTechnologicalInstitute;
+import edu.utec.planificador.entity.Teacher;
+import edu.utec.planificador.entity.Term;
+import edu.utec.planificador.entity.User;
+import edu.utec.planificador.entity.WeeklyPlanning;
+import edu.utec.planificador.enumeration.CognitiveProcess;
+import edu.utec.planificador.enumeration.LearningModality;
+import edu.utec.planificador.enumeration.LearningResource;
+import edu.utec.planificador.enumeration.PartialGradingSystem;
+import edu.utec.planificador.enumeration.Shift;
+import edu.utec.planificador.enumeration.TeachingStrategy;
+import edu.utec.planificador.enumeration.TransversalCompetency;
+import edu.utec.planificador.repository.CourseRepository;
+import edu.utec.planificador.repository.PlanningCopyRepository;
+import edu.utec.planificador.util.Constants;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark del copiado de planificación con sentencias INSERT ... SELECT: un curso de 16 semanas con
+ * 400 actividades se copia con una cantidad fija de sentencias, sin cargar el curso origen en memoria,
+ * y el resultado es el mismo árbol (orden, actividades y colecciones de enums) que el del origen.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Planning Copy Benchmark")
+class PlanningCopyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PlanningCopyBenchmarkTest.class);
+
+    private static final String TEACHER_EMAIL = "docente.copia@utec.edu.uy";
+
+    private static final int WEEKS = 16;
+    private static final int CONTENTS_PER_WEEK = 5;
+    private static final int ACTIVITIES_PER_CONTENT = 5;
+
+    // Borrado (7) + copia (7) + reserva de IDs (2) + carga y validación de los cursos (10); con el copiado por ORM eran 1639
+    private static final int COPY_STATEMENT_BUDGET = 26;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @MockitoBean
+    private AccessControlService accessControlService;
+
+    private Statistics statistics;
+    private Campus campus;
+    private CurricularUnit curricularUnit;
+    private Teacher teacher;
+    private Long sourceId;
+
+    @BeforeEach
+    void setUp() {
+        RegionalTechnologicalInstitute rti = new RegionalTechnologicalInstitute();
+        rti.setName("ITR Copia");
+        entityManager.persist(rti);
+
+        Program program = new Program("Ingeniería en Copias", 8, 240);
+        entityManager.persist(program);
+
+        campus = new Campus();
+        campus.setName("Campus Copia");
+        campus.setRegionalTechnologicalInstitute(rti);
+        campus.getPrograms().add(program);
+        entityManager.persist(campus);
+
+        Term term = new Term(1, program);
+        entityManager.persist(term);
+
+        curricularUnit = new CurricularUnit("Bases de Datos", 8, term);
+        entityManager.persist(curricularUnit);
+
+        PersonalData personalData = new PersonalData();
+        personalData.setName("Marta");
+        personalData.setLastName("Copia");
+        User user = new User(TEACHER_EMAIL, null, personalData);
+        teacher = new Teacher(user);
+        teacher.addCampus(campus);
+        user.addPosition(teacher);
+        entityManager.persist(user);
+
+        sourceId = createSourceCourse(LocalDate.of(2024, 3, 4));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @WithMockUser(username = TEACHER_EMAIL)
+    @DisplayName("Should replace the target planning with a copy of the source in a fixed number of statements")
+    void copyPlanning_CopiesWholeTreeSetBased() {
+        Long targetId = createCourse(LocalDate.of(2025, 3, 3), WEEKS);
+        addPlanning(targetId, 1, "Contenido previo");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Warm-up
+        courseService.copyPlanningFromSourceCourse(createCourse(LocalDate.of(2026, 3, 2), WEEKS), sourceId);
+        entityManager.flush();
+        entityManager.clear();
+
+        long activitySequenceBefore = nextSequenceValue("activity_seq");
+        statistics.clear();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        courseService.copyPlanningFromSourceCourse(targetId, sourceId);
+        entityManager.flush();
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        long statements = statistics.getPrepareStatementCount();
+        long activitySequenceAfter = nextSequenceValue("activity_seq");
+        log.info("Planning copy ({} weeks, {} activities): {} statements, {} entities loaded, {} ms, {} KB allocated",
+            WEEKS, WEEKS * CONTENTS_PER_WEEK * ACTIVITIES_PER_CONTENT, statements,
+            statistics.getEntityLoadCount(), "%.1f".formatted(millis), allocated / 1024);
+
+        // Ningún contenido ni actividad pasa por el contexto de persistencia
+        assertThat(statistics.getEntityLoadCount()).isLessThan(WEEKS * CONTENTS_PER_WEEK);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statements).isLessThanOrEqualTo(COPY_STATEMENT_BUDGET);
+
+        // Las actividades copiadas toman IDs de bloques compartidos, no un bloque de la secuencia cada una
+        int activities = WEEKS * CONTENTS_PER_WEEK * ACTIVITIES_PER_CONTENT;
+        long idBlocks = (activities + Constants.ID_ALLOCATION_SIZE - 1) / Constants.ID_ALLOCATION_SIZE;
+        assertThat(activitySequenceAfter - activitySequenceBefore)
+            .isLessThanOrEqualTo((idBlocks + 1) * Constants.ID_ALLOCATION_SIZE);
+
+        entityManager.clear();
+        assertThat(planningOf(targetId, 1, WEEKS)).isEqualTo(planningOf(sourceId, 1, WEEKS));
+    }
+
+    @Test
+    @WithMockUser(username = TEACHER_EMAIL)
+    @DisplayName("Should copy only the requested weeks, as done for the weeks added to a course")
+    void copyPlanning_WeekRange_CopiesOnlyThoseWeeks() {
+        int firstNewWeek = WEEKS - 1;
+        Long targetId = createCourse(LocalDate.of(2025, 3, 3), WEEKS);
+        addPlanning(targetId, 1, "Contenido propio");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> ownWeeks = planningOf(targetId, 1, firstNewWeek - 1);
+
+        PlanningCopyRepository.CopiedPlanning copied = courseRepository.copyPlanning(sourceId, targetId, firstNewWeek, WEEKS);
+        entityManager.clear();
+
+        assertThat(copied.contents()).isEqualTo(2 * CONTENTS_PER_WEEK);
+        assertThat(copied.activities()).isEqualTo(2 * CONTENTS_PER_WEEK * ACTIVITIES_PER_CONTENT);
+
+        // Las semanas anteriores se conservan y las del rango se copian del curso origen
+        assertThat(planningOf(targetId, 1, firstNewWeek - 1)).isEqualTo(ownWeeks);
+        assertThat(planningOf(targetId, firstNewWeek, WEEKS))
+            .isEqualTo(planningOf(sourceId, firstNewWeek, WEEKS))
+            .isNotEmpty();
+    }
+
+    private Long createCourse(LocalDate startDate, int weeks) {
+        return courseService.createCourse(courseRequest(startDate, weeks)).getId();
+    }
+
+    private CourseRequest courseRequest(LocalDate startDate, int weeks) {
+        return CourseRequest.builder()
+            .shift(Shift.MORNING)
+            .startDate(startDate)
+            .endDate(startDate.plusWeeks(weeks).minusDays(1))
+            .partialGradingSystem(PartialGradingSystem.PGS_1)
+            .curricularUnitId(curricularUnit.getId())
+            .campusId(campus.getId())
+            .userIds(List.of(teacher.getUser().getId()))
+            .build();
+    }
+
+    private void addPlanning(Long courseId, int weekNumber, String title) {
+        WeeklyPlanning week = entityManager.find(Course.class, courseId).getWeeklyPlannings().stream()
+            .filter(weeklyPlanning -> weeklyPlanning.getWeekNumber() == weekNumber)
+            .findFirst()
+            .orElseThrow();
+
+        week.getBibliographicReferences().add("Referencia propia");
+        ProgrammaticContent content = new ProgrammaticContent(title, "Contenido", week);
+        content.getActivities().add(new Activity("Actividad propia", 30, LearningModality.VIRTUAL, content));
+        week.getProgrammaticContents().add(content);
+    }
+
+    private Long createSourceCourse(LocalDate start) {
+        Course course = new Course(
+            Shift.MORNING, "Curso origen", start, start.plusWeeks(WEEKS).minusDays(1),
+            PartialGradingSystem.PGS_1, curricularUnit, campus
+        );
+        course.getTeachers().add(teacher);
+
+        int n = 0;
+        for (int week = 1; week <= WEEKS; week++) {
+            WeeklyPlanning weeklyPlanning = new WeeklyPlanning(week, start.plusWeeks(week - 1));
+            weeklyPlanning.getBibliographicReferences().add("Referencia " + week + ".a");
+            weeklyPlanning.getBibliographicReferences().add("Referencia " + week + ".b");
+
+            for (int c = 1; c <= CONTENTS_PER_WEEK; c++) {
+                ProgrammaticContent content = new ProgrammaticContent("Tema " + week + "." + c, "Contenido " + c, weeklyPlanning);
+                content.setColor("#00000" + c);
+                weeklyPlanning.getProgrammaticContents().add(content);
+
+                for (int a = 1; a <= ACTIVITIES_PER_CONTENT; a++, n++) {
+                    Activity activity = new Activity(
+                        "Actividad " + week + "." + c + "." + a, 15 * a,
+                        LearningModality.values()[n % LearningModality.values().length], content
+                    );
+                    activity.setTitle("Título " + a);
+                    activity.getCognitiveProcesses().add(CognitiveProcess.values()[n % CognitiveProcess.values().length]);
+                    activity.getTransversalCompetencies().add(TransversalCompetency.values()[n % TransversalCompetency.values().length]);
+                    activity.getTeachingStrategies().add(TeachingStrategy.values()[n % TeachingStrategy.values().length]);
+                    activity.getTeachingStrategies().add(TeachingStrategy.values()[(n + 1) % TeachingStrategy.values().length]);
+                    if (a % 2 == 0) {
+                        activity.getLearningResources().add(LearningResource.values()[n % LearningResource.values().length]);
+                    }
+                    content.getActivities().add(activity);
+                }
+            }
+
+            course.getWeeklyPlannings().add(weeklyPlanning);
+        }
+
+        entityManager.persist(course);
+        return course.getId();
+    }
+
+    /**
+     * Representación textual de la planificación de las semanas indicadas, en el orden en que se
+     * muestra (contenidos por ID, actividades por ID), sin IDs.
+     */
+    private List<String> planningOf(Long courseId, int fromWeek, int toWeek) {
+        List<String> lines = new ArrayList<>();
+
+        for (WeeklyPlanning week : entityManager.find(Course.class, courseId).getWeeklyPlannings()) {
+            if (week.getWeekNumber() < fromWeek || week.getWeekNumber() > toWeek) {
+                continue;
+            }
+
+            lines.add("week " + week.getWeekNumber() + " " + new TreeSet<>(week.getBibliographicReferences()));
+
+            for (ProgrammaticContent content : week.getProgrammaticContents()) {
+                lines.add("  " + content.getTitle() + " | " + content.getContent() + " | " + content.getColor());
+
+                content.getActivities().stream()
+                    .sorted((a1, a2) -> a1.getId().compareTo(a2.getId()))
+                    .forEach(activity -> lines.add("    " + activity.getTitle() + " | " + activity.getDescription()
+                        + " | " + activity.getDurationInMinutes() + " | " + activity.getLearningModality()
+                        + " | " + activity.getColor()
+                        + " | " + new TreeSet<>(activity.getCognitiveProcesses())
+                        + " | " + new TreeSet<>(activity.getTransversalCompetencies())
+                        + " | " + new TreeSet<>(activity.getTeachingStrategies())
+                        + " | " + new TreeSet<>(activity.getLearningResources())));
+            }
+        }
+
+        return lines;
+    }
+
+    private long nextSequenceValue(String sequence) {
+        return ((Number) entityManager.createNativeQuery("SELECT nextval('" + sequence + "')").getSingleResult()).longValue();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+            .getCurrentThreadAllocatedBytes();
+    }
+}
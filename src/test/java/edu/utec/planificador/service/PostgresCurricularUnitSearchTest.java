@@ -0,0 +1,81 @@
+package edu.utec.planificador.service;
+
+import edu.utec.planificador.repository.CurricularUnitRepository;
+import edu.utec.planificador.repository.projection.CurricularUnitSearchView;
+import edu.utec.planificador.service.impl.PostgresCurricularUnitSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresCurricularUnitSearch Unit Tests")
+class PostgresCurricularUnitSearchTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CurricularUnitRepository curricularUnitRepository;
+
+    private PostgresCurricularUnitSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = new PostgresCurricularUnitSearch(jdbcTemplate, curricularUnitRepository);
+    }
+
+    @Test
+    @DisplayName("Should search in memory while the trigram indexes are not ready")
+    void search_IndexesNotReady_SearchesInMemory() {
+        when(curricularUnitRepository.findAllForSearch()).thenReturn(List.of(row(1L, "Química", "Ingeniería Agroambiental")));
+
+        assertThat(search.search("quimica", 10)).containsExactly(1L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should search in PostgreSQL once the trigram indexes are ready")
+    void search_IndexesReady_QueriesPostgres() {
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class))).thenReturn(List.of(7L));
+
+        search.markIndexesReady();
+
+        assertThat(search.search("quimica", 10)).containsExactly(7L);
+        verify(jdbcTemplate).queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class));
+        verifyNoInteractions(curricularUnitRepository);
+    }
+
+    private CurricularUnitSearchView row(Long id, String name, String programName) {
+        return new CurricularUnitSearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getProgramName() {
+                return programName;
+            }
+        };
+    }
+}
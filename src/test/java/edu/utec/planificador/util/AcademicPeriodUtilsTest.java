@@ -0,0 +1,57 @@
+package edu.utec.planificador.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AcademicPeriodUtils Unit Tests")
+class AcademicPeriodUtilsTest {
+
+    @Test
+    @DisplayName("Should not allow instantiation")
+    void constructor_ThrowsException() {
+        assertThatThrownBy(() -> {
+            var constructor = AcademicPeriodUtils.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            constructor.newInstance();
+        }).hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should derive the key with the same semester boundary as Course.getPeriod")
+    void keyOf_SemesterBoundary() {
+        assertThat(AcademicPeriodUtils.keyOf(LocalDate.of(2024, 1, 1))).isEqualTo(20241);
+        assertThat(AcademicPeriodUtils.keyOf(LocalDate.of(2024, 7, 31))).isEqualTo(20241);
+        assertThat(AcademicPeriodUtils.keyOf(LocalDate.of(2024, 8, 1))).isEqualTo(20242);
+        assertThat(AcademicPeriodUtils.keyOf(LocalDate.of(2024, 12, 31))).isEqualTo(20242);
+        assertThat(AcademicPeriodUtils.keyOf(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should parse a semester period into a single key")
+    void parseRange_Semester_ReturnsSingleKey() {
+        assertThat(AcademicPeriodUtils.parseRange("2024-2S"))
+            .contains(new AcademicPeriodUtils.KeyRange(20242, 20242));
+    }
+
+    @Test
+    @DisplayName("Should filter the whole year when the semester is not 1 or 2")
+    void parseRange_UnknownSemester_ReturnsYearRange() {
+        assertThat(AcademicPeriodUtils.parseRange("2024-3S"))
+            .contains(new AcademicPeriodUtils.KeyRange(20241, 20242));
+    }
+
+    @Test
+    @DisplayName("Should ignore invalid periods")
+    void parseRange_Invalid_ReturnsEmpty() {
+        assertThat(AcademicPeriodUtils.parseRange(null)).isEmpty();
+        assertThat(AcademicPeriodUtils.parseRange(" ")).isEmpty();
+        assertThat(AcademicPeriodUtils.parseRange("2024")).isEmpty();
+        assertThat(AcademicPeriodUtils.parseRange("abcd-1S")).isEmpty();
+        assertThat(AcademicPeriodUtils.parseRange("2024-1S-x")).isEmpty();
+    }
+}
@@ -0,0 +1,176 @@
+package edu.utec.planificador.util;
+
+import edu.utec.planificador.service.MessageService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark of the access token cookie encryption: a new Cipher and intermediate arrays per call
+ * (previous implementation, reproduced below) against the per-thread Cipher and buffers of
+ * {@link EncryptionUtil}, and cookie reads with and without the decryption cache of {@link CookieUtil}.
+ */
+@Tag("benchmark")
+@DisplayName("Encryption Benchmark")
+class EncryptionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EncryptionBenchmarkTest.class);
+
+    private static final String SECRET = "test-encryption-secret-key-for-aes-256-gcm-in-tests";
+    private static final int ITERATIONS = 100_000;
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH = 128;
+
+    // Tamaño de un JWT de acceso real (firma HS512 y roles)
+    private static final String TOKEN = "eyJhbGciOiJIUzUxMiJ9." + "eyJzdWIiOiJ0ZWFjaGVyQHV0ZWMuZWR1LnV5In0".repeat(8) + ".signature";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private EncryptionUtil encryptionUtil;
+    private SecretKey secretKey;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtil = new EncryptionUtil(SECRET, mock(MessageService.class));
+
+        byte[] key = new byte[32];
+        byte[] keyBytes = SECRET.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(keyBytes, 0, key, 0, Math.min(keyBytes.length, 32));
+        secretKey = new SecretKeySpec(key, "AES");
+    }
+
+    @Test
+    @DisplayName("Should encrypt with the reused Cipher and allocate less per operation")
+    void encrypt_ReusedCipher_FewerBytesPerOperation() throws Exception {
+        Measurement perCall = measure(() -> encryptWithNewCipher(TOKEN));
+        Measurement reused = measure(() -> encryptionUtil.encrypt(TOKEN));
+
+        log.info("Encrypt: new Cipher per call {} | reused Cipher {}", perCall, reused);
+
+        assertThat(reused.bytesPerOperation()).isLessThan(perCall.bytesPerOperation());
+    }
+
+    @Test
+    @DisplayName("Should decrypt with the reused Cipher and buffers and allocate less per operation")
+    void decrypt_ReusedCipherAndBuffers_FewerBytesPerOperation() throws Exception {
+        String encrypted = encryptionUtil.encrypt(TOKEN);
+
+        Measurement perCall = measure(() -> decryptWithNewCipher(encrypted));
+        Measurement reused = measure(() -> encryptionUtil.decrypt(encrypted));
+
+        log.info("Decrypt: new Cipher per call {} | reused Cipher and buffers {}", perCall, reused);
+
+        assertThat(reused.bytesPerOperation()).isLessThan(perCall.bytesPerOperation());
+    }
+
+    @Test
+    @DisplayName("Should read a repeated cookie faster from the decryption cache")
+    void getCookieValue_RepeatedCookie_CachedFaster() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(CookieUtil.ACCESS_TOKEN_COOKIE_NAME, encryptionUtil.encrypt(TOKEN)));
+
+        Measurement uncached = measure(() -> cookieUtil(0).getCookieValue(request, CookieUtil.ACCESS_TOKEN_COOKIE_NAME).orElseThrow());
+        CookieUtil cachingCookieUtil = cookieUtil(60);
+        Measurement cached = measure(() -> cachingCookieUtil.getCookieValue(request, CookieUtil.ACCESS_TOKEN_COOKIE_NAME).orElseThrow());
+
+        log.info("Cookie read: no decryption cache {} | decryption cache {}", uncached, cached);
+
+        assertThat(cached.operationsPerSecond()).isGreaterThan(uncached.operationsPerSecond());
+        assertThat(cached.bytesPerOperation()).isLessThan(uncached.bytesPerOperation());
+    }
+
+    private CookieUtil cookieUtil(long decryptionCacheTtlSeconds) {
+        CookieUtil cookieUtil = new CookieUtil(encryptionUtil);
+        ReflectionTestUtils.setField(cookieUtil, "decryptionCacheTtlSeconds", decryptionCacheTtlSeconds);
+        ReflectionTestUtils.setField(cookieUtil, "decryptionCacheMaxEntries", 10_000);
+        return cookieUtil;
+    }
+
+    // Implementación anterior de EncryptionUtil.encrypt
+    private String encryptWithNewCipher(String plainText) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        secureRandom.nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance(ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+        byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
+        byteBuffer.put(iv);
+        byteBuffer.put(cipherText);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(byteBuffer.array());
+    }
+
+    // Implementación anterior de EncryptionUtil.decrypt
+    private String decryptWithNewCipher(String encryptedText) throws GeneralSecurityException {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(encryptedText));
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        byteBuffer.get(iv);
+        byte[] cipherText = new byte[byteBuffer.remaining()];
+        byteBuffer.get(cipherText);
+
+        Cipher cipher = Cipher.getInstance(ALGORITHM);
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+
+        return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs the operation {@value #ITERATIONS} times to warm up the JIT, then measures another {@value #ITERATIONS}.
+     */
+    private static Measurement measure(Operation operation) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = allocatedBytes() - bytesBefore;
+
+        return new Measurement(ITERATIONS * 1_000_000_000.0 / elapsed, bytes / ITERATIONS);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+            .getCurrentThreadAllocatedBytes();
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object run() throws Exception;
+    }
+
+    private record Measurement(double operationsPerSecond, long bytesPerOperation) {
+
+        @Override
+        public String toString() {
+            return Math.round(operationsPerSecond) + " ops/s, " + bytesPerOperation + " B/op";
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package edu.utec.planificador.util;
+
+import edu.utec.planificador.service.MessageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("EncryptionUtil Unit Tests")
+class EncryptionUtilTest {
+
+    private static final String SECRET = "test-encryption-secret-key-for-aes-256-gcm-in-tests";
+    private static final String TOKEN = "eyJhbGciOiJIUzUxMiJ9.eyJzdWIiOiJ0ZWFjaGVyQHV0ZWMuZWR1LnV5In0.signature";
+
+    private EncryptionUtil encryptionUtil;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtil = new EncryptionUtil(SECRET, mock(MessageService.class));
+    }
+
+    @Test
+    @DisplayName("Should decrypt what was encrypted")
+    void encryptDecrypt_RoundTrip() {
+        String encrypted = encryptionUtil.encrypt(TOKEN);
+
+        assertThat(encrypted).isNotEqualTo(TOKEN);
+        assertThat(encryptionUtil.decrypt(encrypted)).isEqualTo(TOKEN);
+    }
+
+    @Test
+    @DisplayName("Should use a different IV on each encryption")
+    void encrypt_SamePlainText_ProducesDifferentCipherTexts() {
+        assertThat(encryptionUtil.encrypt(TOKEN)).isNotEqualTo(encryptionUtil.encrypt(TOKEN));
+    }
+
+    @Test
+    @DisplayName("Should decrypt values of different sizes with reused buffers")
+    void decrypt_VaryingSizes_ReturnsOriginalValues() {
+        String large = TOKEN.repeat(50);
+        String small = "a";
+
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(large))).isEqualTo(large);
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(small))).isEqualTo(small);
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(""))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject tampered cipher text")
+    void decrypt_TamperedCipherText_Throws() {
+        String encrypted = encryptionUtil.encrypt(TOKEN);
+        // Flip a character in the middle: the last Base64 character may only carry ignored padding bits
+        int index = encrypted.length() / 2;
+        char original = encrypted.charAt(index);
+        String tampered = encrypted.substring(0, index) + (original == 'A' ? 'B' : 'A') + encrypted.substring(index + 1);
+
+        assertThatThrownBy(() -> encryptionUtil.decrypt(tampered)).isInstanceOf(RuntimeException.class);
+        assertThat(encryptionUtil.canDecrypt(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should be safe to use from several threads")
+    void decrypt_ConcurrentCalls_ReturnOriginalValues() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String value = TOKEN + i;
+                results.add(executor.submit(() -> value.equals(encryptionUtil.decrypt(encryptionUtil.encrypt(value)))));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
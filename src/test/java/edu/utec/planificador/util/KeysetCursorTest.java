@@ -0,0 +1,54 @@
+package edu.utec.planificador.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor Unit Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip the sort key, ID and rank through the token")
+    void encodeDecode_RoundTrip_KeepsPosition() {
+        KeysetCursor byDate = KeysetCursor.of(LocalDate.of(2024, 3, 1), 42L);
+        KeysetCursor byRank = KeysetCursor.of(3, LocalDateTime.of(2024, 4, 2, 6, 0, 0, 123_456_000), 7L);
+
+        assertThat(KeysetCursor.decode(byDate.encode())).isEqualTo(new KeysetCursor(null, "2024-03-01", 42L));
+        assertThat(KeysetCursor.decode(byRank.encode())).isEqualTo(byRank);
+        assertThat(LocalDateTime.parse(KeysetCursor.decode(byRank.encode()).sortKey()))
+            .isEqualTo(LocalDateTime.of(2024, 4, 2, 6, 0, 0, 123_456_000));
+    }
+
+    @Test
+    @DisplayName("Should keep a missing sort key as null")
+    void encodeDecode_NullSortKey_StaysNull() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(null, 5L).encode());
+
+        assertThat(cursor.sortKey()).isNull();
+        assertThat(cursor.rank()).isNull();
+        assertThat(cursor.id()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Should produce URL-safe tokens")
+    void encode_AnyCursor_IsUrlSafe() {
+        assertThat(KeysetCursor.of(LocalDateTime.of(2024, 4, 2, 6, 0), Long.MAX_VALUE).encode())
+            .matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("Should reject tokens it did not produce")
+    void decode_MalformedToken_ThrowsIllegalArgument() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("YWJj"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(new KeysetCursor(null, "2024-03-01", 1L).encode().substring(2)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
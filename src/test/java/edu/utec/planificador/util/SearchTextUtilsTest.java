@@ -0,0 +1,36 @@
+package edu.utec.planificador.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SearchTextUtils Unit Tests")
+class SearchTextUtilsTest {
+
+    @Test
+    @DisplayName("Should not allow instantiation")
+    void constructor_ThrowsException() {
+        assertThatThrownBy(() -> {
+            var constructor = SearchTextUtils.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            constructor.newInstance();
+        }).hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should lowercase and remove Spanish accents, diaeresis and tildes")
+    void normalize_SpanishText_RemovesDiacritics() {
+        assertThat(SearchTextUtils.normalize("Programación")).isEqualTo("programacion");
+        assertThat(SearchTextUtils.normalize("LINGÜÍSTICA")).isEqualTo("linguistica");
+        assertThat(SearchTextUtils.normalize("Diseño Ágil")).isEqualTo("diseno agil");
+    }
+
+    @Test
+    @DisplayName("Should trim and collapse whitespace")
+    void normalize_Whitespace_Collapsed() {
+        assertThat(SearchTextUtils.normalize("  Bases   de\tDatos ")).isEqualTo("bases de datos");
+        assertThat(SearchTextUtils.normalize(null)).isEmpty();
+    }
+}